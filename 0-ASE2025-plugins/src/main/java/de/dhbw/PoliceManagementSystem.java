@@ -2,39 +2,66 @@ package de.dhbw;
 
 import de.dhbw.cli.CliRunner;
 import de.dhbw.repositories.*;
+import de.dhbw.repositories.binary.BinaryRepositoryFactory;
+import de.dhbw.repositories.concurrent.*;
 import de.dhbw.repositories.json.*;
 
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
 /**
  * Main application entry point for the Police Management System.
- * Uses JSON repositories for persistent storage.
+ * Uses JSON repositories for persistent storage, or the binary repositories with {@code -Dpms.backend=BINARY}.
+ * With {@code -Dpms.concurrent=true} the repositories can be shared by several threads.
  */
 public class PoliceManagementSystem {
 
     public static void main(String[] args) {
-        System.out.println("Initializing Police Management System with JSON persistence...");
+        StorageBackend backend = PersistenceSettings.getStorageBackend();
+        System.out.println("Initializing Police Management System with " + backend + " persistence...");
 
         try {
             // Ensure data directory exists first
             DataDirectoryManager.ensureDataDirectoryExists();
             System.out.println("Data will be stored in the '" + DataDirectoryManager.getDataDirectory() + "' directory.");
 
-            // Create empty JSON files if they don't exist
-            ensureValidJsonFilesExist();
-
-            // Create the JSON repository factory - this will also initialize the repository registry
-            JsonRepositoryFactory repositoryFactory = new JsonRepositoryFactory();
+            RoomRepository roomRepository;
+            OfficerRepository officerRepository;
+            DetaineeRepository detaineeRepository;
+            InterrogationRepository interrogationRepository;
+            MeetingRepository meetingRepository;
+
+            if (backend == StorageBackend.BINARY) {
+                BinaryRepositoryFactory repositoryFactory = new BinaryRepositoryFactory();
+                roomRepository = repositoryFactory.getRoomRepository();
+                officerRepository = repositoryFactory.getOfficerRepository();
+                detaineeRepository = repositoryFactory.getDetaineeRepository();
+                interrogationRepository = repositoryFactory.getInterrogationRepository();
+                meetingRepository = repositoryFactory.getMeetingRepository();
+            } else {
+                // Create empty JSON files if they don't exist
+                ensureValidJsonFilesExist();
+
+                // Create the JSON repository factory - this will also initialize the repository registry
+                JsonRepositoryFactory repositoryFactory = new JsonRepositoryFactory();
+
+                // Now get all repositories
+                roomRepository = repositoryFactory.getRoomRepository();
+                officerRepository = repositoryFactory.getOfficerRepository();
+                detaineeRepository = repositoryFactory.getDetaineeRepository();
+                interrogationRepository = repositoryFactory.getInterrogationRepository();
+                meetingRepository = repositoryFactory.getMeetingRepository();
+            }
 
-            // Now get all repositories
-            RoomRepository roomRepository = repositoryFactory.getRoomRepository();
-            OfficerRepository officerRepository = repositoryFactory.getOfficerRepository();
-            DetaineeRepository detaineeRepository = repositoryFactory.getDetaineeRepository();
-            InterrogationRepository interrogationRepository = repositoryFactory.getInterrogationRepository();
-            MeetingRepository meetingRepository = repositoryFactory.getMeetingRepository();
+            if (PersistenceSettings.isConcurrentAccessEnabled()) {
+                roomRepository = new ConcurrentRoomRepository(roomRepository);
+                officerRepository = new ConcurrentOfficerRepository(officerRepository);
+                detaineeRepository = new ConcurrentDetaineeRepository(detaineeRepository);
+                interrogationRepository = new ConcurrentInterrogationRepository(interrogationRepository);
+                meetingRepository = new ConcurrentMeetingRepository(meetingRepository);
+                System.out.println("Repositories are guarded for concurrent access.");
+            }
 
             System.out.println("All repositories initialized successfully.");
 
@@ -57,7 +84,9 @@ public class PoliceManagementSystem {
     }
 
     /**
-     * Ensures that all required JSON files exist and contain valid JSON.
+     * Ensures that all required JSON files exist.
+     * The files are not read here; each repository verifies the checksum of its file while parsing
+     * it and moves a file that is not a valid JSON array aside, so its content can still be recovered.
      */
     private static void ensureValidJsonFilesExist() {
         try {
@@ -67,36 +96,11 @@ public class PoliceManagementSystem {
             for (String entityName : entityNames) {
                 Path filePath = Paths.get(dataDir, entityName + ".json");
 
-                // Check if file exists
-                if (!Files.exists(filePath)) {
-                    // Create parent directories if needed
-                    Files.createDirectories(filePath.getParent());
-
-                    // Create empty array file
-                    Files.writeString(filePath, "[]");
-                    System.out.println("Created empty JSON file: " + filePath);
-                } else {
-                    // File exists, check if it's valid JSON
-                    String content = Files.readString(filePath);
-                    content = content.trim();
-
-                    if (content.isEmpty() || content.equals("null")) {
-                        // If file is empty or just contains "null", write an empty array
-                        Files.writeString(filePath, "[]");
-                        System.out.println("Replaced invalid content with empty array in: " + filePath);
-                    } else if (!content.startsWith("[") || !content.endsWith("]")) {
-                        // Not a valid JSON array, replace with empty array
-                        System.out.println("Warning: Invalid JSON in " + filePath + ", replacing with empty array");
-                        Files.writeString(filePath, "[]");
-                    }
-
-                    // Try to validate JSON by parsing it
-                    try {
-                        com.fasterxml.jackson.databind.ObjectMapper mapper = new com.fasterxml.jackson.databind.ObjectMapper();
-                        mapper.readTree(filePath.toFile());
-                    } catch (Exception e) {
-                        System.out.println("Warning: Invalid JSON in " + filePath + ", replacing with empty array");
-                        Files.writeString(filePath, "[]");
+                switch (SnapshotFiles.prepare(filePath)) {
+                    case CREATED -> System.out.println("Created empty JSON file: " + filePath);
+                    case COMPLETED -> System.out.println("Completed interrupted write of: " + filePath);
+                    case PRESENT -> {
+                        // Verified while loading
                     }
                 }
             }
@@ -105,4 +109,4 @@ public class PoliceManagementSystem {
             e.printStackTrace();
         }
     }
-}
\ No newline at end of file
+}
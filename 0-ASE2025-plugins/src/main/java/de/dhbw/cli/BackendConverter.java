@@ -0,0 +1,105 @@
+package de.dhbw.cli;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import de.dhbw.repositories.*;
+import de.dhbw.repositories.binary.*;
+import de.dhbw.repositories.json.DataDirectoryManager;
+import de.dhbw.repositories.json.JsonCodecs;
+import de.dhbw.repositories.json.JsonRepositoryFactory;
+import de.dhbw.repositories.json.ReferenceRepositories;
+import de.dhbw.repositories.json.SnapshotFiles;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+
+/**
+ * Utility class to convert the data directory between the JSON and the binary storage backend.
+ * The source files are left untouched; the target files are replaced.
+ */
+public class BackendConverter {
+
+    /**
+     * Main method to run the converter
+     * @param args {@code json-to-binary} or {@code binary-to-json}
+     */
+    public static void main(String[] args) {
+        if (args.length != 1) {
+            System.out.println("Usage: BackendConverter json-to-binary|binary-to-json");
+            return;
+        }
+
+        try {
+            DataDirectoryManager.ensureDataDirectoryExists();
+
+            switch (args[0]) {
+                case "json-to-binary" -> convertJsonToBinary();
+                case "binary-to-json" -> convertBinaryToJson();
+                default -> {
+                    System.out.println("Unknown direction: " + args[0]);
+                    return;
+                }
+            }
+
+            System.out.println("Conversion completed successfully!");
+        } catch (Exception e) {
+            System.err.println("Error during conversion: " + e.getMessage());
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * Loads all JSON repositories and writes their content as binary files
+     */
+    private static void convertJsonToBinary() {
+        JsonRepositoryFactory json = new JsonRepositoryFactory();
+        OfficerRepository officers = json.getOfficerRepository();
+        DetaineeRepository detainees = json.getDetaineeRepository();
+        RoomRepository rooms = json.getRoomRepository();
+
+        writeBinary("rooms", new RoomCodec(), rooms.findAll());
+        writeBinary("officers", new OfficerCodec(), officers.findAll());
+        writeBinary("detainees", new DetaineeCodec(), detainees.findAll());
+        writeBinary("interrogations", new InterrogationCodec(officers, detainees, rooms),
+                json.getInterrogationRepository().findAll());
+        writeBinary("meetings", new MeetingCodec(officers, rooms), json.getMeetingRepository().findAll());
+    }
+
+    /**
+     * Loads all binary repositories and writes their content as JSON files
+     * @throws IOException If a JSON file cannot be written
+     */
+    private static void convertBinaryToJson() throws IOException {
+        BinaryRepositoryFactory binary = new BinaryRepositoryFactory();
+
+        // References are checked against the binary repositories, the JSON registry is not set up here
+        ObjectWriter writer = JsonCodecs.snapshotWriter().withAttribute(ReferenceRepositories.class,
+                new ReferenceRepositories(binary.getOfficerRepository(), binary.getDetaineeRepository(),
+                        binary.getRoomRepository()));
+
+        writeJson(writer, "rooms", binary.getRoomRepository().findAll());
+        writeJson(writer, "officers", binary.getOfficerRepository().findAll());
+        writeJson(writer, "detainees", binary.getDetaineeRepository().findAll());
+        writeJson(writer, "interrogations", binary.getInterrogationRepository().findAll());
+        writeJson(writer, "meetings", binary.getMeetingRepository().findAll());
+    }
+
+    private static <T> void writeBinary(String entityName, BinaryCodec<T> codec, List<T> entities) {
+        new BinarySnapshotFile<>(entityName, codec).save(entities);
+        System.out.println("Wrote " + entities.size() + " " + entityName + " to " + entityName + ".bin");
+    }
+
+    /**
+     * Writes a JSON snapshot and removes journals that would otherwise be replayed over it
+     */
+    private static void writeJson(ObjectWriter writer, String entityName, List<?> entities) throws IOException {
+        String dataDir = DataDirectoryManager.getDataDirectory();
+        Path path = Paths.get(dataDir, entityName + ".json");
+        SnapshotFiles.writeAtomically(path, out -> writer.writeValue(out, entities));
+        Files.deleteIfExists(Paths.get(dataDir, entityName + ".journal"));
+        Files.deleteIfExists(Paths.get(dataDir, entityName + ".journal.compacting"));
+        System.out.println("Wrote " + entities.size() + " " + entityName + " to " + entityName + ".json");
+    }
+}
@@ -2,9 +2,11 @@ package de.dhbw.cli;
 
 import de.dhbw.commands.*;
 import de.dhbw.commands.ChangeRankCommand;
+import de.dhbw.commands.detaineecommands.BulkRegisterDetaineesCommand;
 import de.dhbw.commands.detaineecommands.ListDetaineesCommand;
 import de.dhbw.commands.detaineecommands.RegisterDetaineeCommand;
 import de.dhbw.commands.detaineecommands.ReleaseDetaineeCommand;
+import de.dhbw.commands.officercommands.BulkRegisterOfficersCommand;
 import de.dhbw.commands.officercommands.ListOfficersCommand;
 import de.dhbw.commands.officercommands.RegisterOfficerCommand;
 import de.dhbw.commands.roomcommands.BookRoomCommand;
@@ -47,10 +49,13 @@ public class CliRunner {
     private final ChangeRankUseCase changeRankUseCase;
     private final GetAllDetaineesUseCase getAllDetaineesUseCase;
     private final RegisterDetaineeUseCase registerDetaineeUseCase;
+    private final BulkRegisterDetaineesUseCase bulkRegisterDetaineesUseCase;
     private final ReleaseDetaineeUseCase releaseDetaineeUseCase;
     private final InterrogateDetaineeUseCase interrogateDetaineeUseCase;
     private final ScheduleMeetingUseCase scheduleMeetingUseCase;
     private final GetOfficerInterrogationsUseCase getOfficerInterrogationsUseCase;
+    private final FindInterrogationsUseCase findInterrogationsUseCase;
+    private final SuggestSlotUseCase suggestSlotUseCase;
 
     /**
      * Creates a new CLI runner with all necessary dependencies.
@@ -87,6 +92,10 @@ public class CliRunner {
         this.meetingService = new MeetingService(
                 roomRepository, officerRepository, meetingRepository);
 
+        // Rebuild the room calendars of sessions stored before calendars were persisted
+        interrogationService.restoreRoomReservations();
+        meetingService.restoreRoomReservations();
+
         // Set up use cases
         this.createRoomUseCase = new CreateRoomUseCase(roomManagementService);
         this.bookRoomUseCase = new BookRoomUseCase(roomManagementService);
@@ -95,12 +104,15 @@ public class CliRunner {
         this.changeRankUseCase = new ChangeRankUseCase(officerService);
         this.getAllDetaineesUseCase = new GetAllDetaineesUseCase(detaineeService);
         this.registerDetaineeUseCase = new RegisterDetaineeUseCase(detaineeService);
+        this.bulkRegisterDetaineesUseCase = new BulkRegisterDetaineesUseCase(detaineeService);
         this.releaseDetaineeUseCase = new ReleaseDetaineeUseCase(detaineeService);
         this.interrogateDetaineeUseCase = new InterrogateDetaineeUseCase(
                 interrogationService, detaineeService);
         this.scheduleMeetingUseCase = new ScheduleMeetingUseCase(meetingService);
         this.getOfficerInterrogationsUseCase = new GetOfficerInterrogationsUseCase(
                 interrogationRepository, officerRepository);
+        this.findInterrogationsUseCase = new FindInterrogationsUseCase(interrogationRepository);
+        this.suggestSlotUseCase = new SuggestSlotUseCase(interrogationService, detaineeService);
 
         // Register commands
         registerCommands();
@@ -119,32 +131,40 @@ public class CliRunner {
 
         // Officer management commands
         Command registerOfficerCommand = new RegisterOfficerCommand(officerService);
+        Command bulkRegisterOfficersCommand = new BulkRegisterOfficersCommand(officerService);
         Command changeRankCommand = new ChangeRankCommand(changeRankUseCase);
         Command listOfficersCommand = new ListOfficersCommand(officerRepository);
         Command listOfficerInterrogationsCommand = new ListOfficerInterrogationsCommand(getOfficerInterrogationsUseCase);
 
         // Detainee management commands
         Command registerDetaineeCommand = new RegisterDetaineeCommand(registerDetaineeUseCase);
+        Command bulkRegisterDetaineesCommand = new BulkRegisterDetaineesCommand(bulkRegisterDetaineesUseCase);
         Command listDetaineesCommand = new ListDetaineesCommand(getAllDetaineesUseCase);
         Command releaseDetaineeCommand = new ReleaseDetaineeCommand(releaseDetaineeUseCase);
 
         // Activity management commands
         Command scheduleInterrogationCommand = new ScheduleInterrogationCommand(interrogateDetaineeUseCase);
         Command scheduleMeetingCommand = new ScheduleMeetingCommand(scheduleMeetingUseCase);
+        Command suggestSlotCommand = new SuggestSlotCommand(suggestSlotUseCase);
+        Command explainCommand = new ExplainCommand(findInterrogationsUseCase);
 
         // Add all commands to the list
         commands.add(createRoomCommand);
         commands.add(bookRoomCommand);
         commands.add(listRoomsCommand);
         commands.add(registerOfficerCommand);
+        commands.add(bulkRegisterOfficersCommand);
         commands.add(changeRankCommand);
         commands.add(listOfficersCommand);
         commands.add(listOfficerInterrogationsCommand);
         commands.add(registerDetaineeCommand);
+        commands.add(bulkRegisterDetaineesCommand);
         commands.add(listDetaineesCommand);
         commands.add(releaseDetaineeCommand);
         commands.add(scheduleInterrogationCommand);
         commands.add(scheduleMeetingCommand);
+        commands.add(suggestSlotCommand);
+        commands.add(explainCommand);
 
         // Register each command with the handler
         for (Command command : commands) {
@@ -0,0 +1,163 @@
+package de.dhbw.cli;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.inmemory.InMemoryDetaineeRepository;
+import de.dhbw.repositories.inmemory.InMemoryOfficerRepository;
+import de.dhbw.repositories.inmemory.InMemoryRoomRepository;
+import de.dhbw.repositories.json.JsonDomainModule;
+import de.dhbw.repositories.json.deserializers.InterrogationDeserializer;
+import de.dhbw.repositories.json.serializers.InterrogationSerializer;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Compares the token-streaming interrogation deserializer with the former approach that
+ * buffered every record as a tree and restored the id through reflection.
+ * Both variants read the same generated snapshot; the repositories are held in memory so
+ * only deserialization is measured.
+ */
+public class DeserializationBenchmark {
+    private static final int DEFAULT_RECORDS = 100_000;
+    private static final int DEFAULT_ROUNDS = 5;
+    private static final int WARMUP_ROUNDS = 3;
+
+    /**
+     * Main method to run the benchmark
+     * @param args Optional number of records and number of measured rounds
+     */
+    public static void main(String[] args) throws IOException {
+        int records = args.length > 0 ? Integer.parseInt(args[0]) : DEFAULT_RECORDS;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ROUNDS;
+
+        InMemoryOfficerRepository officers = new InMemoryOfficerRepository();
+        InMemoryDetaineeRepository detainees = new InMemoryDetaineeRepository();
+        InMemoryRoomRepository rooms = new InMemoryRoomRepository();
+        byte[] snapshot = createSnapshot(records, officers, detainees, rooms);
+        System.out.printf("Snapshot: %d interrogations, %.1f MB%n", records, snapshot.length / (1024.0 * 1024.0));
+
+        ObjectReader streaming = createReader(new InterrogationDeserializer(officers, detainees, rooms));
+        ObjectReader legacy = createReader(new TreeInterrogationDeserializer(officers, detainees, rooms));
+
+        // Warm up both variants before measuring
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            read(streaming, snapshot);
+            read(legacy, snapshot);
+        }
+
+        for (int round = 1; round <= rounds; round++) {
+            long legacyNanos = time(legacy, snapshot);
+            long streamingNanos = time(streaming, snapshot);
+            System.out.printf("Round %d: tree+reflection %d ms, streaming %d ms (%.2fx)%n", round,
+                    legacyNanos / 1_000_000, streamingNanos / 1_000_000, (double) legacyNanos / streamingNanos);
+        }
+    }
+
+    /**
+     * Generates interrogations in the id-reference format written by the JSON repository
+     */
+    private static byte[] createSnapshot(int records, InMemoryOfficerRepository officers,
+                                         InMemoryDetaineeRepository detainees, InMemoryRoomRepository rooms)
+            throws IOException {
+        List<Officer> officerList = new ArrayList<>();
+        List<Room> roomList = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            Officer officer = new Officer("Officer " + i, new Rank("Detective", 1 + i % 5));
+            officers.save(officer);
+            officerList.add(officer);
+            Room room = new Room(RoomType.INTERROGATION);
+            rooms.save(room);
+            roomList.add(room);
+        }
+
+        LocalDateTime start = LocalDateTime.of(2025, 1, 1, 8, 0);
+        List<Interrogation> interrogations = new ArrayList<>(records);
+        for (int i = 0; i < records; i++) {
+            Detainee detainee = new Detainee("Detainee " + i, "Theft");
+            detainees.save(detainee);
+            interrogations.add(new Interrogation(officerList.get(i % officerList.size()), detainee,
+                    roomList.get(i % roomList.size()), start.plusMinutes(15L * i)));
+        }
+
+        ObjectMapper mapper = new ObjectMapper();
+        JsonDomainModule.configureObjectMapper(mapper);
+        SimpleModule module = new SimpleModule();
+        module.addSerializer(Interrogation.class, new InterrogationSerializer(officers, rooms));
+        mapper.registerModule(module);
+        return mapper.writeValueAsBytes(interrogations);
+    }
+
+    private static ObjectReader createReader(StdDeserializer<Interrogation> deserializer) {
+        ObjectMapper mapper = new ObjectMapper();
+        JsonDomainModule.configureObjectMapper(mapper);
+        SimpleModule module = new SimpleModule();
+        module.addDeserializer(Interrogation.class, deserializer);
+        mapper.registerModule(module);
+        return mapper.readerForListOf(Interrogation.class);
+    }
+
+    private static long time(ObjectReader reader, byte[] snapshot) throws IOException {
+        long start = System.nanoTime();
+        read(reader, snapshot);
+        return System.nanoTime() - start;
+    }
+
+    private static int read(ObjectReader reader, byte[] snapshot) throws IOException {
+        List<Interrogation> interrogations = reader.readValue(snapshot);
+        return interrogations.size();
+    }
+
+    /**
+     * The former deserializer: buffers the record as a tree, constructs a new interrogation
+     * and overwrites its id through reflection.
+     */
+    private static class TreeInterrogationDeserializer extends StdDeserializer<Interrogation> {
+        private final InMemoryOfficerRepository officers;
+        private final InMemoryDetaineeRepository detainees;
+        private final InMemoryRoomRepository rooms;
+
+        TreeInterrogationDeserializer(InMemoryOfficerRepository officers, InMemoryDetaineeRepository detainees,
+                                      InMemoryRoomRepository rooms) {
+            super(Interrogation.class);
+            this.officers = officers;
+            this.detainees = detainees;
+            this.rooms = rooms;
+        }
+
+        @Override
+        public Interrogation deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
+            JsonNode node = jp.getCodec().readTree(jp);
+            try {
+                UUID id = UUID.fromString(node.get("id").asText());
+                Officer officer = officers.findById(UUID.fromString(node.get("officerId").asText())).orElseThrow();
+                Detainee detainee = detainees.findById(UUID.fromString(node.get("detaineeId").asText())).orElseThrow();
+                Room room = rooms.findById(UUID.fromString(node.get("roomId").asText())).orElseThrow();
+                LocalDateTime scheduledAt = LocalDateTime.parse(node.get("scheduledAt").asText());
+
+                Interrogation interrogation = new Interrogation(officer, detainee, room, scheduledAt);
+                Field idField = Interrogation.class.getDeclaredField("id");
+                idField.setAccessible(true);
+                idField.set(interrogation, id);
+                return interrogation;
+            } catch (ReflectiveOperationException e) {
+                throw new IOException("Could not restore the interrogation id", e);
+            }
+        }
+    }
+}
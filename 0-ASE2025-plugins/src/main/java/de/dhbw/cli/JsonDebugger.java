@@ -3,6 +3,7 @@ package de.dhbw.cli;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Officer;
+import de.dhbw.repositories.json.DataDirectoryManager;
 import de.dhbw.repositories.json.deserializers.OfficerDeserializer;
 import de.dhbw.repositories.json.serializers.OfficerSerializer;
 import de.dhbw.valueobjects.Rank;
@@ -26,7 +27,7 @@ public class JsonDebugger {
     public static void main(String[] args) {
         try {
             // Create a data directory if it doesn't exist
-            File dataDir = new File("data");
+            File dataDir = new File(DataDirectoryManager.getDataDirectory());
             if (!dataDir.exists()) {
                 dataDir.mkdirs();
             }
@@ -1,6 +1,7 @@
 package de.dhbw.cli;
 
 import de.dhbw.aggregates.Officer;
+import de.dhbw.repositories.json.DataDirectoryManager;
 import de.dhbw.valueobjects.Rank;
 
 import java.io.File;
@@ -28,7 +29,7 @@ public class JsonReset {
 
         try {
             // Ensure data directory exists
-            File dataDir = new File("data");
+            File dataDir = new File(DataDirectoryManager.getDataDirectory());
             if (!dataDir.exists()) {
                 dataDir.mkdirs();
                 System.out.println("Created data directory");
@@ -76,8 +77,9 @@ public class JsonReset {
                 "  }\n" +
                 "]";
 
-        Path path = Paths.get("data", "officers.json");
+        Path path = Paths.get(DataDirectoryManager.getDataDirectory(), "officers.json");
         Files.writeString(path, jsonContent);
+        deleteJournals("officers");
         System.out.println("Reset officers.json with sample data");
     }
 
@@ -87,8 +89,19 @@ public class JsonReset {
      * @throws IOException If there's an error writing to the file
      */
     private static void resetEmptyJsonFile(String entityName) throws IOException {
-        Path path = Paths.get("data", entityName + ".json");
+        Path path = Paths.get(DataDirectoryManager.getDataDirectory(), entityName + ".json");
         Files.writeString(path, "[]");
+        deleteJournals(entityName);
         System.out.println("Reset " + entityName + ".json with empty array");
     }
+
+    /**
+     * Deletes pending journals of an entity so they are not replayed over the reset file
+     * @param entityName The name of the entity
+     * @throws IOException If there's an error deleting a journal
+     */
+    private static void deleteJournals(String entityName) throws IOException {
+        Files.deleteIfExists(Paths.get(DataDirectoryManager.getDataDirectory(), entityName + ".journal"));
+        Files.deleteIfExists(Paths.get(DataDirectoryManager.getDataDirectory(), entityName + ".journal.compacting"));
+    }
 }
\ No newline at end of file
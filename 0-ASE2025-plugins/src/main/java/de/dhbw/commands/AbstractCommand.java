@@ -1,9 +1,16 @@
 package de.dhbw.commands;
 
+import de.dhbw.valueobjects.PageRequest;
+
+import java.time.Duration;
+import java.util.Optional;
+
 /**
  * Abstract base class for all commands that implements common behavior.
  */
 public abstract class AbstractCommand implements Command {
+    private static final int DEFAULT_PAGE_LIMIT = 20;
+
     private final String name;
     private final String description;
     private final String usage;
@@ -62,4 +69,75 @@ public abstract class AbstractCommand implements Command {
     protected void displayInfo(String message) {
         System.out.println(message);
     }
-}
\ No newline at end of file
+
+    /**
+     * Parses the {@code --page} and {@code --limit} options of a listing command.
+     * A missing page defaults to the first one, a missing limit to {@value #DEFAULT_PAGE_LIMIT} entries.
+     *
+     * @param args The command arguments
+     * @return The requested page, or empty if neither option is given
+     * @throws IllegalArgumentException If an option is unknown, lacks its value or is not a positive number
+     */
+    protected Optional<PageRequest> parsePageRequest(String[] args) {
+        if (args.length == 0) {
+            return Optional.empty();
+        }
+
+        int page = 1;
+        int limit = DEFAULT_PAGE_LIMIT;
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            if (!"--page".equals(option) && !"--limit".equals(option)) {
+                throw new IllegalArgumentException("Unknown option '" + option + "'. Usage: " + getUsage());
+            }
+            if (i + 1 >= args.length) {
+                throw new IllegalArgumentException("Missing value for " + option);
+            }
+
+            try {
+                int value = Integer.parseInt(args[i + 1]);
+                if ("--page".equals(option)) {
+                    page = value;
+                } else {
+                    limit = value;
+                }
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Value of " + option + " must be a number");
+            }
+        }
+        return Optional.of(new PageRequest(page, limit));
+    }
+
+    /**
+     * Parses a duration given in minutes, e.g. the length of a session.
+     *
+     * @param minutes The argument
+     * @return The duration
+     * @throws IllegalArgumentException If the argument is not a positive number
+     */
+    protected Duration parseMinutes(String minutes) {
+        try {
+            long value = Long.parseLong(minutes);
+            if (value > 0) {
+                return Duration.ofMinutes(value);
+            }
+        } catch (NumberFormatException e) {
+            // Reported below
+        }
+        throw new IllegalArgumentException("Duration must be a positive number of minutes");
+    }
+
+    /**
+     * Displays a hint on how to show the next page if the current page was full.
+     *
+     * @param page The displayed page
+     * @param shown The number of entries on the displayed page
+     */
+    protected void displayNextPageHint(PageRequest page, int shown) {
+        if (shown == page.getLimit()) {
+            PageRequest next = page.next();
+            displayInfo(String.format("More entries may follow: %s --page %d --limit %d",
+                    getName(), next.getPage(), next.getLimit()));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package de.dhbw.commands;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads the comma-separated files used by the bulk commands.
+ * Blank lines and lines starting with {@code #} are skipped. Fields may be enclosed in double quotes
+ * to contain commas; a quote inside a quoted field is written twice.
+ */
+public class CsvFile {
+
+    private CsvFile() {
+        // Utility class
+    }
+
+    /**
+     * Reads all records of a file.
+     *
+     * @param path The path of the file
+     * @param columns The number of fields every record must have
+     * @return The records, each with trimmed fields
+     * @throws IllegalArgumentException If the file cannot be read or a record is malformed
+     */
+    public static List<String[]> read(String path, int columns) {
+        Path file = Paths.get(path);
+        List<String[]> records = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                if (line.isBlank() || line.startsWith("#")) {
+                    continue;
+                }
+
+                String[] fields = parseLine(line, lineNumber);
+                if (fields.length != columns) {
+                    throw new IllegalArgumentException(String.format("Line %d: expected %d fields but found %d",
+                            lineNumber, columns, fields.length));
+                }
+                records.add(fields);
+            }
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Could not read file " + path + ": " + e.getMessage());
+        }
+        return records;
+    }
+
+    private static String[] parseLine(String line, int lineNumber) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean wasQuoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c != '"') {
+                    field.append(c);
+                } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else {
+                    quoted = false;
+                }
+            } else if (c == '"' && field.toString().isBlank()) {
+                field.setLength(0);
+                quoted = true;
+                wasQuoted = true;
+            } else if (wasQuoted && c != ',') {
+                // Only whitespace may follow the closing quote
+                if (!Character.isWhitespace(c)) {
+                    throw new IllegalArgumentException("Line " + lineNumber + ": unexpected text after quoted field");
+                }
+            } else if (c == ',') {
+                fields.add(wasQuoted ? field.toString() : field.toString().trim());
+                field.setLength(0);
+                wasQuoted = false;
+            } else {
+                field.append(c);
+            }
+        }
+
+        if (quoted) {
+            throw new IllegalArgumentException("Line " + lineNumber + ": unterminated quote");
+        }
+        fields.add(wasQuoted ? field.toString() : field.toString().trim());
+        return fields.toArray(new String[0]);
+    }
+}
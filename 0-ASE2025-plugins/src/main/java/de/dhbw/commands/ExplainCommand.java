@@ -0,0 +1,88 @@
+package de.dhbw.commands;
+
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.usecases.FindInterrogationsUseCase;
+import de.dhbw.valueobjects.InterrogationCriteria;
+import de.dhbw.valueobjects.RoomType;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command to show how an interrogation query is evaluated and how many interrogations it finds.
+ */
+public class ExplainCommand extends AbstractCommand {
+    private final FindInterrogationsUseCase findInterrogationsUseCase;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public ExplainCommand(FindInterrogationsUseCase findInterrogationsUseCase) {
+        super(
+                "explain",
+                "Shows the query plan for finding interrogations by criteria",
+                "explain [--officer <id>] [--detainee <id>] [--room <id>] [--room-type <type>]\n" +
+                        "        [--from <date-time>] [--to <date-time>] [--crime <crime>]\n" +
+                        "  Example: explain --officer 550e8400-e29b-41d4-a716-446655440000 --from \"2023-12-15 00:00\" --crime Theft"
+        );
+        this.findInterrogationsUseCase = findInterrogationsUseCase;
+    }
+
+    @Override
+    public boolean execute(String[] args) {
+        if (args.length % 2 != 0) {
+            displayError("Invalid arguments. Usage: " + getUsage());
+            return false;
+        }
+
+        try {
+            InterrogationCriteria criteria = parseCriteria(args);
+
+            displayInfo("Query: " + criteria);
+            displayInfo("Plan:");
+            for (String step : findInterrogationsUseCase.explain(criteria).split("\\R")) {
+                displayInfo("  " + step);
+            }
+
+            List<Interrogation> interrogations = findInterrogationsUseCase.execute(criteria);
+            displayInfo(String.format("Matching interrogations: %d", interrogations.size()));
+            return true;
+        } catch (DateTimeParseException e) {
+            displayError("Invalid date-time format. Use format: yyyy-MM-dd HH:mm (e.g., 2023-12-15 14:30)");
+            return false;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
+        } catch (Exception e) {
+            displayError("Failed to explain query: " + e.getMessage());
+            return false;
+        }
+    }
+
+    private InterrogationCriteria parseCriteria(String[] args) {
+        InterrogationCriteria criteria = InterrogationCriteria.any();
+        for (int i = 0; i < args.length; i += 2) {
+            String option = args[i];
+            String value = args[i + 1];
+            if ("--officer".equals(option)) {
+                criteria = criteria.withOfficer(UUID.fromString(value));
+            } else if ("--detainee".equals(option)) {
+                criteria = criteria.withDetainee(UUID.fromString(value));
+            } else if ("--room".equals(option)) {
+                criteria = criteria.withRoom(UUID.fromString(value));
+            } else if ("--room-type".equals(option)) {
+                criteria = criteria.withRoomType(RoomType.valueOf(value.toUpperCase()));
+            } else if ("--from".equals(option)) {
+                criteria = criteria.scheduledFrom(LocalDateTime.parse(value, FORMATTER));
+            } else if ("--to".equals(option)) {
+                criteria = criteria.scheduledBefore(LocalDateTime.parse(value, FORMATTER));
+            } else if ("--crime".equals(option)) {
+                criteria = criteria.withCrime(value);
+            } else {
+                throw new IllegalArgumentException("Unknown option '" + option + "'. Usage: " + getUsage());
+            }
+        }
+        return criteria;
+    }
+}
@@ -3,6 +3,7 @@ package de.dhbw.commands;
 import de.dhbw.aggregates.Interrogation;
 import de.dhbw.usecases.InterrogateDetaineeUseCase;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -19,7 +20,8 @@ public class ScheduleInterrogationCommand extends AbstractCommand {
         super(
                 "schedule-interrogation",
                 "Schedules an interrogation with a detainee",
-                "schedule-interrogation <officer-id> <detainee-id> <date-time>\n" +
+                "schedule-interrogation <officer-id> <detainee-id> <date-time> [duration-minutes]\n" +
+                        "  The duration defaults to 60 minutes.\n" +
                         "  Example: schedule-interrogation 550e8400-e29b-41d4-a716-446655440000 662e8400-e29b-41d4-a716-446655440000 \"2023-12-15 14:30\""
         );
         this.interrogateDetaineeUseCase = interrogateDetaineeUseCase;
@@ -27,7 +29,7 @@ public class ScheduleInterrogationCommand extends AbstractCommand {
 
     @Override
     public boolean execute(String[] args) {
-        if (args.length != 3) {
+        if (args.length != 3 && args.length != 4) {
             displayError("Invalid arguments. Usage: " + getUsage());
             return false;
         }
@@ -37,7 +39,9 @@ public class ScheduleInterrogationCommand extends AbstractCommand {
             UUID detaineeId = UUID.fromString(args[1]);
             LocalDateTime scheduledTime = LocalDateTime.parse(args[2], FORMATTER);
 
-            Interrogation interrogation = interrogateDetaineeUseCase.execute(officerId, detaineeId, scheduledTime);
+            Duration duration = args.length == 4 ? parseMinutes(args[3]) : Interrogation.DEFAULT_DURATION;
+
+            Interrogation interrogation = interrogateDetaineeUseCase.execute(officerId, detaineeId, scheduledTime, duration);
 
             displaySuccess("Interrogation scheduled successfully");
             displayInfo(String.format("Interrogation ID: %s", interrogation.getId()));
@@ -45,6 +49,7 @@ public class ScheduleInterrogationCommand extends AbstractCommand {
             displayInfo(String.format("Detainee: %s", interrogation.getDetainee().getName()));
             displayInfo(String.format("Room: %s", interrogation.getRoom().getId()));
             displayInfo(String.format("Scheduled at: %s", interrogation.getScheduledAt().format(FORMATTER)));
+            displayInfo(String.format("Until: %s", interrogation.getEndsAt().format(FORMATTER)));
 
             return true;
         } catch (DateTimeParseException e) {
@@ -3,6 +3,7 @@ package de.dhbw.commands;
 import de.dhbw.aggregates.Meeting;
 import de.dhbw.usecases.ScheduleMeetingUseCase;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.time.format.DateTimeParseException;
@@ -19,7 +20,8 @@ public class ScheduleMeetingCommand extends AbstractCommand {
         super(
                 "schedule-meeting",
                 "Schedules a meeting with an informant",
-                "schedule-meeting <officer-id> <informant-name> <date-time>\n" +
+                "schedule-meeting <officer-id> <informant-name> <date-time> [duration-minutes]\n" +
+                        "  The duration defaults to 60 minutes.\n" +
                         "  Example: schedule-meeting 550e8400-e29b-41d4-a716-446655440000 \"John Smith\" \"2023-12-15 14:30\""
         );
         this.scheduleMeetingUseCase = scheduleMeetingUseCase;
@@ -27,7 +29,7 @@ public class ScheduleMeetingCommand extends AbstractCommand {
 
     @Override
     public boolean execute(String[] args) {
-        if (args.length != 3) {
+        if (args.length != 3 && args.length != 4) {
             displayError("Invalid arguments. Usage: " + getUsage());
             return false;
         }
@@ -37,7 +39,9 @@ public class ScheduleMeetingCommand extends AbstractCommand {
             String informantName = args[1];
             LocalDateTime scheduledTime = LocalDateTime.parse(args[2], FORMATTER);
 
-            Meeting meeting = scheduleMeetingUseCase.execute(officerId, informantName, scheduledTime);
+            Duration duration = args.length == 4 ? parseMinutes(args[3]) : Meeting.DEFAULT_DURATION;
+
+            Meeting meeting = scheduleMeetingUseCase.execute(officerId, informantName, scheduledTime, duration);
 
             displaySuccess("Meeting scheduled successfully");
             displayInfo(String.format("Meeting ID: %s", meeting.getId()));
@@ -45,6 +49,7 @@ public class ScheduleMeetingCommand extends AbstractCommand {
             displayInfo(String.format("Informant: %s", meeting.getInformantName()));
             displayInfo(String.format("Room: %s", meeting.getRoom().getId()));
             displayInfo(String.format("Scheduled at: %s", meeting.getScheduledAt().format(FORMATTER)));
+            displayInfo(String.format("Until: %s", meeting.getEndsAt().format(FORMATTER)));
 
             return true;
         } catch (DateTimeParseException e) {
@@ -0,0 +1,73 @@
+package de.dhbw.commands;
+
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.usecases.SuggestSlotUseCase;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Command to suggest the earliest times at which an interrogation could be scheduled.
+ */
+public class SuggestSlotCommand extends AbstractCommand {
+    private final SuggestSlotUseCase suggestSlotUseCase;
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm");
+
+    public SuggestSlotCommand(SuggestSlotUseCase suggestSlotUseCase) {
+        super(
+                "suggest-slot",
+                "Suggests the earliest free times for an interrogation",
+                "suggest-slot <officer-id> <detainee-id> <from> <until> [duration-minutes]\n" +
+                        "  The duration defaults to 60 minutes.\n" +
+                        "  Example: suggest-slot 550e8400-e29b-41d4-a716-446655440000 662e8400-e29b-41d4-a716-446655440000 \"2023-12-15 08:00\" \"2023-12-15 18:00\""
+        );
+        this.suggestSlotUseCase = suggestSlotUseCase;
+    }
+
+    @Override
+    public boolean execute(String[] args) {
+        if (args.length != 4 && args.length != 5) {
+            displayError("Invalid arguments. Usage: " + getUsage());
+            return false;
+        }
+
+        try {
+            UUID officerId = UUID.fromString(args[0]);
+            UUID detaineeId = UUID.fromString(args[1]);
+            LocalDateTime from = LocalDateTime.parse(args[2], FORMATTER);
+            LocalDateTime until = LocalDateTime.parse(args[3], FORMATTER);
+
+            Duration duration = args.length == 5 ? parseMinutes(args[4]) : Interrogation.DEFAULT_DURATION;
+
+            List<LocalDateTime> slots = suggestSlotUseCase.execute(officerId, detaineeId, from, until, duration);
+
+            if (slots.isEmpty()) {
+                displayInfo("No free slot found between " + from.format(FORMATTER) + " and " + until.format(FORMATTER));
+                return true;
+            }
+
+            displayInfo("Earliest free slots:");
+            for (LocalDateTime slot : slots) {
+                displayInfo(String.format("  %s - %s", slot.format(FORMATTER), slot.plus(duration).format(FORMATTER)));
+            }
+
+            return true;
+        } catch (DateTimeParseException e) {
+            displayError("Invalid date-time format. Use format: yyyy-MM-dd HH:mm (e.g., 2023-12-15 14:30)");
+            return false;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
+        } catch (IllegalStateException e) {
+            displayError(e.getMessage());
+            return false;
+        } catch (Exception e) {
+            displayError("Failed to suggest slots: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package de.dhbw.commands.detaineecommands;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.commands.AbstractCommand;
+import de.dhbw.commands.CsvFile;
+import de.dhbw.usecases.BulkRegisterDetaineesUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command to register all detainees listed in a CSV file with a single write.
+ */
+public class BulkRegisterDetaineesCommand extends AbstractCommand {
+    private final BulkRegisterDetaineesUseCase bulkRegisterDetaineesUseCase;
+
+    public BulkRegisterDetaineesCommand(BulkRegisterDetaineesUseCase bulkRegisterDetaineesUseCase) {
+        super(
+                "bulk-register-detainees",
+                "Registers all detainees listed in a CSV file",
+                "bulk-register-detainees <csv-file>\n" +
+                        "  Each line holds: <name>,<crime>\n" +
+                        "  Example: bulk-register-detainees detainees.csv"
+        );
+        this.bulkRegisterDetaineesUseCase = bulkRegisterDetaineesUseCase;
+    }
+
+    @Override
+    public boolean execute(String[] args) {
+        if (args.length != 1) {
+            displayError("Invalid arguments. Usage: " + getUsage());
+            return false;
+        }
+
+        try {
+            List<Detainee> detainees = new ArrayList<>();
+            for (String[] fields : CsvFile.read(args[0], 2)) {
+                detainees.add(new Detainee(fields[0], fields[1]));
+            }
+
+            if (detainees.isEmpty()) {
+                displayInfo("No detainees found in " + args[0] + ".");
+                return true;
+            }
+
+            bulkRegisterDetaineesUseCase.execute(detainees);
+            displaySuccess(String.format("Registered %d detainees", detainees.size()));
+            return true;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
+        } catch (Exception e) {
+            displayError("Failed to register detainees: " + e.getMessage());
+            return false;
+        }
+    }
+}
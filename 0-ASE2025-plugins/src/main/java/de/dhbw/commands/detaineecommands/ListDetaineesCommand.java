@@ -3,11 +3,14 @@ package de.dhbw.commands.detaineecommands;
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.commands.AbstractCommand;
 import de.dhbw.usecases.GetAllDetaineesUseCase;
+import de.dhbw.valueobjects.PageRequest;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Command to list all detainees in the system.
+ * Command to list all detainees in the system, optionally one page at a time.
  */
 public class ListDetaineesCommand extends AbstractCommand {
     private final GetAllDetaineesUseCase getAllDetaineesUseCase;
@@ -16,7 +19,8 @@ public class ListDetaineesCommand extends AbstractCommand {
         super(
                 "list-detainees",
                 "Lists all detainees in the system",
-                "list-detainees"
+                "list-detainees [--page <number>] [--limit <count>]\n" +
+                        "  Example: list-detainees --page 2 --limit 20"
         );
         this.getAllDetaineesUseCase = getAllDetaineesUseCase;
     }
@@ -24,9 +28,14 @@ public class ListDetaineesCommand extends AbstractCommand {
     @Override
     public boolean execute(String[] args) {
         try {
-            List<Detainee> detainees = getAllDetaineesUseCase.execute();
+            Optional<PageRequest> page = parsePageRequest(args);
+            if (page.isPresent()) {
+                return listPage(page.get());
+            }
 
-            if (detainees.isEmpty()) {
+            // Print while streaming, so a large table is never copied into a list
+            Iterator<Detainee> detainees = getAllDetaineesUseCase.stream().iterator();
+            if (!detainees.hasNext()) {
                 displayInfo("No detainees found in the system.");
                 return true;
             }
@@ -34,15 +43,43 @@ public class ListDetaineesCommand extends AbstractCommand {
             displayInfo("Detainees in the system:");
             displayInfo("------------------------");
 
-            for (Detainee detainee : detainees) {
-                displayInfo(String.format("ID: %s | Name: %s | Crime: %s",
-                        detainee.getId(), detainee.getName(), detainee.getCrime()));
+            while (detainees.hasNext()) {
+                display(detainees.next());
             }
 
             return true;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
         } catch (Exception e) {
             displayError("Failed to list detainees: " + e.getMessage());
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean listPage(PageRequest page) {
+        List<Detainee> detainees = getAllDetaineesUseCase.execute(page);
+
+        if (detainees.isEmpty()) {
+            displayInfo(page.getPage() == 1
+                    ? "No detainees found in the system."
+                    : "No detainees found on page " + page.getPage() + ".");
+            return true;
+        }
+
+        displayInfo("Detainees in the system (page " + page.getPage() + "):");
+        displayInfo("------------------------");
+
+        for (Detainee detainee : detainees) {
+            display(detainee);
+        }
+
+        displayNextPageHint(page, detainees.size());
+        return true;
+    }
+
+    private void display(Detainee detainee) {
+        displayInfo(String.format("ID: %s | Name: %s | Crime: %s",
+                detainee.getId(), detainee.getName(), detainee.getCrime()));
+    }
+}
@@ -0,0 +1,62 @@
+package de.dhbw.commands.officercommands;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.commands.AbstractCommand;
+import de.dhbw.commands.CsvFile;
+import de.dhbw.services.OfficerService;
+import de.dhbw.valueobjects.Rank;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Command to register all officers listed in a CSV file with a single write.
+ */
+public class BulkRegisterOfficersCommand extends AbstractCommand {
+    private final OfficerService officerService;
+
+    public BulkRegisterOfficersCommand(OfficerService officerService) {
+        super(
+                "bulk-register-officers",
+                "Registers all officers listed in a CSV file",
+                "bulk-register-officers <csv-file>\n" +
+                        "  Each line holds: <name>,<rank-name>,<rank-level>\n" +
+                        "  Example: bulk-register-officers officers.csv"
+        );
+        this.officerService = officerService;
+    }
+
+    @Override
+    public boolean execute(String[] args) {
+        if (args.length != 1) {
+            displayError("Invalid arguments. Usage: " + getUsage());
+            return false;
+        }
+
+        try {
+            List<Officer> officers = new ArrayList<>();
+            for (String[] fields : CsvFile.read(args[0], 3)) {
+                int rankLevel = Integer.parseInt(fields[2]);
+                officers.add(new Officer(fields[0], new Rank(fields[1], rankLevel)));
+            }
+
+            if (officers.isEmpty()) {
+                displayInfo("No officers found in " + args[0] + ".");
+                return true;
+            }
+
+            officerService.registerOfficers(officers);
+            displaySuccess(String.format("Registered %d officers", officers.size()));
+            return true;
+        } catch (NumberFormatException e) {
+            displayError("Rank level must be a number");
+            return false;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
+        } catch (Exception e) {
+            displayError("Failed to register officers: " + e.getMessage());
+            return false;
+        }
+    }
+}
@@ -3,11 +3,14 @@ package de.dhbw.commands.officercommands;
 import de.dhbw.aggregates.Officer;
 import de.dhbw.commands.AbstractCommand;
 import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.valueobjects.PageRequest;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Command to list all officers in the system.
+ * Command to list all officers in the system, optionally one page at a time.
  */
 public class ListOfficersCommand extends AbstractCommand {
     private final OfficerRepository officerRepository;
@@ -16,7 +19,8 @@ public class ListOfficersCommand extends AbstractCommand {
         super(
                 "list-officers",
                 "Lists all officers in the system",
-                "list-officers"
+                "list-officers [--page <number>] [--limit <count>]\n" +
+                        "  Example: list-officers --page 2 --limit 20"
         );
         this.officerRepository = officerRepository;
     }
@@ -24,9 +28,14 @@ public class ListOfficersCommand extends AbstractCommand {
     @Override
     public boolean execute(String[] args) {
         try {
-            List<Officer> officers = officerRepository.findAll();
+            Optional<PageRequest> page = parsePageRequest(args);
+            if (page.isPresent()) {
+                return listPage(page.get());
+            }
 
-            if (officers.isEmpty()) {
+            // Print while streaming, so a large table is never copied into a list
+            Iterator<Officer> officers = officerRepository.streamAll().iterator();
+            if (!officers.hasNext()) {
                 displayInfo("No officers found in the system.");
                 return true;
             }
@@ -34,18 +43,46 @@ public class ListOfficersCommand extends AbstractCommand {
             displayInfo("Officers in the system:");
             displayInfo("-----------------------");
 
-            for (Officer officer : officers) {
-                displayInfo(String.format("ID: %s | Name: %s | Rank: %s (Level %d)",
-                        officer.getId(),
-                        officer.getName(),
-                        officer.getRank().getName(),
-                        officer.getRank().getLevel()));  // Use getLevel() instead of comparing
+            while (officers.hasNext()) {
+                display(officers.next());
             }
 
             return true;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
         } catch (Exception e) {
             displayError("Failed to list officers: " + e.getMessage());
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean listPage(PageRequest page) {
+        List<Officer> officers = officerRepository.findPage(page);
+
+        if (officers.isEmpty()) {
+            displayInfo(page.getPage() == 1
+                    ? "No officers found in the system."
+                    : "No officers found on page " + page.getPage() + ".");
+            return true;
+        }
+
+        displayInfo("Officers in the system (page " + page.getPage() + "):");
+        displayInfo("-----------------------");
+
+        for (Officer officer : officers) {
+            display(officer);
+        }
+
+        displayNextPageHint(page, officers.size());
+        return true;
+    }
+
+    private void display(Officer officer) {
+        displayInfo(String.format("ID: %s | Name: %s | Rank: %s (Level %d)",
+                officer.getId(),
+                officer.getName(),
+                officer.getRank().getName(),
+                officer.getRank().getLevel()));  // Use getLevel() instead of comparing
+    }
+}
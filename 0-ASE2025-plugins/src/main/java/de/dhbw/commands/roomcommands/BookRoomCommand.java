@@ -3,11 +3,13 @@ package de.dhbw.commands.roomcommands;
 import de.dhbw.aggregates.Room;
 import de.dhbw.commands.AbstractCommand;
 import de.dhbw.usecases.BookRoomUseCase;
+import de.dhbw.valueobjects.RoomType;
 
 import java.util.UUID;
 
 /**
  * Command to book a room, making it unavailable for other activities.
+ * Books either the room with the given ID or any available room of the given type.
  */
 public class BookRoomCommand extends AbstractCommand {
     private final BookRoomUseCase bookRoomUseCase;
@@ -16,7 +18,7 @@ public class BookRoomCommand extends AbstractCommand {
         super(
                 "book-room",
                 "Books a room, making it unavailable for other activities",
-                "book-room <room-id>"
+                "book-room <room-id|room-type>"
         );
         this.bookRoomUseCase = bookRoomUseCase;
     }
@@ -29,12 +31,14 @@ public class BookRoomCommand extends AbstractCommand {
         }
 
         try {
-            UUID roomId = UUID.fromString(args[0]);
-            Room room = bookRoomUseCase.execute(roomId);
+            RoomType roomType = parseRoomType(args[0]);
+            Room room = roomType != null
+                    ? bookRoomUseCase.execute(roomType)
+                    : bookRoomUseCase.execute(UUID.fromString(args[0]));
             displaySuccess("Room booked successfully. Room ID: " + room.getId());
             return true;
         } catch (IllegalArgumentException e) {
-            displayError("Invalid room ID format");
+            displayError("Invalid room ID format or room type");
             return false;
         } catch (IllegalStateException e) {
             displayError(e.getMessage());
@@ -44,4 +48,13 @@ public class BookRoomCommand extends AbstractCommand {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private static RoomType parseRoomType(String value) {
+        for (RoomType type : RoomType.values()) {
+            if (type.name().equalsIgnoreCase(value)) {
+                return type;
+            }
+        }
+        return null;
+    }
+}
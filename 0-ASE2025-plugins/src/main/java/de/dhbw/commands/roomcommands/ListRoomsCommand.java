@@ -3,11 +3,14 @@ package de.dhbw.commands.roomcommands;
 import de.dhbw.aggregates.Room;
 import de.dhbw.commands.AbstractCommand;
 import de.dhbw.usecases.GetAllRoomsUseCase;
+import de.dhbw.valueobjects.PageRequest;
 
+import java.util.Iterator;
 import java.util.List;
+import java.util.Optional;
 
 /**
- * Command to list all rooms in the system.
+ * Command to list all rooms in the system, optionally one page at a time.
  */
 public class ListRoomsCommand extends AbstractCommand {
     private final GetAllRoomsUseCase getAllRoomsUseCase;
@@ -16,7 +19,8 @@ public class ListRoomsCommand extends AbstractCommand {
         super(
                 "list-rooms",
                 "Lists all rooms in the system",
-                "list-rooms"
+                "list-rooms [--page <number>] [--limit <count>]\n" +
+                        "  Example: list-rooms --page 2 --limit 20"
         );
         this.getAllRoomsUseCase = getAllRoomsUseCase;
     }
@@ -24,9 +28,14 @@ public class ListRoomsCommand extends AbstractCommand {
     @Override
     public boolean execute(String[] args) {
         try {
-            List<Room> rooms = getAllRoomsUseCase.execute();
+            Optional<PageRequest> page = parsePageRequest(args);
+            if (page.isPresent()) {
+                return listPage(page.get());
+            }
 
-            if (rooms.isEmpty()) {
+            // Print while streaming, so a large table is never copied into a list
+            Iterator<Room> rooms = getAllRoomsUseCase.stream().iterator();
+            if (!rooms.hasNext()) {
                 displayInfo("No rooms found in the system.");
                 return true;
             }
@@ -34,15 +43,43 @@ public class ListRoomsCommand extends AbstractCommand {
             displayInfo("Rooms in the system:");
             displayInfo("-------------------");
 
-            for (Room room : rooms) {
-                displayInfo(String.format("ID: %s | Type: %s | Available: %s",
-                        room.getId(), room.getType(), room.isAvailable() ? "Yes" : "No"));
+            while (rooms.hasNext()) {
+                display(rooms.next());
             }
 
             return true;
+        } catch (IllegalArgumentException e) {
+            displayError(e.getMessage());
+            return false;
         } catch (Exception e) {
             displayError("Failed to list rooms: " + e.getMessage());
             return false;
         }
     }
-}
\ No newline at end of file
+
+    private boolean listPage(PageRequest page) {
+        List<Room> rooms = getAllRoomsUseCase.execute(page);
+
+        if (rooms.isEmpty()) {
+            displayInfo(page.getPage() == 1
+                    ? "No rooms found in the system."
+                    : "No rooms found on page " + page.getPage() + ".");
+            return true;
+        }
+
+        displayInfo("Rooms in the system (page " + page.getPage() + "):");
+        displayInfo("-------------------");
+
+        for (Room room : rooms) {
+            display(room);
+        }
+
+        displayNextPageHint(page, rooms.size());
+        return true;
+    }
+
+    private void display(Room room) {
+        displayInfo(String.format("ID: %s | Type: %s | Available: %s",
+                room.getId(), room.getType(), room.isAvailable() ? "Yes" : "No"));
+    }
+}
@@ -0,0 +1,73 @@
+package de.dhbw.repositories.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Encodes and decodes a single entity type as a binary record.
+ *
+ * @param <T> The entity type
+ */
+public interface BinaryCodec<T> {
+
+    /**
+     * Gets the tag identifying the entity type in the file header.
+     *
+     * @return The type tag
+     */
+    byte getTypeTag();
+
+    /**
+     * Gets the identifier of an entity.
+     *
+     * @param entity The entity
+     * @return The entity's ID
+     */
+    UUID getId(T entity);
+
+    /**
+     * Registers the strings of an entity that are stored in the name table instead of every record.
+     *
+     * @param entity The entity
+     * @param names The name table being built
+     */
+    default void internNames(T entity, NameTable names) {
+        // Most entity types have no shared strings
+    }
+
+    /**
+     * Writes the payload of one record.
+     *
+     * @param out The output to write to
+     * @param entity The entity
+     * @param names The name table of the file
+     * @throws IOException If the record cannot be written
+     */
+    void write(DataOutput out, T entity, NameTable names) throws IOException;
+
+    /**
+     * Reads the payload of one record.
+     *
+     * @param in The input to read from
+     * @param names The name table of the file
+     * @return The entity
+     * @throws IOException If the record is invalid
+     */
+    T read(DataInput in, NameTable names) throws IOException;
+
+    /**
+     * Reads the payload of one record of a file in the given format version, see {@link BinarySnapshotFile}.
+     * Codecs whose records have not changed since the first version read it like a current record.
+     *
+     * @param in The input to read from
+     * @param names The name table of the file
+     * @param version The format version of the file
+     * @return The entity
+     * @throws IOException If the record is invalid
+     */
+    default T read(DataInput in, NameTable names, short version) throws IOException {
+        return read(in, names);
+    }
+}
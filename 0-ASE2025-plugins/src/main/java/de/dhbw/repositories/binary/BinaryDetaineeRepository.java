@@ -0,0 +1,53 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.repositories.inmemory.InMemoryDetaineeRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Binary implementation of the DetaineeRepository interface.
+ * Keeps detainees in memory and rewrites the compact detainees.bin file on every change.
+ */
+public class BinaryDetaineeRepository extends InMemoryDetaineeRepository {
+    private final BinarySnapshotFile<Detainee> file;
+
+    /**
+     * Creates the repository and loads the existing detainees.
+     */
+    public BinaryDetaineeRepository() {
+        this.file = new BinarySnapshotFile<>("detainees", new DetaineeCodec());
+        for (Detainee detainee : file.load()) {
+            super.save(detainee);
+        }
+    }
+
+    @Override
+    public synchronized void save(Detainee detainee) {
+        super.save(detainee);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Detainee> batch) {
+        for (Detainee detainee : batch) {
+            super.save(detainee);
+        }
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        super.deleteById(id);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            super.deleteById(id);
+        }
+        file.save(findAll());
+    }
+}
@@ -0,0 +1,106 @@
+package de.dhbw.repositories.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Encoding helpers shared by the binary codecs.
+ */
+final class BinaryFields {
+    private BinaryFields() {
+        // Utility class
+    }
+
+    static void writeUuid(DataOutput out, UUID id) throws IOException {
+        out.writeLong(id.getMostSignificantBits());
+        out.writeLong(id.getLeastSignificantBits());
+    }
+
+    static UUID readUuid(DataInput in) throws IOException {
+        return new UUID(in.readLong(), in.readLong());
+    }
+
+    /**
+     * Writes a timestamp as epoch seconds. Schedules are minute-based, so sub-second parts are dropped.
+     */
+    static void writeDateTime(DataOutput out, LocalDateTime dateTime) throws IOException {
+        out.writeLong(dateTime.toEpochSecond(ZoneOffset.UTC));
+    }
+
+    static LocalDateTime readDateTime(DataInput in) throws IOException {
+        return LocalDateTime.ofEpochSecond(in.readLong(), 0, ZoneOffset.UTC);
+    }
+
+    /**
+     * Writes a duration as seconds.
+     */
+    static void writeDuration(DataOutput out, Duration duration) throws IOException {
+        out.writeLong(duration.getSeconds());
+    }
+
+    /**
+     * Reads a duration written as seconds.
+     */
+    static Duration readDuration(DataInput in) throws IOException {
+        return Duration.ofSeconds(in.readLong());
+    }
+
+    /**
+     * Reads a duration written as the last field of a record of a version 1 file. Records are
+     * length-prefixed, so records written before the field was added simply end before it and get the default.
+     */
+    static Duration readTrailingDuration(DataInput in, Duration defaultDuration) throws IOException {
+        try {
+            return Duration.ofSeconds(in.readLong());
+        } catch (EOFException e) {
+            return defaultDuration;
+        }
+    }
+
+    /**
+     * Writes a reference to another entity. Entities that still exist in their repository are
+     * stored by id only; entities that were removed meanwhile are embedded so the referencing
+     * record stays readable.
+     */
+    static <T> void writeReference(DataOutput out, UUID id, T entity, Function<UUID, Optional<T>> lookup,
+                                   BinaryCodec<T> codec, NameTable names) throws IOException {
+        if (lookup.apply(id).isPresent()) {
+            out.writeBoolean(false);
+            writeUuid(out, id);
+        } else {
+            writeEmbedded(out, entity, codec, names);
+        }
+    }
+
+    /**
+     * Writes a reference that always embeds the entity, for immutable entities that may be
+     * removed from their repository later (e.g. released detainees).
+     */
+    static <T> void writeEmbedded(DataOutput out, T entity, BinaryCodec<T> codec, NameTable names) throws IOException {
+        out.writeBoolean(true);
+        codec.write(out, entity, names);
+    }
+
+    /**
+     * Reads a reference written by {@link #writeReference} or {@link #writeEmbedded}.
+     * The instance held by the repository is preferred over an embedded copy.
+     */
+    static <T> T readReference(DataInput in, Function<UUID, Optional<T>> lookup,
+                               BinaryCodec<T> codec, NameTable names) throws IOException {
+        if (in.readBoolean()) {
+            T embedded = codec.read(in, names);
+            return lookup.apply(codec.getId(embedded)).orElse(embedded);
+        }
+
+        UUID id = readUuid(in);
+        return lookup.apply(id).orElseThrow(() -> new IOException("Unknown reference " + id));
+    }
+}
@@ -0,0 +1,64 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.inmemory.InMemoryInterrogationRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Binary implementation of the InterrogationRepository interface.
+ * Keeps interrogations in memory and rewrites the compact interrogations.bin file on every change.
+ */
+public class BinaryInterrogationRepository extends InMemoryInterrogationRepository {
+    private final BinarySnapshotFile<Interrogation> file;
+
+    /**
+     * Creates the repository and loads the existing interrogations.
+     *
+     * @param officerRepository Repository used to resolve referenced officers
+     * @param detaineeRepository Repository used to resolve referenced detainees
+     * @param roomRepository Repository used to resolve referenced rooms
+     */
+    public BinaryInterrogationRepository(
+            OfficerRepository officerRepository,
+            DetaineeRepository detaineeRepository,
+            RoomRepository roomRepository) {
+        this.file = new BinarySnapshotFile<>("interrogations",
+                new InterrogationCodec(officerRepository, detaineeRepository, roomRepository));
+        for (Interrogation interrogation : file.load()) {
+            super.save(interrogation);
+        }
+    }
+
+    @Override
+    public synchronized void save(Interrogation interrogation) {
+        super.save(interrogation);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Interrogation> batch) {
+        for (Interrogation interrogation : batch) {
+            super.save(interrogation);
+        }
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        super.deleteById(id);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            super.deleteById(id);
+        }
+        file.save(findAll());
+    }
+}
@@ -0,0 +1,58 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Meeting;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.inmemory.InMemoryMeetingRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Binary implementation of the MeetingRepository interface.
+ * Keeps meetings in memory and rewrites the compact meetings.bin file on every change.
+ */
+public class BinaryMeetingRepository extends InMemoryMeetingRepository {
+    private final BinarySnapshotFile<Meeting> file;
+
+    /**
+     * Creates the repository and loads the existing meetings.
+     *
+     * @param officerRepository Repository used to resolve referenced officers
+     * @param roomRepository Repository used to resolve referenced rooms
+     */
+    public BinaryMeetingRepository(OfficerRepository officerRepository, RoomRepository roomRepository) {
+        this.file = new BinarySnapshotFile<>("meetings", new MeetingCodec(officerRepository, roomRepository));
+        for (Meeting meeting : file.load()) {
+            super.save(meeting);
+        }
+    }
+
+    @Override
+    public synchronized void save(Meeting meeting) {
+        super.save(meeting);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Meeting> batch) {
+        for (Meeting meeting : batch) {
+            super.save(meeting);
+        }
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        super.deleteById(id);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            super.deleteById(id);
+        }
+        file.save(findAll());
+    }
+}
@@ -0,0 +1,53 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.repositories.inmemory.InMemoryOfficerRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Binary implementation of the OfficerRepository interface.
+ * Keeps officers in memory and rewrites the compact officers.bin file on every change.
+ */
+public class BinaryOfficerRepository extends InMemoryOfficerRepository {
+    private final BinarySnapshotFile<Officer> file;
+
+    /**
+     * Creates the repository and loads the existing officers.
+     */
+    public BinaryOfficerRepository() {
+        this.file = new BinarySnapshotFile<>("officers", new OfficerCodec());
+        for (Officer officer : file.load()) {
+            super.save(officer);
+        }
+    }
+
+    @Override
+    public synchronized void save(Officer officer) {
+        super.save(officer);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Officer> batch) {
+        for (Officer officer : batch) {
+            super.save(officer);
+        }
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        super.deleteById(id);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            super.deleteById(id);
+        }
+        file.save(findAll());
+    }
+}
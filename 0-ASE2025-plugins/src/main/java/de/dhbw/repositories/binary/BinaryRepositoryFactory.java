@@ -0,0 +1,73 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.repositories.*;
+
+/**
+ * Factory for creating binary repositories with proper dependencies.
+ * Interrogations and meetings only store the ids of the entities they reference,
+ * so the repositories they resolve against are created first.
+ */
+public class BinaryRepositoryFactory {
+    private final BinaryRoomRepository roomRepository;
+    private final BinaryOfficerRepository officerRepository;
+    private final BinaryDetaineeRepository detaineeRepository;
+    private final BinaryInterrogationRepository interrogationRepository;
+    private final BinaryMeetingRepository meetingRepository;
+
+    /**
+     * Creates all repositories with proper dependencies.
+     */
+    public BinaryRepositoryFactory() {
+        roomRepository = new BinaryRoomRepository();
+        officerRepository = new BinaryOfficerRepository();
+        detaineeRepository = new BinaryDetaineeRepository();
+        interrogationRepository = new BinaryInterrogationRepository(
+                officerRepository, detaineeRepository, roomRepository);
+        meetingRepository = new BinaryMeetingRepository(officerRepository, roomRepository);
+    }
+
+    /**
+     * Gets the room repository.
+     *
+     * @return The room repository
+     */
+    public RoomRepository getRoomRepository() {
+        return roomRepository;
+    }
+
+    /**
+     * Gets the officer repository.
+     *
+     * @return The officer repository
+     */
+    public OfficerRepository getOfficerRepository() {
+        return officerRepository;
+    }
+
+    /**
+     * Gets the detainee repository.
+     *
+     * @return The detainee repository
+     */
+    public DetaineeRepository getDetaineeRepository() {
+        return detaineeRepository;
+    }
+
+    /**
+     * Gets the interrogation repository.
+     *
+     * @return The interrogation repository
+     */
+    public InterrogationRepository getInterrogationRepository() {
+        return interrogationRepository;
+    }
+
+    /**
+     * Gets the meeting repository.
+     *
+     * @return The meeting repository
+     */
+    public MeetingRepository getMeetingRepository() {
+        return meetingRepository;
+    }
+}
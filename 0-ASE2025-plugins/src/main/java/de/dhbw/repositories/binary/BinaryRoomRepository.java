@@ -0,0 +1,53 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.inmemory.InMemoryRoomRepository;
+
+import java.util.Collection;
+import java.util.UUID;
+
+/**
+ * Binary implementation of the RoomRepository interface.
+ * Keeps rooms in memory and rewrites the compact rooms.bin file on every change.
+ */
+public class BinaryRoomRepository extends InMemoryRoomRepository {
+    private final BinarySnapshotFile<Room> file;
+
+    /**
+     * Creates the repository and loads the existing rooms.
+     */
+    public BinaryRoomRepository() {
+        this.file = new BinarySnapshotFile<>("rooms", new RoomCodec(true));
+        for (Room room : file.load()) {
+            super.save(room);
+        }
+    }
+
+    @Override
+    public synchronized void save(Room room) {
+        super.save(room);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Room> batch) {
+        for (Room room : batch) {
+            super.save(room);
+        }
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        super.deleteById(id);
+        file.save(findAll());
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            super.deleteById(id);
+        }
+        file.save(findAll());
+    }
+}
@@ -0,0 +1,211 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.repositories.json.DataDirectoryManager;
+import de.dhbw.repositories.json.SnapshotFiles;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.CheckedInputStream;
+
+/**
+ * Snapshot file of one entity type in the binary format.
+ * <p>
+ * Layout: the magic number {@code PMSB}, the format version, the type tag of the codec and the
+ * name table, followed by one record per entity. Every record is prefixed with its length, so a
+ * record that cannot be decoded is skipped without losing the records after it.
+ * Files are replaced atomically and carry a checksum, see {@link SnapshotFiles}.
+ * <p>
+ * Version 2 records always end with the fields appended since version 1: the duration of
+ * interrogations and meetings and the calendar of rooms. Version 1 files are still read; their records
+ * may or may not carry those fields, so the codecs read them only if the record goes on.
+ *
+ * @param <T> The entity type
+ */
+public class BinarySnapshotFile<T> {
+    private static final int MAGIC = 0x504D5342;
+    static final short VERSION = 2;
+    static final short FIRST_VERSION = 1;
+    private static final int MAX_RECORD_LENGTH = 16 * 1024 * 1024;
+
+    private final String entityName;
+    private final BinaryCodec<T> codec;
+    private final Path filePath;
+
+    /**
+     * Creates a snapshot file in the data directory.
+     *
+     * @param entityName The name of the entity (used for file naming)
+     * @param codec The codec for the records
+     */
+    public BinarySnapshotFile(String entityName, BinaryCodec<T> codec) {
+        this.entityName = entityName;
+        this.codec = codec;
+        this.filePath = Paths.get(DataDirectoryManager.getDataDirectory(), entityName + ".bin");
+    }
+
+    /**
+     * Gets the path of the file.
+     *
+     * @return The file path
+     */
+    public Path getFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Replaces the file with the given entities.
+     *
+     * @param entities The entities to save
+     */
+    public void save(Collection<T> entities) {
+        save(entities, VERSION);
+    }
+
+    /**
+     * Replaces the file with the given entities, stating a format version in the header.
+     * Only the current version is ever written; tests use older ones to produce files of earlier releases.
+     *
+     * @param entities The entities to save
+     * @param version The format version written to the header
+     */
+    void save(Collection<T> entities, short version) {
+        NameTable names = new NameTable();
+        for (T entity : entities) {
+            codec.internNames(entity, names);
+        }
+
+        try {
+            Files.createDirectories(filePath.toAbsolutePath().getParent());
+            SnapshotFiles.writeAtomically(filePath, out -> {
+                DataOutputStream data = new DataOutputStream(out);
+                data.writeInt(MAGIC);
+                data.writeShort(version);
+                data.writeByte(codec.getTypeTag());
+                names.writeTo(data);
+
+                ByteArrayOutputStream record = new ByteArrayOutputStream(128);
+                DataOutputStream recordData = new DataOutputStream(record);
+                for (T entity : entities) {
+                    record.reset();
+                    codec.write(recordData, entity, names);
+                    data.writeInt(record.size());
+                    record.writeTo(data);
+                }
+                data.flush();
+            });
+        } catch (IOException e) {
+            throw new RuntimeException("Error saving " + entityName + " to binary file", e);
+        }
+    }
+
+    /**
+     * Loads all entities from the file.
+     * The checksum is verified in the same pass. A file that does not match its checksum or cannot be
+     * read is moved aside like a corrupt JSON snapshot, see {@link SnapshotFiles#quarantine(Path)}, and
+     * the repository starts empty. Records of an intact file that cannot be decoded are reported and skipped.
+     *
+     * @return The loaded entities, empty if the file does not exist or is corrupt
+     */
+    public List<T> load() {
+        try {
+            SnapshotFiles.recoverInterruptedWrite(filePath);
+        } catch (IOException e) {
+            System.err.println("Error recovering interrupted write of " + filePath + ": " + e.getMessage());
+        }
+        if (!Files.exists(filePath)) {
+            return Collections.emptyList();
+        }
+
+        long startTime = System.nanoTime();
+        List<T> entities;
+        try (CheckedInputStream checked = SnapshotFiles.checkedStream(
+                new BufferedInputStream(Files.newInputStream(filePath), 64 * 1024));
+             DataInputStream in = new DataInputStream(checked)) {
+            long length = Files.size(filePath);
+            short version = readHeader(in);
+            entities = readRecords(in, NameTable.readFrom(in), version);
+            // The checksum is computed in the same pass, so it covers the whole file only once it is read to the end
+            in.transferTo(OutputStream.nullOutputStream());
+            if (!SnapshotFiles.matchesChecksum(filePath, checked.getChecksum().getValue(), length)) {
+                throw new IOException("Checksum mismatch");
+            }
+        } catch (IOException e) {
+            System.err.println("Error loading " + entityName + " from binary file: " + e.getMessage());
+            quarantine();
+            // Return empty list instead of throwing exception to allow application to start
+            return Collections.emptyList();
+        }
+
+        System.out.printf("Loaded %d %s from %s in %d ms%n", entities.size(), entityName,
+                filePath.getFileName(), (System.nanoTime() - startTime) / 1_000_000);
+        return entities;
+    }
+
+    private void quarantine() {
+        try {
+            Path corruptCopy = SnapshotFiles.quarantine(filePath);
+            System.err.println("Warning: Moved corrupt " + filePath + " to " + corruptCopy);
+        } catch (IOException e) {
+            System.err.println("Error moving aside " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private short readHeader(DataInputStream in) throws IOException {
+        if (in.readInt() != MAGIC) {
+            throw new IOException("Not a binary snapshot file");
+        }
+        short version = in.readShort();
+        if (version < FIRST_VERSION || version > VERSION) {
+            throw new IOException("Unsupported format version " + version);
+        }
+        byte typeTag = in.readByte();
+        if (typeTag != codec.getTypeTag()) {
+            throw new IOException("File holds entity type " + typeTag + ", expected " + codec.getTypeTag());
+        }
+        return version;
+    }
+
+    private List<T> readRecords(DataInputStream in, NameTable names, short version) throws IOException {
+        List<T> entities = new ArrayList<>();
+        while (true) {
+            int length;
+            try {
+                length = in.readInt();
+            } catch (EOFException e) {
+                return entities;
+            }
+
+            if (length < 0 || length > MAX_RECORD_LENGTH) {
+                System.err.println("Invalid record length " + length + " in " + filePath + ", ignoring the rest of the file");
+                return entities;
+            }
+
+            byte[] payload = new byte[length];
+            try {
+                in.readFully(payload);
+            } catch (EOFException e) {
+                System.err.println("Truncated last record in " + filePath + ", ignoring it");
+                return entities;
+            }
+
+            try {
+                entities.add(codec.read(new DataInputStream(new ByteArrayInputStream(payload)), names, version));
+            } catch (IOException | RuntimeException e) {
+                System.err.println("Skipping invalid record in " + filePath + ": " + e.getMessage());
+            }
+        }
+    }
+}
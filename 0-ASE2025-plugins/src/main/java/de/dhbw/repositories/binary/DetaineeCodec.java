@@ -0,0 +1,39 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Detainee;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Binary record format for detainees: id, name and crime.
+ */
+public class DetaineeCodec implements BinaryCodec<Detainee> {
+
+    @Override
+    public byte getTypeTag() {
+        return 3;
+    }
+
+    @Override
+    public UUID getId(Detainee detainee) {
+        return detainee.getId();
+    }
+
+    @Override
+    public void write(DataOutput out, Detainee detainee, NameTable names) throws IOException {
+        BinaryFields.writeUuid(out, detainee.getId());
+        out.writeUTF(detainee.getName());
+        out.writeUTF(detainee.getCrime());
+    }
+
+    @Override
+    public Detainee read(DataInput in, NameTable names) throws IOException {
+        UUID id = BinaryFields.readUuid(in);
+        String name = in.readUTF();
+        String crime = in.readUTF();
+        return Detainee.restore(id, name, crime);
+    }
+}
@@ -0,0 +1,87 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Binary record format for interrogations: id, references to officer, detainee and room,
+ * the scheduled time as epoch seconds and the duration in seconds.
+ * References are resolved against the repositories, see {@link BinaryFields#writeReference}.
+ * The detainee is always embedded because it is removed from its repository on release.
+ */
+public class InterrogationCodec implements BinaryCodec<Interrogation> {
+    private final OfficerRepository officerRepository;
+    private final DetaineeRepository detaineeRepository;
+    private final RoomRepository roomRepository;
+    private final OfficerCodec officerCodec = new OfficerCodec();
+    private final DetaineeCodec detaineeCodec = new DetaineeCodec();
+    private final RoomCodec roomCodec = new RoomCodec();
+
+    public InterrogationCodec(
+            OfficerRepository officerRepository,
+            DetaineeRepository detaineeRepository,
+            RoomRepository roomRepository) {
+        this.officerRepository = officerRepository;
+        this.detaineeRepository = detaineeRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    @Override
+    public byte getTypeTag() {
+        return 4;
+    }
+
+    @Override
+    public UUID getId(Interrogation interrogation) {
+        return interrogation.getId();
+    }
+
+    @Override
+    public void internNames(Interrogation interrogation, NameTable names) {
+        officerCodec.internNames(interrogation.getOfficer(), names);
+    }
+
+    @Override
+    public void write(DataOutput out, Interrogation interrogation, NameTable names) throws IOException {
+        BinaryFields.writeUuid(out, interrogation.getId());
+        BinaryFields.writeReference(out, interrogation.getOfficer().getId(), interrogation.getOfficer(),
+                officerRepository::findById, officerCodec, names);
+        BinaryFields.writeEmbedded(out, interrogation.getDetainee(), detaineeCodec, names);
+        BinaryFields.writeReference(out, interrogation.getRoom().getId(), interrogation.getRoom(),
+                roomRepository::findById, roomCodec, names);
+        BinaryFields.writeDateTime(out, interrogation.getScheduledAt());
+        BinaryFields.writeDuration(out, interrogation.getDuration());
+    }
+
+    @Override
+    public Interrogation read(DataInput in, NameTable names) throws IOException {
+        return read(in, names, BinarySnapshotFile.VERSION);
+    }
+
+    @Override
+    public Interrogation read(DataInput in, NameTable names, short version) throws IOException {
+        UUID id = BinaryFields.readUuid(in);
+        Officer officer = BinaryFields.readReference(in, officerRepository::findById, officerCodec, names);
+        Detainee detainee = BinaryFields.readReference(in, detaineeRepository::findById, detaineeCodec, names);
+        Room room = BinaryFields.readReference(in, roomRepository::findById, roomCodec, names);
+
+        LocalDateTime scheduledAt = BinaryFields.readDateTime(in);
+        Duration duration = version == BinarySnapshotFile.FIRST_VERSION
+                ? BinaryFields.readTrailingDuration(in, Interrogation.DEFAULT_DURATION)
+                : BinaryFields.readDuration(in);
+
+        return Interrogation.restore(id, officer, detainee, room, scheduledAt, duration);
+    }
+}
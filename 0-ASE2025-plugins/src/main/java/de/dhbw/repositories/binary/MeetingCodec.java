@@ -0,0 +1,78 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Meeting;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Binary record format for meetings: id, officer reference, informant name, room reference,
+ * the scheduled time as epoch seconds and the duration in seconds.
+ * References are resolved against the repositories, see {@link BinaryFields#writeReference}.
+ */
+public class MeetingCodec implements BinaryCodec<Meeting> {
+    private final OfficerRepository officerRepository;
+    private final RoomRepository roomRepository;
+    private final OfficerCodec officerCodec = new OfficerCodec();
+    private final RoomCodec roomCodec = new RoomCodec();
+
+    public MeetingCodec(OfficerRepository officerRepository, RoomRepository roomRepository) {
+        this.officerRepository = officerRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    @Override
+    public byte getTypeTag() {
+        return 5;
+    }
+
+    @Override
+    public UUID getId(Meeting meeting) {
+        return meeting.getId();
+    }
+
+    @Override
+    public void internNames(Meeting meeting, NameTable names) {
+        officerCodec.internNames(meeting.getOfficer(), names);
+    }
+
+    @Override
+    public void write(DataOutput out, Meeting meeting, NameTable names) throws IOException {
+        BinaryFields.writeUuid(out, meeting.getId());
+        BinaryFields.writeReference(out, meeting.getOfficer().getId(), meeting.getOfficer(),
+                officerRepository::findById, officerCodec, names);
+        out.writeUTF(meeting.getInformantName());
+        BinaryFields.writeReference(out, meeting.getRoom().getId(), meeting.getRoom(),
+                roomRepository::findById, roomCodec, names);
+        BinaryFields.writeDateTime(out, meeting.getScheduledAt());
+        BinaryFields.writeDuration(out, meeting.getDuration());
+    }
+
+    @Override
+    public Meeting read(DataInput in, NameTable names) throws IOException {
+        return read(in, names, BinarySnapshotFile.VERSION);
+    }
+
+    @Override
+    public Meeting read(DataInput in, NameTable names, short version) throws IOException {
+        UUID id = BinaryFields.readUuid(in);
+        Officer officer = BinaryFields.readReference(in, officerRepository::findById, officerCodec, names);
+        String informantName = in.readUTF();
+        Room room = BinaryFields.readReference(in, roomRepository::findById, roomCodec, names);
+
+        LocalDateTime scheduledAt = BinaryFields.readDateTime(in);
+        Duration duration = version == BinarySnapshotFile.FIRST_VERSION
+                ? BinaryFields.readTrailingDuration(in, Meeting.DEFAULT_DURATION)
+                : BinaryFields.readDuration(in);
+
+        return Meeting.restore(id, officer, informantName, room, scheduledAt, duration);
+    }
+}
@@ -0,0 +1,79 @@
+package de.dhbw.repositories.binary;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Table of interned strings stored once in the file header, e.g. rank names.
+ * Records refer to an entry by its index.
+ */
+public class NameTable {
+    private final List<String> names = new ArrayList<>();
+    private final Map<String, Integer> indexes = new HashMap<>();
+
+    /**
+     * Adds a name to the table if it is not present yet.
+     *
+     * @param name The name
+     * @return The index of the name
+     */
+    public int intern(String name) {
+        return indexes.computeIfAbsent(name, key -> {
+            names.add(key);
+            return names.size() - 1;
+        });
+    }
+
+    /**
+     * Gets the index of a name that was interned before.
+     *
+     * @param name The name
+     * @return The index of the name
+     * @throws IllegalStateException If the name was not interned
+     */
+    public int indexOf(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            throw new IllegalStateException("Name was not interned: " + name);
+        }
+        return index;
+    }
+
+    /**
+     * Gets the name stored at an index.
+     *
+     * @param index The index
+     * @return The name
+     * @throws IOException If the index is not part of the table
+     */
+    public String get(int index) throws IOException {
+        if (index < 0 || index >= names.size()) {
+            throw new IOException("Invalid name index: " + index);
+        }
+        return names.get(index);
+    }
+
+    void writeTo(DataOutput out) throws IOException {
+        out.writeInt(names.size());
+        for (String name : names) {
+            out.writeUTF(name);
+        }
+    }
+
+    static NameTable readFrom(DataInput in) throws IOException {
+        NameTable table = new NameTable();
+        int count = in.readInt();
+        if (count < 0) {
+            throw new IOException("Invalid name table size: " + count);
+        }
+        for (int i = 0; i < count; i++) {
+            table.intern(in.readUTF());
+        }
+        return table;
+    }
+}
@@ -0,0 +1,47 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.valueobjects.Rank;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.UUID;
+
+/**
+ * Binary record format for officers: id, name, rank level and the index of the rank name.
+ */
+public class OfficerCodec implements BinaryCodec<Officer> {
+
+    @Override
+    public byte getTypeTag() {
+        return 2;
+    }
+
+    @Override
+    public UUID getId(Officer officer) {
+        return officer.getId();
+    }
+
+    @Override
+    public void internNames(Officer officer, NameTable names) {
+        names.intern(officer.getRank().getName());
+    }
+
+    @Override
+    public void write(DataOutput out, Officer officer, NameTable names) throws IOException {
+        BinaryFields.writeUuid(out, officer.getId());
+        out.writeUTF(officer.getName());
+        out.writeInt(officer.getRank().getLevel());
+        out.writeInt(names.indexOf(officer.getRank().getName()));
+    }
+
+    @Override
+    public Officer read(DataInput in, NameTable names) throws IOException {
+        UUID id = BinaryFields.readUuid(in);
+        String name = in.readUTF();
+        int rankLevel = in.readInt();
+        String rankName = names.get(in.readInt());
+        return Officer.restore(id, name, new Rank(rankName, rankLevel));
+    }
+}
@@ -0,0 +1,115 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.aggregates.RoomCalendar;
+import de.dhbw.valueobjects.RoomType;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.EOFException;
+import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Binary record format for rooms: id, type ordinal and availability, optionally followed by the
+ * calendar as the number of days with reservations and, per day, the epoch day and its bitmap words.
+ * Rooms files of format version 1 may lack the calendar.
+ * <p>
+ * Only the rooms file carries the calendar. Copies of rooms embedded in interrogation and meeting
+ * records keep the original layout, because further fields follow them in those records.
+ */
+public class RoomCodec implements BinaryCodec<Room> {
+    private static final RoomType[] ROOM_TYPES = RoomType.values();
+
+    private final boolean withCalendar;
+
+    /**
+     * Creates a codec for embedded copies of rooms, without their calendar.
+     */
+    public RoomCodec() {
+        this(false);
+    }
+
+    /**
+     * Creates a codec.
+     *
+     * @param withCalendar Whether the calendar is appended to the record
+     */
+    public RoomCodec(boolean withCalendar) {
+        this.withCalendar = withCalendar;
+    }
+
+    @Override
+    public byte getTypeTag() {
+        return 1;
+    }
+
+    @Override
+    public UUID getId(Room room) {
+        return room.getId();
+    }
+
+    @Override
+    public void write(DataOutput out, Room room, NameTable names) throws IOException {
+        BinaryFields.writeUuid(out, room.getId());
+        out.writeByte(room.getType().ordinal());
+        out.writeBoolean(room.isAvailable());
+
+        if (withCalendar) {
+            Map<LocalDate, long[]> days = room.getCalendar().getDays();
+            out.writeInt(days.size());
+            for (Map.Entry<LocalDate, long[]> day : days.entrySet()) {
+                out.writeLong(day.getKey().toEpochDay());
+                for (long word : day.getValue()) {
+                    out.writeLong(word);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Room read(DataInput in, NameTable names) throws IOException {
+        return read(in, names, BinarySnapshotFile.VERSION);
+    }
+
+    @Override
+    public Room read(DataInput in, NameTable names, short version) throws IOException {
+        UUID id = BinaryFields.readUuid(in);
+        int typeOrdinal = in.readUnsignedByte();
+        if (typeOrdinal >= ROOM_TYPES.length) {
+            throw new IOException("Invalid room type: " + typeOrdinal);
+        }
+
+        Room room = Room.restore(id, ROOM_TYPES[typeOrdinal], in.readBoolean());
+        if (withCalendar) {
+            readCalendar(in, room, version);
+        }
+        return room;
+    }
+
+    /**
+     * Reads the calendar at the end of a record. Records of version 1 files written before it existed end before it.
+     */
+    private static void readCalendar(DataInput in, Room room, short version) throws IOException {
+        int dayCount;
+        try {
+            dayCount = in.readInt();
+        } catch (EOFException e) {
+            if (version == BinarySnapshotFile.FIRST_VERSION) {
+                return;
+            }
+            throw e;
+        }
+
+        for (int i = 0; i < dayCount; i++) {
+            LocalDate day = LocalDate.ofEpochDay(in.readLong());
+            long[] words = new long[RoomCalendar.WORDS_PER_DAY];
+            for (int word = 0; word < RoomCalendar.WORDS_PER_DAY; word++) {
+                words[word] = in.readLong();
+            }
+            room.getCalendar().restoreDay(day, words);
+        }
+    }
+}
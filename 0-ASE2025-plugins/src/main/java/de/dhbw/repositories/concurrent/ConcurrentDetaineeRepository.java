@@ -0,0 +1,91 @@
+package de.dhbw.repositories.concurrent;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.valueobjects.PageRequest;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of a detainee repository, see {@link RepositoryLock}.
+ * <p>
+ * Every operation is linearizable: writes take effect while holding the write lock, queries
+ * see the state between two writes. {@link #streamAll()} streams a copy taken under the read lock.
+ */
+public class ConcurrentDetaineeRepository implements DetaineeRepository {
+    private final DetaineeRepository delegate;
+    private final RepositoryLock lock = new RepositoryLock();
+
+    /**
+     * Creates a thread-safe view of a repository.
+     *
+     * @param delegate The repository, which must not be used directly afterwards
+     */
+    public ConcurrentDetaineeRepository(DetaineeRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void save(Detainee detainee) {
+        lock.write(() -> delegate.save(detainee));
+    }
+
+    @Override
+    public void saveAll(Collection<Detainee> detainees) {
+        lock.write(() -> delegate.saveAll(detainees));
+    }
+
+    @Override
+    public Optional<Detainee> findById(UUID id) {
+        return lock.readOptimistically(() -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return lock.readOptimistically(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return lock.readOptimistically(delegate::count);
+    }
+
+    @Override
+    public List<Detainee> findByNameContaining(String name) {
+        return lock.read(() -> delegate.findByNameContaining(name));
+    }
+
+    @Override
+    public List<Detainee> findByCrime(String crime) {
+        return lock.read(() -> delegate.findByCrime(crime));
+    }
+
+    @Override
+    public List<Detainee> findAll() {
+        return lock.read(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Detainee> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Detainee> findPage(PageRequest page) {
+        return lock.read(() -> delegate.findPage(page));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        lock.write(() -> delegate.deleteAllById(ids));
+    }
+}
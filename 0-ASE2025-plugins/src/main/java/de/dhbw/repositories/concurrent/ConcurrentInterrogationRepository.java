@@ -0,0 +1,164 @@
+package de.dhbw.repositories.concurrent;
+
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.repositories.InterrogationRepository;
+import de.dhbw.valueobjects.InterrogationCriteria;
+import de.dhbw.valueobjects.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of an interrogation repository, see {@link RepositoryLock}.
+ * <p>
+ * Every operation is linearizable: writes take effect while holding the write lock, queries
+ * see the state between two writes. {@link #streamAll()} streams a copy taken under the read lock.
+ */
+public class ConcurrentInterrogationRepository implements InterrogationRepository {
+    private final InterrogationRepository delegate;
+    private final RepositoryLock lock = new RepositoryLock();
+
+    /**
+     * Creates a thread-safe view of a repository.
+     *
+     * @param delegate The repository, which must not be used directly afterwards
+     */
+    public ConcurrentInterrogationRepository(InterrogationRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void save(Interrogation interrogation) {
+        lock.write(() -> delegate.save(interrogation));
+    }
+
+    @Override
+    public void saveAll(Collection<Interrogation> interrogations) {
+        lock.write(() -> delegate.saveAll(interrogations));
+    }
+
+    @Override
+    public Optional<Interrogation> findById(UUID id) {
+        return lock.readOptimistically(() -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return lock.readOptimistically(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return lock.readOptimistically(delegate::count);
+    }
+
+    @Override
+    public List<Interrogation> findAll() {
+        return lock.read(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Interrogation> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Interrogation> findPage(PageRequest page) {
+        return lock.read(() -> delegate.findPage(page));
+    }
+
+    @Override
+    public List<Interrogation> findByOfficerId(UUID officerId) {
+        return lock.read(() -> delegate.findByOfficerId(officerId));
+    }
+
+    @Override
+    public long countByOfficerId(UUID officerId) {
+        return lock.read(() -> delegate.countByOfficerId(officerId));
+    }
+
+    @Override
+    public List<Interrogation> findByDetaineeId(UUID detaineeId) {
+        return lock.read(() -> delegate.findByDetaineeId(detaineeId));
+    }
+
+    @Override
+    public long countByDetaineeId(UUID detaineeId) {
+        return lock.read(() -> delegate.countByDetaineeId(detaineeId));
+    }
+
+    @Override
+    public List<Interrogation> findByRoomId(UUID roomId) {
+        return lock.read(() -> delegate.findByRoomId(roomId));
+    }
+
+    @Override
+    public long countByRoomId(UUID roomId) {
+        return lock.read(() -> delegate.countByRoomId(roomId));
+    }
+
+    @Override
+    public List<Interrogation> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.findOverlappingByOfficerId(officerId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.existsOverlappingByOfficerId(officerId, start, end));
+    }
+
+    @Override
+    public List<Interrogation> findOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.findOverlappingByDetaineeId(detaineeId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.existsOverlappingByDetaineeId(detaineeId, start, end));
+    }
+
+    @Override
+    public List<Interrogation> findByDate(LocalDate date) {
+        return lock.read(() -> delegate.findByDate(date));
+    }
+
+    @Override
+    public List<Interrogation> findUpcoming() {
+        return lock.read(delegate::findUpcoming);
+    }
+
+    @Override
+    public List<Interrogation> findEndingAfter(LocalDateTime time) {
+        return lock.read(() -> delegate.findEndingAfter(time));
+    }
+
+    @Override
+    public List<Interrogation> findByTimeRange(LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.findByTimeRange(start, end));
+    }
+
+    @Override
+    public List<Interrogation> findMatching(InterrogationCriteria criteria) {
+        return lock.read(() -> delegate.findMatching(criteria));
+    }
+
+    @Override
+    public String explain(InterrogationCriteria criteria) {
+        return lock.read(() -> delegate.explain(criteria));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        lock.write(() -> delegate.deleteAllById(ids));
+    }
+}
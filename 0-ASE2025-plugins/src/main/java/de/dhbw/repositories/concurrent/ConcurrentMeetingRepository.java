@@ -0,0 +1,128 @@
+package de.dhbw.repositories.concurrent;
+
+import de.dhbw.aggregates.Meeting;
+import de.dhbw.repositories.MeetingRepository;
+import de.dhbw.valueobjects.PageRequest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of a meeting repository, see {@link RepositoryLock}.
+ * <p>
+ * Every operation is linearizable: writes take effect while holding the write lock, queries
+ * see the state between two writes. {@link #streamAll()} streams a copy taken under the read lock.
+ */
+public class ConcurrentMeetingRepository implements MeetingRepository {
+    private final MeetingRepository delegate;
+    private final RepositoryLock lock = new RepositoryLock();
+
+    /**
+     * Creates a thread-safe view of a repository.
+     *
+     * @param delegate The repository, which must not be used directly afterwards
+     */
+    public ConcurrentMeetingRepository(MeetingRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void save(Meeting meeting) {
+        lock.write(() -> delegate.save(meeting));
+    }
+
+    @Override
+    public void saveAll(Collection<Meeting> meetings) {
+        lock.write(() -> delegate.saveAll(meetings));
+    }
+
+    @Override
+    public Optional<Meeting> findById(UUID id) {
+        return lock.readOptimistically(() -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return lock.readOptimistically(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return lock.readOptimistically(delegate::count);
+    }
+
+    @Override
+    public List<Meeting> findAll() {
+        return lock.read(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Meeting> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Meeting> findPage(PageRequest page) {
+        return lock.read(() -> delegate.findPage(page));
+    }
+
+    @Override
+    public List<Meeting> findByOfficerId(UUID officerId) {
+        return lock.read(() -> delegate.findByOfficerId(officerId));
+    }
+
+    @Override
+    public long countByOfficerId(UUID officerId) {
+        return lock.read(() -> delegate.countByOfficerId(officerId));
+    }
+
+    @Override
+    public List<Meeting> findByRoomId(UUID roomId) {
+        return lock.read(() -> delegate.findByRoomId(roomId));
+    }
+
+    @Override
+    public long countByRoomId(UUID roomId) {
+        return lock.read(() -> delegate.countByRoomId(roomId));
+    }
+
+    @Override
+    public List<Meeting> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.findOverlappingByOfficerId(officerId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return lock.read(() -> delegate.existsOverlappingByOfficerId(officerId, start, end));
+    }
+
+    @Override
+    public List<Meeting> findByDate(LocalDate date) {
+        return lock.read(() -> delegate.findByDate(date));
+    }
+
+    @Override
+    public List<Meeting> findUpcoming() {
+        return lock.read(delegate::findUpcoming);
+    }
+
+    @Override
+    public List<Meeting> findEndingAfter(LocalDateTime time) {
+        return lock.read(() -> delegate.findEndingAfter(time));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        lock.write(() -> delegate.deleteAllById(ids));
+    }
+}
@@ -0,0 +1,88 @@
+package de.dhbw.repositories.concurrent;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.valueobjects.PageRequest;
+import de.dhbw.valueobjects.Rank;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of an officer repository, see {@link RepositoryLock}.
+ * <p>
+ * Every operation is linearizable: writes take effect while holding the write lock, queries
+ * see the state between two writes. {@link #streamAll()} streams a copy taken under the read lock,
+ * so the stream may be consumed while other threads modify the repository.
+ */
+public class ConcurrentOfficerRepository implements OfficerRepository {
+    private final OfficerRepository delegate;
+    private final RepositoryLock lock = new RepositoryLock();
+
+    /**
+     * Creates a thread-safe view of a repository.
+     *
+     * @param delegate The repository, which must not be used directly afterwards
+     */
+    public ConcurrentOfficerRepository(OfficerRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void save(Officer officer) {
+        lock.write(() -> delegate.save(officer));
+    }
+
+    @Override
+    public void saveAll(Collection<Officer> officers) {
+        lock.write(() -> delegate.saveAll(officers));
+    }
+
+    @Override
+    public Optional<Officer> findById(UUID id) {
+        return lock.readOptimistically(() -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return lock.readOptimistically(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return lock.readOptimistically(delegate::count);
+    }
+
+    @Override
+    public List<Officer> findAll() {
+        return lock.read(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Officer> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Officer> findPage(PageRequest page) {
+        return lock.read(() -> delegate.findPage(page));
+    }
+
+    @Override
+    public List<Officer> findByMinimumRank(Rank minimumRank) {
+        return lock.read(() -> delegate.findByMinimumRank(minimumRank));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        lock.write(() -> delegate.deleteAllById(ids));
+    }
+}
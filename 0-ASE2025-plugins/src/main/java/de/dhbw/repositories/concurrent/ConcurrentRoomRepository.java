@@ -0,0 +1,150 @@
+package de.dhbw.repositories.concurrent;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.valueobjects.PageRequest;
+import de.dhbw.valueobjects.RoomType;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Thread-safe view of a room repository, see {@link RepositoryLock}.
+ * <p>
+ * Every operation is linearizable: writes take effect while holding the write lock, queries
+ * see the state between two writes. {@link #reserve} reserves and saves the room under the write
+ * lock, so concurrent callers never get the same slots, {@link #allocate}, {@link #book} and
+ * {@link #release} change and save the room under it, and {@link #saveIfUnchanged} checks the
+ * version under the same lock as the save.
+ * {@link #streamAll()} streams a copy taken under the read lock.
+ * <p>
+ * The lock covers single calls only. Sequences spanning several repositories, like checking a
+ * schedule and then reserving a room, are serialized by the scheduling services.
+ */
+public class ConcurrentRoomRepository implements RoomRepository {
+    private final RoomRepository delegate;
+    private final RepositoryLock lock = new RepositoryLock();
+
+    /**
+     * Creates a thread-safe view of a repository.
+     *
+     * @param delegate The repository, which must not be used directly afterwards
+     */
+    public ConcurrentRoomRepository(RoomRepository delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void save(Room room) {
+        lock.write(() -> delegate.save(room));
+    }
+
+    @Override
+    public void saveAll(Collection<Room> rooms) {
+        lock.write(() -> delegate.saveAll(rooms));
+    }
+
+    @Override
+    public boolean saveIfUnchanged(Room room, long version) {
+        return lock.writeAndGet(() -> delegate.saveIfUnchanged(room, version));
+    }
+
+    @Override
+    public Optional<Room> findById(UUID id) {
+        return lock.readOptimistically(() -> delegate.findById(id));
+    }
+
+    @Override
+    public boolean existsById(UUID id) {
+        return lock.readOptimistically(() -> delegate.existsById(id));
+    }
+
+    @Override
+    public long count() {
+        return lock.readOptimistically(delegate::count);
+    }
+
+    @Override
+    public List<Room> findAll() {
+        return lock.read(delegate::findAll);
+    }
+
+    @Override
+    public Stream<Room> streamAll() {
+        return findAll().stream();
+    }
+
+    @Override
+    public List<Room> findPage(PageRequest page) {
+        return lock.read(() -> delegate.findPage(page));
+    }
+
+    @Override
+    public List<Room> findByType(RoomType type) {
+        return lock.read(() -> delegate.findByType(type));
+    }
+
+    @Override
+    public long countByType(RoomType type) {
+        return lock.read(() -> delegate.countByType(type));
+    }
+
+    @Override
+    public List<Room> findAvailable() {
+        return lock.read(delegate::findAvailable);
+    }
+
+    @Override
+    public List<Room> findAvailableByType(RoomType type) {
+        return lock.read(() -> delegate.findAvailableByType(type));
+    }
+
+    @Override
+    public long countAvailableByType(RoomType type) {
+        return lock.read(() -> delegate.countAvailableByType(type));
+    }
+
+    @Override
+    public List<Room> findBooked() {
+        return lock.read(delegate::findBooked);
+    }
+
+    @Override
+    public long countBooked() {
+        return lock.read(delegate::countBooked);
+    }
+
+    @Override
+    public Optional<Room> allocate(RoomType type) {
+        return lock.writeAndGet(() -> delegate.allocate(type));
+    }
+
+    @Override
+    public boolean book(Room room, long version) {
+        return lock.writeAndGet(() -> delegate.book(room, version));
+    }
+
+    @Override
+    public void release(Room room) {
+        lock.write(() -> delegate.release(room));
+    }
+
+    @Override
+    public Optional<Room> reserve(RoomType type, LocalDateTime start, LocalDateTime end) {
+        return lock.writeAndGet(() -> delegate.reserve(type, start, end));
+    }
+
+    @Override
+    public void deleteById(UUID id) {
+        lock.write(() -> delegate.deleteById(id));
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        lock.write(() -> delegate.deleteAllById(ids));
+    }
+}
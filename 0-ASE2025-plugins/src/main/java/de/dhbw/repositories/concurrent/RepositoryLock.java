@@ -0,0 +1,84 @@
+package de.dhbw.repositories.concurrent;
+
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Supplier;
+
+/**
+ * Guards one repository with a {@link StampedLock}.
+ * <p>
+ * Writes are exclusive, so the repository's maps, indexes and files are only ever changed by one
+ * thread at a time. Queries share the read lock with each other. Point lookups like
+ * {@code findById} run as optimistic reads instead, which take no lock at all: the result is only
+ * used if no write started in the meantime, otherwise the lookup is repeated under the read lock.
+ * The lock is not reentrant, so the guarded repository must not call back into its decorator.
+ */
+public class RepositoryLock {
+    private final StampedLock lock = new StampedLock();
+
+    /**
+     * Runs a query under the shared read lock.
+     *
+     * @param query The query
+     * @return The result of the query
+     */
+    public <R> R read(Supplier<R> query) {
+        long stamp = lock.readLock();
+        try {
+            return query.get();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Runs a cheap query, like a single map lookup, as an optimistic read without taking the lock.
+     * If a write started while the query ran, its result may be torn, or the query may have failed
+     * on a map half-way through a change, so the query is repeated under the read lock.
+     *
+     * @param query The query, which must not have side effects
+     * @return The result of the query
+     */
+    public <R> R readOptimistically(Supplier<R> query) {
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                R result = query.get();
+                if (lock.validate(stamp)) {
+                    return result;
+                }
+            } catch (RuntimeException e) {
+                // Raced with a write, the locked read below gives the real outcome
+            }
+        }
+        return read(query);
+    }
+
+    /**
+     * Runs a modification under the exclusive write lock.
+     *
+     * @param modification The modification
+     */
+    public void write(Runnable modification) {
+        long stamp = lock.writeLock();
+        try {
+            modification.run();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Runs a modification that returns a result under the exclusive write lock.
+     *
+     * @param modification The modification
+     * @return The result of the modification
+     */
+    public <R> R writeAndGet(Supplier<R> modification) {
+        long stamp = lock.writeLock();
+        try {
+            return modification.get();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+}
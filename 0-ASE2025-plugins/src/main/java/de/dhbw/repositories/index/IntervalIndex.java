@@ -0,0 +1,208 @@
+package de.dhbw.repositories.index;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keeps the time spans of entities per owner sorted by start, e.g. the interrogations of every officer,
+ * and answers whether a span {@code [start, end)} overlaps any of them.
+ * <p>
+ * Every schedule counts the lengths of its spans, so it knows its longest span even after removals.
+ * A span ending after {@code start} cannot begin earlier than {@code start} minus that length, so an
+ * overlap query only seeks to that point and walks the spans beginning before {@code end}. With
+ * sessions of bounded length this costs O(log n) plus the few spans in the window, however long the
+ * schedule is. Like the maps of the repositories it is not thread-safe on its own.
+ *
+ * @param <T> The type of the entity
+ */
+public class IntervalIndex<T> {
+    private final Function<T, UUID> ownerExtractor;
+    private final Function<T, LocalDateTime> startExtractor;
+    private final Function<T, LocalDateTime> endExtractor;
+    private final Function<T, UUID> idExtractor;
+    private final Map<UUID, Schedule> schedules = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param ownerExtractor Extracts the ID of the owner whose schedule the entity belongs to
+     * @param startExtractor Extracts the inclusive start of the span
+     * @param endExtractor Extracts the exclusive end of the span
+     * @param idExtractor Extracts the ID of an entity
+     */
+    public IntervalIndex(Function<T, UUID> ownerExtractor, Function<T, LocalDateTime> startExtractor,
+                         Function<T, LocalDateTime> endExtractor, Function<T, UUID> idExtractor) {
+        this.ownerExtractor = ownerExtractor;
+        this.startExtractor = startExtractor;
+        this.endExtractor = endExtractor;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Adds an entity to the schedule of its owner.
+     *
+     * @param entity The entity
+     */
+    public void add(T entity) {
+        LocalDateTime start = startExtractor.apply(entity);
+        LocalDateTime end = endExtractor.apply(entity);
+        Schedule schedule = schedules.computeIfAbsent(ownerExtractor.apply(entity), owner -> new Schedule());
+        LocalDateTime previousEnd = schedule.spans.computeIfAbsent(start, time -> new LinkedHashMap<>())
+                .put(idExtractor.apply(entity), end);
+        if (previousEnd != null) {
+            schedule.lengths.merge(Duration.between(start, previousEnd), -1, Schedule::sumOrNull);
+        }
+        schedule.lengths.merge(Duration.between(start, end), 1, Integer::sum);
+    }
+
+    /**
+     * Moves a saved entity to its new span or owner. An entity whose span and owner are unchanged
+     * keeps its position among the spans with the same start.
+     *
+     * @param previous The entity as it was added
+     * @param current The saved entity
+     */
+    public void update(T previous, T current) {
+        if (ownerExtractor.apply(previous).equals(ownerExtractor.apply(current))
+                && startExtractor.apply(previous).equals(startExtractor.apply(current))
+                && endExtractor.apply(previous).equals(endExtractor.apply(current))) {
+            return;
+        }
+        remove(previous);
+        add(current);
+    }
+
+    /**
+     * Removes an entity from the schedule of its owner. Empty schedules are dropped.
+     *
+     * @param entity The entity as it was added
+     */
+    public void remove(T entity) {
+        UUID owner = ownerExtractor.apply(entity);
+        Schedule schedule = schedules.get(owner);
+        if (schedule == null) {
+            return;
+        }
+
+        LocalDateTime start = startExtractor.apply(entity);
+        Map<UUID, LocalDateTime> group = schedule.spans.get(start);
+        LocalDateTime end = group == null ? null : group.remove(idExtractor.apply(entity));
+        if (end == null) {
+            return;
+        }
+
+        schedule.lengths.merge(Duration.between(start, end), -1, Schedule::sumOrNull);
+        if (group.isEmpty()) {
+            schedule.spans.remove(start);
+            if (schedule.spans.isEmpty()) {
+                schedules.remove(owner);
+            }
+        }
+    }
+
+    /**
+     * Checks whether any span of an owner overlaps a span. Spans that merely touch do not overlap.
+     *
+     * @param owner The owner ID
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @return true if the owner is busy at some moment of the span
+     */
+    public boolean overlaps(UUID owner, LocalDateTime start, LocalDateTime end) {
+        Schedule schedule = schedules.get(owner);
+        if (schedule == null || !start.isBefore(end)) {
+            return false;
+        }
+
+        for (Map<UUID, LocalDateTime> group : schedule.window(start, end).values()) {
+            for (LocalDateTime spanEnd : group.values()) {
+                if (spanEnd.isAfter(start)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Gets the IDs of the entities of an owner whose spans overlap a span.
+     *
+     * @param owner The owner ID
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @return The IDs sorted by start
+     */
+    public List<UUID> overlapping(UUID owner, LocalDateTime start, LocalDateTime end) {
+        List<UUID> ids = new ArrayList<>();
+        Schedule schedule = schedules.get(owner);
+        if (schedule == null || !start.isBefore(end)) {
+            return ids;
+        }
+
+        for (Map<UUID, LocalDateTime> group : schedule.window(start, end).values()) {
+            for (Map.Entry<UUID, LocalDateTime> span : group.entrySet()) {
+                if (span.getValue().isAfter(start)) {
+                    ids.add(span.getKey());
+                }
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * Gets the length of the longest span of any owner.
+     *
+     * @return The longest length, zero if the index is empty
+     */
+    public Duration longest() {
+        Duration longest = Duration.ZERO;
+        for (Schedule schedule : schedules.values()) {
+            Duration length = schedule.lengths.lastKey();
+            if (length.compareTo(longest) > 0) {
+                longest = length;
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        schedules.clear();
+    }
+
+    /**
+     * The spans of one owner, grouped by start and mapping entity IDs to their end, and the number
+     * of spans of every length.
+     */
+    private static class Schedule {
+        private final NavigableMap<LocalDateTime, Map<UUID, LocalDateTime>> spans = new TreeMap<>();
+        private final NavigableMap<Duration, Integer> lengths = new TreeMap<>();
+
+        /**
+         * Gets the spans that can overlap {@code [start, end)}: those beginning before {@code end},
+         * but no earlier than the longest span before {@code start}.
+         */
+        private NavigableMap<LocalDateTime, Map<UUID, LocalDateTime>> window(LocalDateTime start, LocalDateTime end) {
+            return spans.subMap(start.minus(lengths.lastKey()), false, end, false);
+        }
+
+        /**
+         * Adds two counts, dropping the length from the map once no span has it.
+         */
+        private static Integer sumOrNull(Integer count, Integer change) {
+            int sum = count + change;
+            return sum == 0 ? null : sum;
+        }
+    }
+}
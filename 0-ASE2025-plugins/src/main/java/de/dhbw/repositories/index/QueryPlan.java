@@ -0,0 +1,54 @@
+package de.dhbw.repositories.index;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * The outcome of a {@link QueryPlanner}: the candidate IDs to verify and the steps that produced them.
+ */
+public class QueryPlan {
+    private final Collection<UUID> candidates;
+    private final List<String> steps;
+
+    QueryPlan(Collection<UUID> candidates, List<String> steps) {
+        this.candidates = candidates;
+        this.steps = List.copyOf(steps);
+    }
+
+    /**
+     * Checks whether no index applies, so every entity has to be verified.
+     *
+     * @return true for a full scan
+     */
+    public boolean isFullScan() {
+        return candidates == null;
+    }
+
+    /**
+     * Gets the IDs of the entities that may match. They still have to be verified against the criteria.
+     *
+     * @return The candidate IDs, in the order of the index that drove the query
+     * @throws IllegalStateException If the plan is a full scan
+     */
+    public Collection<UUID> getCandidates() {
+        if (candidates == null) {
+            throw new IllegalStateException("A full scan has no candidate set");
+        }
+        return candidates;
+    }
+
+    /**
+     * Gets the steps of the plan in execution order, e.g. for an explain output.
+     *
+     * @return The steps
+     */
+    public List<String> getSteps() {
+        return steps;
+    }
+
+    @Override
+    public String toString() {
+        return String.join(System.lineSeparator(), steps);
+    }
+}
@@ -0,0 +1,151 @@
+package de.dhbw.repositories.index;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.IntUnaryOperator;
+import java.util.function.Supplier;
+
+/**
+ * Chooses how a query is answered from the indexes of a repository.
+ * <p>
+ * The repository registers an access path for every filter one of its indexes can answer: a
+ * lookup when the index returns a ready set of IDs, e.g. a {@link SecondaryIndex}, or a range when
+ * the IDs have to be collected, e.g. from a {@link TimeIndex}. The planner drives the query from
+ * the most selective path and intersects its IDs with the other lookups, which are cheap to probe.
+ * Ranges that do not drive the query are not collected. Filters without an index are left to the
+ * caller, which verifies every candidate against the complete criteria. Without any access path
+ * the plan is a full scan.
+ */
+public class QueryPlanner {
+    private final String entityName;
+    private final int entityCount;
+    private final List<Lookup> lookups = new ArrayList<>();
+    private final List<Range> ranges = new ArrayList<>();
+
+    /**
+     * Creates a planner for one query.
+     *
+     * @param entityName The plural name of the queried entities, used to describe the plan
+     * @param entityCount The number of stored entities
+     */
+    public QueryPlanner(String entityName, int entityCount) {
+        this.entityName = entityName;
+        this.entityCount = entityCount;
+    }
+
+    /**
+     * Adds a filter answered by a set of IDs, e.g. a secondary index lookup.
+     *
+     * @param name The name of the index
+     * @param ids The IDs of the entities matching the filter
+     * @return This planner
+     */
+    public QueryPlanner lookup(String name, Set<UUID> ids) {
+        lookups.add(new Lookup(name, ids));
+        return this;
+    }
+
+    /**
+     * Adds a filter answered by a range scan, e.g. over a time index.
+     *
+     * @param name The name of the index
+     * @param estimate Counts the entities in the range, but may stop once the given limit is exceeded
+     * @param ids Collects the IDs of the entities in the range
+     * @return This planner
+     */
+    public QueryPlanner range(String name, IntUnaryOperator estimate, Supplier<Collection<UUID>> ids) {
+        ranges.add(new Range(name, estimate, ids));
+        return this;
+    }
+
+    /**
+     * Chooses the access paths and collects the candidate IDs.
+     *
+     * @return The plan
+     */
+    public QueryPlan plan() {
+        List<String> steps = new ArrayList<>();
+        if (lookups.isEmpty() && ranges.isEmpty()) {
+            steps.add("full scan of " + entityCount + " " + entityName);
+            return new QueryPlan(null, steps);
+        }
+
+        lookups.sort(Comparator.comparingInt(lookup -> lookup.ids.size()));
+
+        // Ranges only have to be counted as far as the smallest lookup, which they need to beat
+        int bound = lookups.isEmpty() ? entityCount : lookups.get(0).ids.size();
+        Range drivingRange = null;
+        int drivingRangeSize = bound;
+        for (Range range : ranges) {
+            int size = range.estimate.applyAsInt(bound);
+            if (size < drivingRangeSize || (lookups.isEmpty() && drivingRange == null)) {
+                drivingRange = range;
+                drivingRangeSize = size;
+            }
+        }
+
+        Collection<UUID> driver;
+        List<Lookup> probes = new ArrayList<>(lookups);
+        if (drivingRange != null) {
+            driver = drivingRange.ids.get();
+            steps.add("range scan " + drivingRange.name + " (" + driver.size() + " ids)");
+        } else {
+            Lookup drivingLookup = probes.remove(0);
+            driver = drivingLookup.ids;
+            steps.add("index lookup " + drivingLookup.name + " (" + driver.size() + " ids)");
+        }
+
+        List<UUID> candidates = new ArrayList<>();
+        for (UUID id : driver) {
+            if (containedInAll(id, probes)) {
+                candidates.add(id);
+            }
+        }
+
+        for (Lookup probe : probes) {
+            steps.add("intersect " + probe.name + " (" + probe.ids.size() + " ids)");
+        }
+        for (Range range : ranges) {
+            if (range != drivingRange) {
+                steps.add("skip " + range.name + ", checked while verifying");
+            }
+        }
+        steps.add(candidates.size() + " of " + entityCount + " " + entityName + " left to verify");
+        return new QueryPlan(candidates, steps);
+    }
+
+    private static boolean containedInAll(UUID id, List<Lookup> probes) {
+        for (Lookup probe : probes) {
+            if (!probe.ids.contains(id)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Lookup {
+        private final String name;
+        private final Set<UUID> ids;
+
+        Lookup(String name, Set<UUID> ids) {
+            this.name = name;
+            this.ids = ids;
+        }
+    }
+
+    private static class Range {
+        private final String name;
+        private final IntUnaryOperator estimate;
+        private final Supplier<Collection<UUID>> ids;
+
+        Range(String name, IntUnaryOperator estimate, Supplier<Collection<UUID>> ids) {
+            this.name = name;
+            this.estimate = estimate;
+            this.ids = ids;
+        }
+    }
+}
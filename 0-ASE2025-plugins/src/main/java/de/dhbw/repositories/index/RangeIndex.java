@@ -0,0 +1,101 @@
+package de.dhbw.repositories.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keeps entity IDs sorted by a comparable attribute that may change over the entity's lifetime,
+ * e.g. the rank level of an officer.
+ * <p>
+ * The key an entity was indexed under is remembered, so re-adding an entity that was mutated in
+ * place (such as a promoted officer) moves it to its new key. Range queries cost
+ * O(log n + result size) and return IDs in ascending key order.
+ * Like the maps of the repositories it is not thread-safe on its own.
+ *
+ * @param <K> The type of the indexed attribute
+ * @param <T> The type of the entity
+ */
+public class RangeIndex<K extends Comparable<K>, T> {
+    private final Function<T, K> keyExtractor;
+    private final Function<T, UUID> idExtractor;
+    private final NavigableMap<K, Set<UUID>> entries = new TreeMap<>();
+    private final Map<UUID, K> indexedKeys = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param keyExtractor Extracts the indexed attribute from an entity
+     * @param idExtractor Extracts the ID of an entity
+     */
+    public RangeIndex(Function<T, K> keyExtractor, Function<T, UUID> idExtractor) {
+        this.keyExtractor = keyExtractor;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Adds an entity to the index, or moves it if its attribute changed since it was added.
+     *
+     * @param entity The entity
+     */
+    public void add(T entity) {
+        UUID id = idExtractor.apply(entity);
+        K key = keyExtractor.apply(entity);
+        K previousKey = indexedKeys.put(id, key);
+        if (previousKey != null) {
+            if (previousKey.compareTo(key) == 0) {
+                return;
+            }
+            removeEntry(previousKey, id);
+        }
+        entries.computeIfAbsent(key, k -> new LinkedHashSet<>()).add(id);
+    }
+
+    /**
+     * Removes the entity with the given ID from the index.
+     *
+     * @param id The entity ID
+     */
+    public void remove(UUID id) {
+        K key = indexedKeys.remove(id);
+        if (key != null) {
+            removeEntry(key, id);
+        }
+    }
+
+    /**
+     * Gets the IDs of all entities whose attribute is at least the given value.
+     *
+     * @param minimum The inclusive lower bound
+     * @return The IDs in ascending key order
+     */
+    public List<UUID> atLeast(K minimum) {
+        List<UUID> ids = new ArrayList<>();
+        for (Set<UUID> group : entries.tailMap(minimum, true).values()) {
+            ids.addAll(group);
+        }
+        return ids;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entries.clear();
+        indexedKeys.clear();
+    }
+
+    private void removeEntry(K key, UUID id) {
+        Set<UUID> ids = entries.get(key);
+        if (ids != null && ids.remove(id) && ids.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+}
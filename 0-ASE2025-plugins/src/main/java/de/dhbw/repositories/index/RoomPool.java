@@ -0,0 +1,176 @@
+package de.dhbw.repositories.index;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.valueobjects.RoomType;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The available and the booked rooms of a repository, grouped by room type.
+ * <p>
+ * The owning repository calls {@link #update} whenever a room is saved, and books and releases rooms
+ * through its own {@code book}, {@code release} and {@code allocate}, which save the change right away.
+ * The pool is therefore authoritative, lookups and counts do not check the rooms again. Like the maps of the
+ * repositories it is not thread-safe on its own.
+ */
+public class RoomPool {
+    private final Map<RoomType, Map<UUID, Room>> availableRooms = new EnumMap<>(RoomType.class);
+    private final Map<RoomType, Map<UUID, Room>> bookedRooms = new EnumMap<>(RoomType.class);
+    private int bookedCount;
+
+    /**
+     * Creates an empty pool.
+     */
+    public RoomPool() {
+        for (RoomType type : RoomType.values()) {
+            availableRooms.put(type, new LinkedHashMap<>());
+            bookedRooms.put(type, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Files a saved room under the available or the booked rooms of its type.
+     *
+     * @param room The saved room
+     */
+    public void update(Room room) {
+        Map<UUID, Room> available = availableRooms.get(room.getType());
+        Map<UUID, Room> booked = bookedRooms.get(room.getType());
+        if (room.isAvailable()) {
+            available.put(room.getId(), room);
+            if (booked.remove(room.getId()) != null) {
+                bookedCount--;
+            }
+        } else {
+            available.remove(room.getId());
+            if (booked.put(room.getId(), room) == null) {
+                bookedCount++;
+            }
+        }
+    }
+
+    /**
+     * Removes a deleted room from the pool.
+     *
+     * @param room The deleted room
+     */
+    public void remove(Room room) {
+        availableRooms.get(room.getType()).remove(room.getId());
+        if (bookedRooms.get(room.getType()).remove(room.getId()) != null) {
+            bookedCount--;
+        }
+    }
+
+    /**
+     * Takes the first available room of a type out of the pool and books it. The owning repository
+     * saves the room afterwards, which keeps it out of the pool.
+     *
+     * @param type The room type
+     * @return The booked room, or {@code null} if no room of the type is available
+     */
+    public Room allocate(RoomType type) {
+        Iterator<Room> iterator = availableRooms.get(type).values().iterator();
+        while (iterator.hasNext()) {
+            Room room = iterator.next();
+            iterator.remove();
+            // A room booked behind the repository's back is dropped, its next save puts it back
+            if (room.tryBook()) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Reserves a span in the first available room of a type whose calendar is free during it.
+     * Only the rooms of that type are visited, in pool order, and none of them is copied. Unlike
+     * {@link #allocate} it has to look at the calendars, since rooms stay in the pool while they
+     * have reservations.
+     *
+     * @param type The room type
+     * @param start The inclusive start of the span
+     * @param end The exclusive end of the span
+     * @return The room whose slots were reserved, or {@code null} if no room of the type is free
+     */
+    public Room reserve(RoomType type, LocalDateTime start, LocalDateTime end) {
+        for (Room room : availableRooms.get(type).values()) {
+            if (room.getCalendar().tryReserve(start, end)) {
+                return room;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Gets the available rooms of a type.
+     *
+     * @param type The room type
+     * @return The available rooms
+     */
+    public List<Room> get(RoomType type) {
+        return new ArrayList<>(availableRooms.get(type).values());
+    }
+
+    /**
+     * Counts the available rooms of a type without copying them.
+     *
+     * @param type The room type
+     * @return The number of available rooms
+     */
+    public int count(RoomType type) {
+        return availableRooms.get(type).size();
+    }
+
+    /**
+     * Gets the available rooms of all types.
+     *
+     * @return The available rooms
+     */
+    public List<Room> getAll() {
+        List<Room> result = new ArrayList<>();
+        for (RoomType type : availableRooms.keySet()) {
+            result.addAll(get(type));
+        }
+        return result;
+    }
+
+    /**
+     * Gets the booked rooms of all types.
+     *
+     * @return The booked rooms
+     */
+    public List<Room> getBooked() {
+        List<Room> result = new ArrayList<>(bookedCount);
+        for (Map<UUID, Room> rooms : bookedRooms.values()) {
+            result.addAll(rooms.values());
+        }
+        return result;
+    }
+
+    /**
+     * Counts the booked rooms of all types without copying them.
+     *
+     * @return The number of booked rooms
+     */
+    public int countBooked() {
+        return bookedCount;
+    }
+
+    /**
+     * Removes all rooms.
+     */
+    public void clear() {
+        for (RoomType type : RoomType.values()) {
+            availableRooms.get(type).clear();
+            bookedRooms.get(type).clear();
+        }
+        bookedCount = 0;
+    }
+}
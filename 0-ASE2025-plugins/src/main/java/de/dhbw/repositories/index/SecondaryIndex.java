@@ -0,0 +1,94 @@
+package de.dhbw.repositories.index;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Maps an attribute of an entity to the IDs of all entities having that attribute value,
+ * e.g. officer ID to interrogation IDs.
+ * <p>
+ * The owning repository keeps the index in sync by calling {@link #add} and {@link #remove}
+ * from its save and delete operations, so lookups cost O(result size) instead of a full scan.
+ * IDs are returned in the order they were added, which matches the order of a filter over the
+ * repository's insertion-ordered map as long as updates go through {@link #update}.
+ * Like the maps of the repositories it is not thread-safe on its own.
+ *
+ * @param <K> The type of the indexed attribute
+ * @param <T> The type of the entity
+ */
+public class SecondaryIndex<K, T> {
+    private final Function<T, K> keyExtractor;
+    private final Function<T, UUID> idExtractor;
+    private final Map<K, Set<UUID>> entries = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param keyExtractor Extracts the indexed attribute from an entity
+     * @param idExtractor Extracts the ID of an entity
+     */
+    public SecondaryIndex(Function<T, K> keyExtractor, Function<T, UUID> idExtractor) {
+        this.keyExtractor = keyExtractor;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Adds an entity to the index.
+     *
+     * @param entity The entity
+     */
+    public void add(T entity) {
+        entries.computeIfAbsent(keyExtractor.apply(entity), key -> new LinkedHashSet<>()).add(idExtractor.apply(entity));
+    }
+
+    /**
+     * Removes an entity from the index. Keys without entities are dropped.
+     *
+     * @param entity The entity as it was added
+     */
+    public void remove(T entity) {
+        K key = keyExtractor.apply(entity);
+        Set<UUID> ids = entries.get(key);
+        if (ids != null && ids.remove(idExtractor.apply(entity)) && ids.isEmpty()) {
+            entries.remove(key);
+        }
+    }
+
+    /**
+     * Replaces a saved entity by its new state. If the attribute value did not change, the entity
+     * keeps its position; otherwise it is moved to the end of the IDs for its new value.
+     *
+     * @param previous The entity as it was added
+     * @param current The new state of the entity
+     */
+    public void update(T previous, T current) {
+        if (!Objects.equals(keyExtractor.apply(previous), keyExtractor.apply(current))) {
+            remove(previous);
+            add(current);
+        }
+    }
+
+    /**
+     * Gets the IDs of all entities with the given attribute value.
+     *
+     * @param key The attribute value
+     * @return An unmodifiable view of the matching IDs, empty if there are none
+     */
+    public Set<UUID> get(K key) {
+        Set<UUID> ids = entries.get(key);
+        return ids == null ? Collections.emptySet() : Collections.unmodifiableSet(ids);
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+}
@@ -0,0 +1,84 @@
+package de.dhbw.repositories.index;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Dictionary of a small vocabulary of repeated strings, e.g. crimes.
+ * <p>
+ * Each term is assigned a small integer code, terms that differ only in case share a code.
+ * The dictionary also interns the exact spellings it has seen, so that entities loaded from
+ * a file can share one string instance per spelling instead of holding millions of copies.
+ * Terms are never removed. Like the maps of the repositories it is not thread-safe on its own.
+ */
+public class TermDictionary {
+    private final Map<String, String> spellings = new HashMap<>();
+    private final Map<String, Integer> codes = new HashMap<>();
+    private final List<String> terms = new ArrayList<>();
+
+    /**
+     * Gets the shared instance of a spelling, registering the term if it is new.
+     *
+     * @param term The term
+     * @return An equal string shared by all callers
+     */
+    public String intern(String term) {
+        String spelling = spellings.putIfAbsent(term, term);
+        codeOf(term);
+        return spelling == null ? term : spelling;
+    }
+
+    /**
+     * Gets the code of a term, assigning the next free code if it is new.
+     *
+     * @param term The term, compared ignoring case
+     * @return The code
+     */
+    public int codeOf(String term) {
+        String folded = fold(term);
+        Integer code = codes.get(folded);
+        if (code == null) {
+            code = terms.size();
+            codes.put(folded, code);
+            terms.add(term);
+        }
+        return code;
+    }
+
+    /**
+     * Looks up the code of a term without registering it.
+     *
+     * @param term The term, compared ignoring case
+     * @return The code, or -1 if the term is unknown
+     */
+    public int find(String term) {
+        Integer code = codes.get(fold(term));
+        return code == null ? -1 : code;
+    }
+
+    /**
+     * Gets the first spelling registered for a code.
+     *
+     * @param code The code
+     * @return The term
+     */
+    public String termOf(int code) {
+        return terms.get(code);
+    }
+
+    /**
+     * Gets the number of distinct terms.
+     *
+     * @return The number of codes assigned
+     */
+    public int size() {
+        return terms.size();
+    }
+
+    private static String fold(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+}
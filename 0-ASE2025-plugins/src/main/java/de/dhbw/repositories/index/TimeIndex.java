@@ -0,0 +1,170 @@
+package de.dhbw.repositories.index;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Keeps the IDs of entities sorted by a point in time, e.g. the scheduled time of interrogations.
+ * <p>
+ * Range queries seek to the start of the range and walk it in order, so they cost
+ * O(log n + result size) and return the IDs sorted by time. Entities sharing a time are
+ * returned in insertion order. Like the maps of the repositories it is not thread-safe on its own.
+ *
+ * @param <T> The type of the entity
+ */
+public class TimeIndex<T> {
+    private final Function<T, LocalDateTime> timeExtractor;
+    private final Function<T, UUID> idExtractor;
+    private final NavigableMap<LocalDateTime, Set<UUID>> entries = new TreeMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param timeExtractor Extracts the indexed time from an entity
+     * @param idExtractor Extracts the ID of an entity
+     */
+    public TimeIndex(Function<T, LocalDateTime> timeExtractor, Function<T, UUID> idExtractor) {
+        this.timeExtractor = timeExtractor;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Adds an entity to the index.
+     *
+     * @param entity The entity
+     */
+    public void add(T entity) {
+        entries.computeIfAbsent(timeExtractor.apply(entity), time -> new LinkedHashSet<>())
+                .add(idExtractor.apply(entity));
+    }
+
+    /**
+     * Removes an entity from the index. Times without entities are dropped.
+     *
+     * @param entity The entity as it was added
+     */
+    public void remove(T entity) {
+        LocalDateTime time = timeExtractor.apply(entity);
+        Set<UUID> ids = entries.get(time);
+        if (ids != null && ids.remove(idExtractor.apply(entity)) && ids.isEmpty()) {
+            entries.remove(time);
+        }
+    }
+
+    /**
+     * Replaces a saved entity by its new state. If its time did not change, the entity keeps its
+     * position among the entities sharing that time.
+     *
+     * @param previous The entity as it was added
+     * @param current The new state of the entity
+     */
+    public void update(T previous, T current) {
+        if (!timeExtractor.apply(previous).equals(timeExtractor.apply(current))) {
+            remove(previous);
+            add(current);
+        }
+    }
+
+    /**
+     * Gets the IDs of all entities strictly between two times.
+     *
+     * @param start The exclusive start
+     * @param end The exclusive end
+     * @return The IDs sorted by time, empty if the range is empty
+     */
+    public List<UUID> between(LocalDateTime start, LocalDateTime end) {
+        if (!start.isBefore(end)) {
+            return new ArrayList<>();
+        }
+        return collect(entries.subMap(start, false, end, false).values());
+    }
+
+    /**
+     * Gets the IDs of all entities on a day.
+     *
+     * @param date The day
+     * @return The IDs sorted by time
+     */
+    public List<UUID> on(LocalDate date) {
+        return collect(entries.subMap(date.atStartOfDay(), true, date.plusDays(1).atStartOfDay(), false).values());
+    }
+
+    /**
+     * Gets the IDs of all entities strictly after a time.
+     *
+     * @param time The exclusive lower bound
+     * @return The IDs sorted by time
+     */
+    public List<UUID> after(LocalDateTime time) {
+        return collect(entries.tailMap(time, false).values());
+    }
+
+    /**
+     * Gets the IDs of all entities in a half-open range. Either bound may be {@code null} for an open end.
+     *
+     * @param from The inclusive start, or {@code null}
+     * @param to The exclusive end, or {@code null}
+     * @return The IDs sorted by time
+     */
+    public List<UUID> range(LocalDateTime from, LocalDateTime to) {
+        return collect(slice(from, to).values());
+    }
+
+    /**
+     * Counts the entities in a half-open range, but stops counting once the limit is exceeded.
+     * This keeps estimating a wide range as cheap as estimating a narrow one.
+     *
+     * @param from The inclusive start, or {@code null}
+     * @param to The exclusive end, or {@code null}
+     * @param limit The count after which counting stops
+     * @return The number of entities in the range, at most {@code limit + 1}
+     */
+    public int count(LocalDateTime from, LocalDateTime to, int limit) {
+        int count = 0;
+        for (Set<UUID> group : slice(from, to).values()) {
+            count += group.size();
+            if (count > limit) {
+                return limit + 1;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    private NavigableMap<LocalDateTime, Set<UUID>> slice(LocalDateTime from, LocalDateTime to) {
+        if (from != null && to != null) {
+            return from.isBefore(to) ? entries.subMap(from, true, to, false) : Collections.emptyNavigableMap();
+        }
+        if (from != null) {
+            return entries.tailMap(from, true);
+        }
+        if (to != null) {
+            return entries.headMap(to, false);
+        }
+        return entries;
+    }
+
+    private static List<UUID> collect(Collection<Set<UUID>> groups) {
+        List<UUID> ids = new ArrayList<>();
+        for (Set<UUID> group : groups) {
+            ids.addAll(group);
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,179 @@
+package de.dhbw.repositories.index;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Case-insensitive substring search over a text attribute, e.g. detainee names.
+ * <p>
+ * Every case-folded text is split into overlapping trigrams, and each trigram maps to the IDs of the
+ * entities containing it. A search intersects the posting lists of the query's trigrams, starting
+ * with the smallest, and only verifies the remaining candidates with {@link String#contains}.
+ * Queries shorter than a trigram fall back to scanning the folded texts. Trigrams are packed into a
+ * {@code long} so that indexing and searching do not create substrings.
+ * <p>
+ * Matches are returned in insertion order. Saving an entity with an unchanged text keeps its
+ * position, while an entity whose text changes moves to the end.
+ * Like the maps of the repositories it is not thread-safe on its own.
+ *
+ * @param <T> The type of the entity
+ */
+public class TrigramIndex<T> {
+    private static final int GRAM_LENGTH = 3;
+
+    private final Function<T, String> textExtractor;
+    private final Function<T, UUID> idExtractor;
+    private final Map<UUID, String> foldedTexts = new LinkedHashMap<>();
+    private final Map<Long, Set<UUID>> postings = new HashMap<>();
+
+    /**
+     * Creates an empty index.
+     *
+     * @param textExtractor Extracts the indexed text from an entity
+     * @param idExtractor Extracts the ID of an entity
+     */
+    public TrigramIndex(Function<T, String> textExtractor, Function<T, UUID> idExtractor) {
+        this.textExtractor = textExtractor;
+        this.idExtractor = idExtractor;
+    }
+
+    /**
+     * Adds an entity to the index, replacing the entry of an entity with the same ID.
+     *
+     * @param entity The entity
+     */
+    public void add(T entity) {
+        UUID id = idExtractor.apply(entity);
+        String folded = fold(textExtractor.apply(entity));
+        String previous = foldedTexts.get(id);
+        if (folded.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            remove(id);
+        }
+
+        foldedTexts.put(id, folded);
+        for (long gram : grams(folded)) {
+            postings.computeIfAbsent(gram, key -> new LinkedHashSet<>()).add(id);
+        }
+    }
+
+    /**
+     * Removes the entity with the given ID from the index.
+     *
+     * @param id The entity ID
+     */
+    public void remove(UUID id) {
+        String folded = foldedTexts.remove(id);
+        if (folded != null) {
+            removePostings(id, folded);
+        }
+    }
+
+    /**
+     * Finds the IDs of all entities whose text contains the query, ignoring case.
+     *
+     * @param query The substring to search for
+     * @return The matching IDs in insertion order
+     */
+    public List<UUID> search(String query) {
+        String foldedQuery = fold(query);
+        if (foldedQuery.length() < GRAM_LENGTH) {
+            return scan(foldedQuery);
+        }
+
+        long[] queryGrams = grams(foldedQuery);
+        List<Set<UUID>> lists = new ArrayList<>(queryGrams.length);
+        for (long gram : queryGrams) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids == null) {
+                return new ArrayList<>();
+            }
+            lists.add(ids);
+        }
+        lists.sort(Comparator.comparingInt(Set::size));
+
+        List<UUID> result = new ArrayList<>();
+        for (UUID candidate : lists.get(0)) {
+            if (containedInAll(candidate, lists) && foldedTexts.get(candidate).contains(foldedQuery)) {
+                result.add(candidate);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Removes all entries.
+     */
+    public void clear() {
+        foldedTexts.clear();
+        postings.clear();
+    }
+
+    private List<UUID> scan(String foldedQuery) {
+        List<UUID> result = new ArrayList<>();
+        for (Map.Entry<UUID, String> entry : foldedTexts.entrySet()) {
+            if (entry.getValue().contains(foldedQuery)) {
+                result.add(entry.getKey());
+            }
+        }
+        return result;
+    }
+
+    private static boolean containedInAll(UUID candidate, List<Set<UUID>> lists) {
+        for (int i = 1; i < lists.size(); i++) {
+            if (!lists.get(i).contains(candidate)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void removePostings(UUID id, String folded) {
+        for (long gram : grams(folded)) {
+            Set<UUID> ids = postings.get(gram);
+            if (ids != null && ids.remove(id) && ids.isEmpty()) {
+                postings.remove(gram);
+            }
+        }
+    }
+
+    private static String fold(String text) {
+        return text == null ? "" : text.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Gets the distinct trigrams of a folded text, each packed as three 16-bit characters.
+     */
+    private static long[] grams(String folded) {
+        int count = folded.length() - GRAM_LENGTH + 1;
+        if (count <= 0) {
+            return new long[0];
+        }
+
+        long[] grams = new long[count];
+        for (int i = 0; i < count; i++) {
+            grams[i] = ((long) folded.charAt(i) << 32) | ((long) folded.charAt(i + 1) << 16) | folded.charAt(i + 2);
+        }
+        Arrays.sort(grams);
+
+        int distinct = 1;
+        for (int i = 1; i < count; i++) {
+            if (grams[i] != grams[distinct - 1]) {
+                grams[distinct++] = grams[i];
+            }
+        }
+        return Arrays.copyOf(grams, distinct);
+    }
+}
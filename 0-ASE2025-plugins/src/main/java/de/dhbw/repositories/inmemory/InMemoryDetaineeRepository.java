@@ -2,20 +2,45 @@ package de.dhbw.repositories.inmemory;
 
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.repositories.index.TermDictionary;
+import de.dhbw.repositories.index.TrigramIndex;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of the DetaineeRepository interface.
  * This is used for temporary storage in the CLI application.
  */
 public class InMemoryDetaineeRepository implements DetaineeRepository {
-    private final Map<UUID, Detainee> detainees = new HashMap<>();
+    private final Map<UUID, Detainee> detainees = new LinkedHashMap<>();
+    private final TrigramIndex<Detainee> nameIndex = new TrigramIndex<>(Detainee::getName, Detainee::getId);
+    private final TermDictionary crimes = new TermDictionary();
+    private final SecondaryIndex<Integer, Detainee> crimeIndex =
+            new SecondaryIndex<>(detainee -> crimes.codeOf(detainee.getCrime()), Detainee::getId);
 
+    /**
+     * Saves the detainee with the shared instance of its crime spelling, see {@link #internCrime}.
+     */
     @Override
-    public void save(Detainee detainee) {
-        detainees.put(detainee.getId(), detainee);
+    public void save(Detainee saved) {
+        Detainee detainee = internCrime(saved);
+        Detainee previous = detainees.put(detainee.getId(), detainee);
+        nameIndex.add(detainee);
+        if (previous != null) {
+            crimeIndex.update(previous, detainee);
+        } else {
+            crimeIndex.add(detainee);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Detainee> batch) {
+        for (Detainee detainee : batch) {
+            save(detainee);
+        }
     }
 
     @Override
@@ -23,20 +48,36 @@ public class InMemoryDetaineeRepository implements DetaineeRepository {
         return Optional.ofNullable(detainees.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return detainees.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return detainees.size();
+    }
+
     @Override
     public List<Detainee> findByNameContaining(String name) {
-        String lowerCaseName = name.toLowerCase();
-        return detainees.values().stream()
-                .filter(detainee -> detainee.getName().toLowerCase().contains(lowerCaseName))
-                .collect(Collectors.toList());
+        List<Detainee> result = new ArrayList<>();
+        for (UUID id : nameIndex.search(name)) {
+            result.add(detainees.get(id));
+        }
+        return result;
     }
 
     @Override
     public List<Detainee> findByCrime(String crime) {
-        String lowerCaseCrime = crime.toLowerCase();
-        return detainees.values().stream()
-                .filter(detainee -> detainee.getCrime().toLowerCase().equals(lowerCaseCrime))
-                .collect(Collectors.toList());
+        List<Detainee> result = new ArrayList<>();
+        int code = crimes.find(crime);
+        if (code < 0) {
+            return result;
+        }
+        for (UUID id : crimeIndex.get(code)) {
+            result.add(detainees.get(id));
+        }
+        return result;
     }
 
     @Override
@@ -44,8 +85,46 @@ public class InMemoryDetaineeRepository implements DetaineeRepository {
         return new ArrayList<>(detainees.values());
     }
 
+    @Override
+    public Stream<Detainee> streamAll() {
+        return detainees.values().stream();
+    }
+
+    @Override
+    public List<Detainee> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public void deleteById(UUID id) {
-        detainees.remove(id);
+        Detainee removed = detainees.remove(id);
+        if (removed != null) {
+            nameIndex.remove(id);
+            crimeIndex.remove(removed);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
+
+    /**
+     * Replaces the crime of a detainee with the shared instance of its spelling.
+     *
+     * @param detainee The saved or loaded detainee
+     * @return The detainee with an interned crime
+     */
+    private Detainee internCrime(Detainee detainee) {
+        String crime = crimes.intern(detainee.getCrime());
+        if (crime == detainee.getCrime()) {
+            return detainee;
+        }
+        return Detainee.restore(detainee.getId(), detainee.getName(), crime);
     }
-}
\ No newline at end of file
+}
@@ -2,22 +2,45 @@ package de.dhbw.repositories.inmemory;
 
 import de.dhbw.aggregates.Meeting;
 import de.dhbw.repositories.MeetingRepository;
+import de.dhbw.repositories.index.IntervalIndex;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.repositories.index.TimeIndex;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of the MeetingRepository interface.
  * This is used for temporary storage in the CLI application.
  */
 public class InMemoryMeetingRepository implements MeetingRepository {
-    private final Map<UUID, Meeting> meetings = new HashMap<>();
+    private final Map<UUID, Meeting> meetings = new LinkedHashMap<>();
+    private final SecondaryIndex<UUID, Meeting> officerIndex =
+            new SecondaryIndex<>(meeting -> meeting.getOfficer().getId(), Meeting::getId);
+    private final SecondaryIndex<UUID, Meeting> roomIndex =
+            new SecondaryIndex<>(meeting -> meeting.getRoom().getId(), Meeting::getId);
+    private final TimeIndex<Meeting> timeIndex = new TimeIndex<>(Meeting::getScheduledAt, Meeting::getId);
+    private final IntervalIndex<Meeting> officerSchedule = new IntervalIndex<>(
+            meeting -> meeting.getOfficer().getId(), Meeting::getScheduledAt, Meeting::getEndsAt, Meeting::getId);
 
     @Override
     public void save(Meeting meeting) {
-        meetings.put(meeting.getId(), meeting);
+        Meeting previous = meetings.put(meeting.getId(), meeting);
+        if (previous != null) {
+            updateIndexes(previous, meeting);
+        } else {
+            addToIndexes(meeting);
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Meeting> batch) {
+        for (Meeting meeting : batch) {
+            save(meeting);
+        }
     }
 
     @Override
@@ -25,42 +48,132 @@ public class InMemoryMeetingRepository implements MeetingRepository {
         return Optional.ofNullable(meetings.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return meetings.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return meetings.size();
+    }
+
     @Override
     public List<Meeting> findAll() {
         return new ArrayList<>(meetings.values());
     }
 
+    @Override
+    public Stream<Meeting> streamAll() {
+        return meetings.values().stream();
+    }
+
+    @Override
+    public List<Meeting> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public List<Meeting> findByOfficerId(UUID officerId) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getOfficer().getId().equals(officerId))
-                .collect(Collectors.toList());
+        return findByIds(officerIndex.get(officerId));
+    }
+
+    @Override
+    public long countByOfficerId(UUID officerId) {
+        return officerIndex.get(officerId).size();
     }
 
     @Override
     public List<Meeting> findByRoomId(UUID roomId) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getRoom().getId().equals(roomId))
-                .collect(Collectors.toList());
+        return findByIds(roomIndex.get(roomId));
+    }
+
+    @Override
+    public long countByRoomId(UUID roomId) {
+        return roomIndex.get(roomId).size();
+    }
+
+    @Override
+    public List<Meeting> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByIds(officerSchedule.overlapping(officerId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return officerSchedule.overlaps(officerId, start, end);
     }
 
     @Override
     public List<Meeting> findByDate(LocalDate date) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getScheduledAt().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.on(date));
     }
 
     @Override
     public List<Meeting> findUpcoming() {
-        LocalDateTime now = LocalDateTime.now();
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getScheduledAt().isAfter(now))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.after(LocalDateTime.now()));
+    }
+
+    /**
+     * Looks the meetings up in the time index, starting no earlier than the longest meeting before the time.
+     */
+    @Override
+    public List<Meeting> findEndingAfter(LocalDateTime time) {
+        List<Meeting> result = new ArrayList<>();
+        for (Meeting meeting : findByIds(timeIndex.range(time.minus(officerSchedule.longest()), null))) {
+            if (meeting.getEndsAt().isAfter(time)) {
+                result.add(meeting);
+            }
+        }
+        return result;
     }
 
     @Override
     public void deleteById(UUID id) {
-        meetings.remove(id);
+        Meeting removed = meetings.remove(id);
+        if (removed != null) {
+            removeFromIndexes(removed);
+        }
+    }
+
+    @Override
+    public void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
+
+    private void addToIndexes(Meeting meeting) {
+        officerIndex.add(meeting);
+        roomIndex.add(meeting);
+        timeIndex.add(meeting);
+        officerSchedule.add(meeting);
+    }
+
+    private void updateIndexes(Meeting previous, Meeting meeting) {
+        officerIndex.update(previous, meeting);
+        roomIndex.update(previous, meeting);
+        timeIndex.update(previous, meeting);
+        officerSchedule.update(previous, meeting);
+    }
+
+    private void removeFromIndexes(Meeting meeting) {
+        officerIndex.remove(meeting);
+        roomIndex.remove(meeting);
+        timeIndex.remove(meeting);
+        officerSchedule.remove(meeting);
+    }
+
+    /**
+     * Resolves the IDs returned by an index lookup, keeping their order.
+     */
+    private List<Meeting> findByIds(Collection<UUID> ids) {
+        List<Meeting> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            result.add(meetings.get(id));
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -2,19 +2,33 @@ package de.dhbw.repositories.inmemory;
 
 import de.dhbw.aggregates.Officer;
 import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.index.RangeIndex;
+import de.dhbw.valueobjects.PageRequest;
+import de.dhbw.valueobjects.Rank;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of the OfficerRepository interface.
  * This is used for temporary storage in the CLI application.
  */
 public class InMemoryOfficerRepository implements OfficerRepository {
-    private final Map<UUID, Officer> officers = new HashMap<>();
+    private final Map<UUID, Officer> officers = new LinkedHashMap<>();
+    private final RangeIndex<Integer, Officer> rankIndex =
+            new RangeIndex<>(officer -> officer.getRank().getLevel(), Officer::getId);
 
     @Override
-    public void save(Officer officer) {
+    public synchronized void save(Officer officer) {
         officers.put(officer.getId(), officer);
+        rankIndex.add(officer);
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Officer> batch) {
+        for (Officer officer : batch) {
+            save(officer);
+        }
     }
 
     @Override
@@ -22,13 +36,53 @@ public class InMemoryOfficerRepository implements OfficerRepository {
         return Optional.ofNullable(officers.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return officers.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return officers.size();
+    }
+
     @Override
     public List<Officer> findAll() {
         return new ArrayList<>(officers.values());
     }
 
     @Override
-    public void deleteById(UUID id) {
+    public Stream<Officer> streamAll() {
+        return officers.values().stream();
+    }
+
+    @Override
+    public synchronized List<Officer> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
+    @Override
+    public synchronized List<Officer> findByMinimumRank(Rank minimumRank) {
+        List<Officer> result = new ArrayList<>();
+        for (UUID id : rankIndex.atLeast(minimumRank.getLevel())) {
+            result.add(officers.get(id));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
         officers.remove(id);
+        rankIndex.remove(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
     }
 }
\ No newline at end of file
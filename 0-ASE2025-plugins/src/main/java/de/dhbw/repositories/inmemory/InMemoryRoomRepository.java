@@ -2,21 +2,55 @@ package de.dhbw.repositories.inmemory;
 
 import de.dhbw.aggregates.Room;
 import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.index.RoomPool;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.valueobjects.PageRequest;
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * In-memory implementation of the RoomRepository interface.
  * This is used for temporary storage in the CLI application.
  */
 public class InMemoryRoomRepository implements RoomRepository {
-    private final Map<UUID, Room> rooms = new HashMap<>();
+    private final Map<UUID, Room> rooms = new LinkedHashMap<>();
+    private final SecondaryIndex<RoomType, Room> typeIndex = new SecondaryIndex<>(Room::getType, Room::getId);
+    private final RoomPool roomPool = new RoomPool();
 
+    /**
+     * Saves the room and drops past days from its calendar, so it only keeps days that can still be reserved.
+     */
     @Override
-    public void save(Room room) {
+    public synchronized void save(Room room) {
+        room.getCalendar().pruneBefore(LocalDate.now());
         rooms.put(room.getId(), room);
+        typeIndex.add(room);
+        roomPool.update(room);
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Room> batch) {
+        for (Room room : batch) {
+            save(room);
+        }
+    }
+
+    /**
+     * Saves the room under the repository's monitor unless its version, or that of the stored room,
+     * moved past the given version, so no concurrent save can slip in between the check and the write.
+     */
+    @Override
+    public synchronized boolean saveIfUnchanged(Room room, long version) {
+        Room stored = rooms.get(room.getId());
+        if (room.getVersion() != version || (stored != null && stored.getVersion() > version)) {
+            return false;
+        }
+        save(room);
+        return true;
     }
 
     @Override
@@ -24,34 +58,137 @@ public class InMemoryRoomRepository implements RoomRepository {
         return Optional.ofNullable(rooms.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return rooms.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return rooms.size();
+    }
+
     @Override
     public List<Room> findAll() {
         return new ArrayList<>(rooms.values());
     }
 
+    @Override
+    public Stream<Room> streamAll() {
+        return rooms.values().stream();
+    }
+
+    @Override
+    public synchronized List<Room> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public List<Room> findByType(RoomType type) {
-        return rooms.values().stream()
-                .filter(room -> room.getType() == type)
-                .collect(Collectors.toList());
+        List<Room> result = new ArrayList<>();
+        for (UUID id : typeIndex.get(type)) {
+            result.add(rooms.get(id));
+        }
+        return result;
+    }
+
+    @Override
+    public long countByType(RoomType type) {
+        return typeIndex.get(type).size();
+    }
+
+    @Override
+    public synchronized List<Room> findAvailable() {
+        return roomPool.getAll();
+    }
+
+    @Override
+    public synchronized List<Room> findAvailableByType(RoomType type) {
+        return roomPool.get(type);
+    }
+
+    /**
+     * Counts the available rooms of the type from the pool, consistent with {@link #findAvailableByType}.
+     */
+    @Override
+    public synchronized long countAvailableByType(RoomType type) {
+        return roomPool.count(type);
+    }
+
+    /**
+     * Gets the booked rooms from the pool instead of filtering all rooms.
+     */
+    @Override
+    public synchronized List<Room> findBooked() {
+        return roomPool.getBooked();
+    }
+
+    @Override
+    public synchronized long countBooked() {
+        return roomPool.countBooked();
+    }
+
+    /**
+     * Takes the first available room of the type from the pool and books and saves it under the
+     * repository's monitor, so concurrent callers never get the same room.
+     */
+    @Override
+    public synchronized Optional<Room> allocate(RoomType type) {
+        Room room = roomPool.allocate(type);
+        if (room == null) {
+            return Optional.empty();
+        }
+        save(room);
+        return Optional.of(room);
+    }
+
+    /**
+     * Books and saves the room under the repository's monitor, so the pool sees the booking at once.
+     */
+    @Override
+    public synchronized boolean book(Room room, long version) {
+        return room.tryBook(version) && saveIfUnchanged(room, version + 1);
+    }
+
+    /**
+     * Releases and saves the room under the repository's monitor, so the pool sees the release at once.
+     */
+    @Override
+    public synchronized void release(Room room) {
+        room.release();
+        save(room);
     }
 
+    /**
+     * Reserves the span in the first free room of the type straight from the pool, under the
+     * repository's monitor so concurrent callers never get the same slots.
+     */
     @Override
-    public List<Room> findAvailable() {
-        return rooms.values().stream()
-                .filter(Room::isAvailable)
-                .collect(Collectors.toList());
+    public synchronized Optional<Room> reserve(RoomType type, LocalDateTime start, LocalDateTime end) {
+        Room room = roomPool.reserve(type, start, end);
+        if (room == null) {
+            return Optional.empty();
+        }
+        save(room);
+        return Optional.of(room);
     }
 
     @Override
-    public List<Room> findAvailableByType(RoomType type) {
-        return rooms.values().stream()
-                .filter(room -> room.getType() == type && room.isAvailable())
-                .collect(Collectors.toList());
+    public synchronized void deleteById(UUID id) {
+        Room removed = rooms.remove(id);
+        if (removed != null) {
+            typeIndex.remove(removed);
+            roomPool.remove(removed);
+        }
     }
 
     @Override
-    public void deleteById(UUID id) {
-        rooms.remove(id);
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
     }
 }
\ No newline at end of file
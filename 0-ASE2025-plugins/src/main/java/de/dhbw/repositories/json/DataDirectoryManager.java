@@ -11,14 +11,15 @@ import java.nio.file.Paths;
  */
 public class DataDirectoryManager {
     private static final String DEFAULT_DATA_DIRECTORY = "data";
+    private static final String DATA_DIRECTORY_PROPERTY = "pms.dataDir";
 
     /**
-     * Gets the data directory path.
+     * Gets the data directory path, e.g. {@code -Dpms.dataDir=/var/lib/pms}.
      *
-     * @return The data directory path
+     * @return The data directory path, {@code data} in the working directory by default
      */
     public static String getDataDirectory() {
-        return DEFAULT_DATA_DIRECTORY;
+        return System.getProperty(DATA_DIRECTORY_PROPERTY, DEFAULT_DATA_DIRECTORY);
     }
 
     /**
@@ -55,13 +56,14 @@ public class DataDirectoryManager {
     }
 
     /**
-     * Clears all data files.
+     * Clears all data files of both backends, including checksums and pending journals.
      * Useful for testing or resetting the application.
      */
     public static void clearAllDataFiles() {
         File dataDir = new File(getDataDirectory());
         if (dataDir.exists() && dataDir.isDirectory()) {
-            File[] files = dataDir.listFiles((dir, name) -> name.endsWith(".json"));
+            File[] files = dataDir.listFiles((dir, name) -> name.endsWith(".json") || name.endsWith(".bin")
+                    || name.endsWith(".crc") || name.contains(".journal"));
             if (files != null) {
                 for (File file : files) {
                     if (!file.delete()) {
@@ -0,0 +1,22 @@
+package de.dhbw.repositories.json;
+
+/**
+ * Defines when changes of the JSON repositories reach the disk.
+ */
+public enum DurabilityMode {
+    /**
+     * Every save or delete is written before the call returns.
+     */
+    SYNC,
+
+    /**
+     * Changes are collected and all dirty repositories are flushed together
+     * every group commit interval.
+     */
+    GROUP_COMMIT,
+
+    /**
+     * Changes are only written at checkpoints, i.e. every checkpoint interval and on shutdown.
+     */
+    CHECKPOINT
+}
@@ -0,0 +1,71 @@
+package de.dhbw.repositories.json;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.PropertyAccessor;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Central registry of the Jackson codecs used by the JSON persistence.
+ * <p>
+ * The {@link ObjectMapper} is configured once for the whole application. Callers get immutable,
+ * thread-safe {@link ObjectReader} and {@link ObjectWriter} instances from it, cached per entity
+ * type, and derive variants (e.g. with {@link ReferenceRepositories} attached) from those without
+ * touching the shared configuration.
+ */
+public class JsonCodecs {
+    private static final ObjectMapper MAPPER = createMapper();
+    private static final ObjectWriter SNAPSHOT_WRITER = MAPPER.writer().with(SerializationFeature.INDENT_OUTPUT);
+    private static final ObjectWriter COMPACT_WRITER = MAPPER.writer().without(SerializationFeature.INDENT_OUTPUT);
+    private static final Map<Class<?>, ObjectReader> READERS = new ConcurrentHashMap<>();
+
+    private JsonCodecs() {
+        // Utility class
+    }
+
+    private static ObjectMapper createMapper() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
+
+        // Configure object mapper to use fields rather than getters/setters
+        mapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
+        mapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+
+        // Registers the JavaTimeModule, the lenient settings and the domain serializers
+        JsonDomainModule.configureObjectMapper(mapper);
+        return mapper;
+    }
+
+    /**
+     * Gets a reader for single entities of a type.
+     *
+     * @param entityClass The entity type
+     * @return The shared reader
+     */
+    public static ObjectReader readerFor(Class<?> entityClass) {
+        return READERS.computeIfAbsent(entityClass, MAPPER::readerFor);
+    }
+
+    /**
+     * Gets the writer for snapshot files, which are pretty-printed.
+     *
+     * @return The shared snapshot writer
+     */
+    public static ObjectWriter snapshotWriter() {
+        return SNAPSHOT_WRITER;
+    }
+
+    /**
+     * Gets the writer for single-line output such as journal records.
+     *
+     * @return The shared compact writer
+     */
+    public static ObjectWriter compactWriter() {
+        return COMPACT_WRITER;
+    }
+}
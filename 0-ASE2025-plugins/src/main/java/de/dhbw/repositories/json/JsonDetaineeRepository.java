@@ -1,28 +1,29 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.repositories.DetaineeRepository;
-import de.dhbw.repositories.json.deserializers.DetaineeDeserializer;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.repositories.index.TermDictionary;
+import de.dhbw.repositories.index.TrigramIndex;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JSON implementation of the DetaineeRepository interface.
  * Stores detainees in a JSON file.
  */
 public class JsonDetaineeRepository extends JsonPersistenceBase<Detainee> implements DetaineeRepository {
-    private Map<UUID, Detainee> detainees = new HashMap<>();
+    private Map<UUID, Detainee> detainees = new LinkedHashMap<>();
+    private final TrigramIndex<Detainee> nameIndex = new TrigramIndex<>(Detainee::getName, Detainee::getId);
+    private final TermDictionary crimes = new TermDictionary();
+    private final SecondaryIndex<Integer, Detainee> crimeIndex =
+            new SecondaryIndex<>(detainee -> crimes.codeOf(detainee.getCrime()), Detainee::getId);
 
     public JsonDetaineeRepository() {
         super("detainees", Detainee.class);
 
-        // Register the custom deserializer
-        SimpleModule module = new SimpleModule();
-        module.addDeserializer(Detainee.class, new DetaineeDeserializer());
-        objectMapper.registerModule(module);
-
         loadDetainees();
     }
 
@@ -32,22 +33,35 @@ public class JsonDetaineeRepository extends JsonPersistenceBase<Detainee> implem
     private void loadDetainees() {
         List<Detainee> detaineeList = loadFromFile();
         detainees.clear();
+        nameIndex.clear();
+        crimeIndex.clear();
         for (Detainee detainee : detaineeList) {
-            detainees.put(detainee.getId(), detainee);
+            put(detainee);
         }
     }
 
-    /**
-     * Saves detainees to the JSON file.
-     */
-    private void saveDetainees() {
-        saveToFile(new ArrayList<>(detainees.values()));
+    @Override
+    protected UUID getEntityId(Detainee detainee) {
+        return detainee.getId();
+    }
+
+    @Override
+    protected Collection<Detainee> getEntities() {
+        return detainees.values();
+    }
+
+    @Override
+    public synchronized void save(Detainee detainee) {
+        put(detainee);
+        persistUpsert(detainee);
     }
 
     @Override
-    public void save(Detainee detainee) {
-        detainees.put(detainee.getId(), detainee);
-        saveDetainees();
+    public synchronized void saveAll(Collection<Detainee> batch) {
+        for (Detainee detainee : batch) {
+            put(detainee);
+        }
+        persistUpsertAll(batch);
     }
 
     @Override
@@ -55,20 +69,36 @@ public class JsonDetaineeRepository extends JsonPersistenceBase<Detainee> implem
         return Optional.ofNullable(detainees.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return detainees.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return detainees.size();
+    }
+
     @Override
     public List<Detainee> findByNameContaining(String name) {
-        String lowerCaseName = name.toLowerCase();
-        return detainees.values().stream()
-                .filter(detainee -> detainee.getName().toLowerCase().contains(lowerCaseName))
-                .collect(Collectors.toList());
+        List<Detainee> result = new ArrayList<>();
+        for (UUID id : nameIndex.search(name)) {
+            result.add(detainees.get(id));
+        }
+        return result;
     }
 
     @Override
     public List<Detainee> findByCrime(String crime) {
-        String lowerCaseCrime = crime.toLowerCase();
-        return detainees.values().stream()
-                .filter(detainee -> detainee.getCrime().toLowerCase().equals(lowerCaseCrime))
-                .collect(Collectors.toList());
+        List<Detainee> result = new ArrayList<>();
+        int code = crimes.find(crime);
+        if (code < 0) {
+            return result;
+        }
+        for (UUID id : crimeIndex.get(code)) {
+            result.add(detainees.get(id));
+        }
+        return result;
     }
 
     @Override
@@ -77,8 +107,66 @@ public class JsonDetaineeRepository extends JsonPersistenceBase<Detainee> implem
     }
 
     @Override
-    public void deleteById(UUID id) {
-        detainees.remove(id);
-        saveDetainees();
+    public Stream<Detainee> streamAll() {
+        return detainees.values().stream();
+    }
+
+    @Override
+    public synchronized List<Detainee> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        remove(id);
+        persistDelete(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            remove(id);
+        }
+        persistDeleteAll(ids);
+    }
+
+    /**
+     * Updates the map and the indexes for a saved detainee, without persisting it. The stored
+     * detainee shares the instance of its crime spelling with all other detainees.
+     */
+    private void put(Detainee saved) {
+        Detainee detainee = internCrime(saved);
+        Detainee previous = detainees.put(detainee.getId(), detainee);
+        nameIndex.add(detainee);
+        if (previous != null) {
+            crimeIndex.update(previous, detainee);
+        } else {
+            crimeIndex.add(detainee);
+        }
+    }
+
+    /**
+     * Removes a detainee from the map and the indexes, without persisting the deletion.
+     */
+    private void remove(UUID id) {
+        Detainee removed = detainees.remove(id);
+        if (removed != null) {
+            nameIndex.remove(id);
+            crimeIndex.remove(removed);
+        }
+    }
+
+    /**
+     * Replaces the crime of a loaded or saved detainee with the shared instance of its spelling.
+     */
+    private Detainee internCrime(Detainee detainee) {
+        String crime = crimes.intern(detainee.getCrime());
+        if (crime == detainee.getCrime()) {
+            return detainee;
+        }
+        return Detainee.restore(detainee.getId(), detainee.getName(), crime);
     }
-}
\ No newline at end of file
+}
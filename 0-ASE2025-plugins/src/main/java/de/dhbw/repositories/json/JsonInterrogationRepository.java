@@ -1,27 +1,48 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Interrogation;
 import de.dhbw.repositories.DetaineeRepository;
 import de.dhbw.repositories.InterrogationRepository;
 import de.dhbw.repositories.OfficerRepository;
 import de.dhbw.repositories.RoomRepository;
-import de.dhbw.repositories.json.deserializers.InterrogationDeserializer;
+import de.dhbw.repositories.index.IntervalIndex;
+import de.dhbw.repositories.index.QueryPlan;
+import de.dhbw.repositories.index.QueryPlanner;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.repositories.index.TermDictionary;
+import de.dhbw.repositories.index.TimeIndex;
+import de.dhbw.valueobjects.InterrogationCriteria;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JSON implementation of the InterrogationRepository interface.
  * Stores interrogations in a JSON file.
  */
 public class JsonInterrogationRepository extends JsonPersistenceBase<Interrogation> implements InterrogationRepository {
-    private Map<UUID, Interrogation> interrogations = new HashMap<>();
+    private Map<UUID, Interrogation> interrogations = new LinkedHashMap<>();
+    private final SecondaryIndex<UUID, Interrogation> officerIndex =
+            new SecondaryIndex<>(interrogation -> interrogation.getOfficer().getId(), Interrogation::getId);
+    private final SecondaryIndex<UUID, Interrogation> detaineeIndex =
+            new SecondaryIndex<>(interrogation -> interrogation.getDetainee().getId(), Interrogation::getId);
+    private final SecondaryIndex<UUID, Interrogation> roomIndex =
+            new SecondaryIndex<>(interrogation -> interrogation.getRoom().getId(), Interrogation::getId);
+    private final TermDictionary crimes = new TermDictionary();
+    private final SecondaryIndex<Integer, Interrogation> crimeIndex =
+            new SecondaryIndex<>(interrogation -> crimes.codeOf(interrogation.getDetainee().getCrime()), Interrogation::getId);
+    private final TimeIndex<Interrogation> timeIndex = new TimeIndex<>(Interrogation::getScheduledAt, Interrogation::getId);
+    private final IntervalIndex<Interrogation> detaineeSchedule = new IntervalIndex<>(
+            interrogation -> interrogation.getDetainee().getId(), Interrogation::getScheduledAt, Interrogation::getEndsAt, Interrogation::getId);
+    private final IntervalIndex<Interrogation> officerSchedule = new IntervalIndex<>(
+            interrogation -> interrogation.getOfficer().getId(), Interrogation::getScheduledAt, Interrogation::getEndsAt, Interrogation::getId);
     private final OfficerRepository officerRepository;
     private final DetaineeRepository detaineeRepository;
     private final RoomRepository roomRepository;
+    private final ReferenceRepositories references;
 
     public JsonInterrogationRepository(
             OfficerRepository officerRepository,
@@ -32,37 +53,61 @@ public class JsonInterrogationRepository extends JsonPersistenceBase<Interrogati
         this.detaineeRepository = detaineeRepository;
         this.roomRepository = roomRepository;
 
-        // Register the custom deserializer
-        SimpleModule module = new SimpleModule();
-        module.addDeserializer(Interrogation.class, new InterrogationDeserializer(
-                officerRepository, detaineeRepository, roomRepository));
-        objectMapper.registerModule(module);
+        // The shared serializer and deserializer resolve references against these repositories
+        this.references = new ReferenceRepositories(officerRepository, detaineeRepository, roomRepository);
+        useReferences(references);
 
         loadInterrogations();
     }
 
     /**
      * Loads interrogations from the JSON file.
+     * Files in the legacy format with embedded object copies are rewritten with id references.
      */
     private void loadInterrogations() {
         List<Interrogation> interrogationList = loadFromFile();
         interrogations.clear();
+        officerIndex.clear();
+        detaineeIndex.clear();
+        roomIndex.clear();
+        crimeIndex.clear();
+        timeIndex.clear();
+        officerSchedule.clear();
+        detaineeSchedule.clear();
         for (Interrogation interrogation : interrogationList) {
             interrogations.put(interrogation.getId(), interrogation);
+            addToIndexes(interrogation);
+        }
+
+        int legacyRecords = references.getLegacyRecordCount();
+        if (legacyRecords > 0) {
+            rewriteSnapshot();
+            System.out.println("Migrated " + legacyRecords + " interrogations to id references");
         }
     }
 
-    /**
-     * Saves interrogations to the JSON file.
-     */
-    private void saveInterrogations() {
-        saveToFile(new ArrayList<>(interrogations.values()));
+    @Override
+    protected UUID getEntityId(Interrogation interrogation) {
+        return interrogation.getId();
+    }
+
+    @Override
+    protected Collection<Interrogation> getEntities() {
+        return interrogations.values();
+    }
+
+    @Override
+    public synchronized void save(Interrogation interrogation) {
+        put(interrogation);
+        persistUpsert(interrogation);
     }
 
     @Override
-    public void save(Interrogation interrogation) {
-        interrogations.put(interrogation.getId(), interrogation);
-        saveInterrogations();
+    public synchronized void saveAll(Collection<Interrogation> batch) {
+        for (Interrogation interrogation : batch) {
+            put(interrogation);
+        }
+        persistUpsertAll(batch);
     }
 
     @Override
@@ -70,60 +115,229 @@ public class JsonInterrogationRepository extends JsonPersistenceBase<Interrogati
         return Optional.ofNullable(interrogations.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return interrogations.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return interrogations.size();
+    }
+
     @Override
     public List<Interrogation> findAll() {
         return new ArrayList<>(interrogations.values());
     }
 
+    @Override
+    public Stream<Interrogation> streamAll() {
+        return interrogations.values().stream();
+    }
+
+    @Override
+    public synchronized List<Interrogation> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public List<Interrogation> findByOfficerId(UUID officerId) {
-        return interrogations.values().stream()
-                .filter(interrogation -> interrogation.getOfficer().getId().equals(officerId))
-                .collect(Collectors.toList());
+        return findByIds(officerIndex.get(officerId));
+    }
+
+    @Override
+    public long countByOfficerId(UUID officerId) {
+        return officerIndex.get(officerId).size();
     }
 
     @Override
     public List<Interrogation> findByDetaineeId(UUID detaineeId) {
-        return interrogations.values().stream()
-                .filter(interrogation -> interrogation.getDetainee().getId().equals(detaineeId))
-                .collect(Collectors.toList());
+        return findByIds(detaineeIndex.get(detaineeId));
+    }
+
+    @Override
+    public long countByDetaineeId(UUID detaineeId) {
+        return detaineeIndex.get(detaineeId).size();
     }
 
     @Override
     public List<Interrogation> findByRoomId(UUID roomId) {
-        return interrogations.values().stream()
-                .filter(interrogation -> interrogation.getRoom().getId().equals(roomId))
-                .collect(Collectors.toList());
+        return findByIds(roomIndex.get(roomId));
+    }
+
+    @Override
+    public long countByRoomId(UUID roomId) {
+        return roomIndex.get(roomId).size();
+    }
+
+    @Override
+    public List<Interrogation> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByIds(officerSchedule.overlapping(officerId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return officerSchedule.overlaps(officerId, start, end);
+    }
+
+    @Override
+    public List<Interrogation> findOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return findByIds(detaineeSchedule.overlapping(detaineeId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return detaineeSchedule.overlaps(detaineeId, start, end);
     }
 
     @Override
     public List<Interrogation> findByDate(LocalDate date) {
-        return interrogations.values().stream()
-                .filter(interrogation -> interrogation.getScheduledAt().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.on(date));
     }
 
     @Override
     public List<Interrogation> findUpcoming() {
-        LocalDateTime now = LocalDateTime.now();
-        return interrogations.values().stream()
-                .filter(interrogation -> interrogation.getScheduledAt().isAfter(now))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.after(LocalDateTime.now()));
+    }
+
+    /**
+     * Looks the interrogations up in the time index, starting no earlier than the longest interrogation before the time.
+     */
+    @Override
+    public List<Interrogation> findEndingAfter(LocalDateTime time) {
+        List<Interrogation> result = new ArrayList<>();
+        for (Interrogation interrogation : findByIds(timeIndex.range(time.minus(officerSchedule.longest()), null))) {
+            if (interrogation.getEndsAt().isAfter(time)) {
+                result.add(interrogation);
+            }
+        }
+        return result;
     }
 
     @Override
     public List<Interrogation> findByTimeRange(LocalDateTime start, LocalDateTime end) {
-        return interrogations.values().stream()
-                .filter(interrogation -> {
-                    LocalDateTime scheduledTime = interrogation.getScheduledAt();
-                    return scheduledTime.isAfter(start) && scheduledTime.isBefore(end);
-                })
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.between(start, end));
+    }
+
+    @Override
+    public synchronized List<Interrogation> findMatching(InterrogationCriteria criteria) {
+        QueryPlan plan = plan(criteria);
+        if (plan.isFullScan()) {
+            return InterrogationRepository.super.findMatching(criteria);
+        }
+
+        // The candidates come in the order of the driving index, so sort them like a full scan
+        List<Interrogation> result = new ArrayList<>();
+        for (UUID id : plan.getCandidates()) {
+            Interrogation interrogation = interrogations.get(id);
+            if (criteria.matches(interrogation)) {
+                result.add(interrogation);
+            }
+        }
+        result.sort(Comparator.comparing(Interrogation::getScheduledAt));
+        return result;
     }
 
     @Override
-    public void deleteById(UUID id) {
-        interrogations.remove(id);
-        saveInterrogations();
+    public synchronized String explain(InterrogationCriteria criteria) {
+        return plan(criteria) + System.lineSeparator() + "verify: " + criteria;
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        remove(id);
+        persistDelete(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            remove(id);
+        }
+        persistDeleteAll(ids);
+    }
+
+    /**
+     * Updates the map and the indexes for a saved interrogation, without persisting it.
+     */
+    private void put(Interrogation interrogation) {
+        Interrogation previous = interrogations.put(interrogation.getId(), interrogation);
+        if (previous != null) {
+            updateIndexes(previous, interrogation);
+        } else {
+            addToIndexes(interrogation);
+        }
+    }
+
+    /**
+     * Removes an interrogation from the map and the indexes, without persisting the deletion.
+     */
+    private void remove(UUID id) {
+        Interrogation removed = interrogations.remove(id);
+        if (removed != null) {
+            removeFromIndexes(removed);
+        }
+    }
+
+    private void addToIndexes(Interrogation interrogation) {
+        officerIndex.add(interrogation);
+        detaineeIndex.add(interrogation);
+        roomIndex.add(interrogation);
+        crimeIndex.add(interrogation);
+        timeIndex.add(interrogation);
+        officerSchedule.add(interrogation);
+        detaineeSchedule.add(interrogation);
+    }
+
+    private void updateIndexes(Interrogation previous, Interrogation interrogation) {
+        officerIndex.update(previous, interrogation);
+        detaineeIndex.update(previous, interrogation);
+        roomIndex.update(previous, interrogation);
+        crimeIndex.update(previous, interrogation);
+        timeIndex.update(previous, interrogation);
+        officerSchedule.update(previous, interrogation);
+        detaineeSchedule.update(previous, interrogation);
+    }
+
+    private void removeFromIndexes(Interrogation interrogation) {
+        officerIndex.remove(interrogation);
+        detaineeIndex.remove(interrogation);
+        roomIndex.remove(interrogation);
+        crimeIndex.remove(interrogation);
+        timeIndex.remove(interrogation);
+        officerSchedule.remove(interrogation);
+        detaineeSchedule.remove(interrogation);
+    }
+
+    /**
+     * Registers every filter of the criteria that one of the indexes can answer.
+     * The room type has no index, every interrogation takes place in an interrogation room.
+     */
+    private QueryPlan plan(InterrogationCriteria criteria) {
+        QueryPlanner planner = new QueryPlanner("interrogations", interrogations.size());
+        criteria.getOfficerId().ifPresent(id -> planner.lookup("officer index", officerIndex.get(id)));
+        criteria.getDetaineeId().ifPresent(id -> planner.lookup("detainee index", detaineeIndex.get(id)));
+        criteria.getRoomId().ifPresent(id -> planner.lookup("room index", roomIndex.get(id)));
+        criteria.getCrime().ifPresent(crime -> planner.lookup("crime index", crimeIndex.get(crimes.find(crime))));
+        if (criteria.hasTimeRange()) {
+            LocalDateTime from = criteria.getFrom().orElse(null);
+            LocalDateTime to = criteria.getTo().orElse(null);
+            planner.range("time index", limit -> timeIndex.count(from, to, limit), () -> timeIndex.range(from, to));
+        }
+        return planner.plan();
+    }
+
+    /**
+     * Resolves the IDs returned by an index lookup, keeping their order.
+     */
+    private List<Interrogation> findByIds(Collection<UUID> ids) {
+        List<Interrogation> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            result.add(interrogations.get(id));
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,25 +1,35 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Meeting;
 import de.dhbw.repositories.MeetingRepository;
 import de.dhbw.repositories.OfficerRepository;
 import de.dhbw.repositories.RoomRepository;
-import de.dhbw.repositories.json.deserializers.MeetingDeserializer;
+import de.dhbw.repositories.index.IntervalIndex;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.repositories.index.TimeIndex;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JSON implementation of the MeetingRepository interface.
  * Stores meetings in a JSON file.
  */
 public class JsonMeetingRepository extends JsonPersistenceBase<Meeting> implements MeetingRepository {
-    private Map<UUID, Meeting> meetings = new HashMap<>();
+    private Map<UUID, Meeting> meetings = new LinkedHashMap<>();
+    private final SecondaryIndex<UUID, Meeting> officerIndex =
+            new SecondaryIndex<>(meeting -> meeting.getOfficer().getId(), Meeting::getId);
+    private final SecondaryIndex<UUID, Meeting> roomIndex =
+            new SecondaryIndex<>(meeting -> meeting.getRoom().getId(), Meeting::getId);
+    private final TimeIndex<Meeting> timeIndex = new TimeIndex<>(Meeting::getScheduledAt, Meeting::getId);
+    private final IntervalIndex<Meeting> officerSchedule = new IntervalIndex<>(
+            meeting -> meeting.getOfficer().getId(), Meeting::getScheduledAt, Meeting::getEndsAt, Meeting::getId);
     private final OfficerRepository officerRepository;
     private final RoomRepository roomRepository;
+    private final ReferenceRepositories references;
 
     public JsonMeetingRepository(
             OfficerRepository officerRepository,
@@ -28,37 +38,58 @@ public class JsonMeetingRepository extends JsonPersistenceBase<Meeting> implemen
         this.officerRepository = officerRepository;
         this.roomRepository = roomRepository;
 
-        // Register the custom deserializer
-        SimpleModule module = new SimpleModule();
-        module.addDeserializer(Meeting.class, new MeetingDeserializer(
-                officerRepository, roomRepository));
-        objectMapper.registerModule(module);
+        // The shared serializer and deserializer resolve references against these repositories
+        this.references = new ReferenceRepositories(officerRepository, null, roomRepository);
+        useReferences(references);
 
         loadMeetings();
     }
 
     /**
      * Loads meetings from the JSON file.
+     * Files in the legacy format with embedded object copies are rewritten with id references.
      */
     private void loadMeetings() {
         List<Meeting> meetingList = loadFromFile();
         meetings.clear();
+        officerIndex.clear();
+        roomIndex.clear();
+        timeIndex.clear();
+        officerSchedule.clear();
         for (Meeting meeting : meetingList) {
             meetings.put(meeting.getId(), meeting);
+            addToIndexes(meeting);
+        }
+
+        int legacyRecords = references.getLegacyRecordCount();
+        if (legacyRecords > 0) {
+            rewriteSnapshot();
+            System.out.println("Migrated " + legacyRecords + " meetings to id references");
         }
     }
 
-    /**
-     * Saves meetings to the JSON file.
-     */
-    private void saveMeetings() {
-        saveToFile(new ArrayList<>(meetings.values()));
+    @Override
+    protected UUID getEntityId(Meeting meeting) {
+        return meeting.getId();
     }
 
     @Override
-    public void save(Meeting meeting) {
-        meetings.put(meeting.getId(), meeting);
-        saveMeetings();
+    protected Collection<Meeting> getEntities() {
+        return meetings.values();
+    }
+
+    @Override
+    public synchronized void save(Meeting meeting) {
+        put(meeting);
+        persistUpsert(meeting);
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Meeting> batch) {
+        for (Meeting meeting : batch) {
+            put(meeting);
+        }
+        persistUpsertAll(batch);
     }
 
     @Override
@@ -66,43 +97,153 @@ public class JsonMeetingRepository extends JsonPersistenceBase<Meeting> implemen
         return Optional.ofNullable(meetings.get(id));
     }
 
+    @Override
+    public boolean existsById(UUID id) {
+        return meetings.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return meetings.size();
+    }
+
     @Override
     public List<Meeting> findAll() {
         return new ArrayList<>(meetings.values());
     }
 
+    @Override
+    public Stream<Meeting> streamAll() {
+        return meetings.values().stream();
+    }
+
+    @Override
+    public synchronized List<Meeting> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public List<Meeting> findByOfficerId(UUID officerId) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getOfficer().getId().equals(officerId))
-                .collect(Collectors.toList());
+        return findByIds(officerIndex.get(officerId));
+    }
+
+    @Override
+    public long countByOfficerId(UUID officerId) {
+        return officerIndex.get(officerId).size();
     }
 
     @Override
     public List<Meeting> findByRoomId(UUID roomId) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getRoom().getId().equals(roomId))
-                .collect(Collectors.toList());
+        return findByIds(roomIndex.get(roomId));
+    }
+
+    @Override
+    public long countByRoomId(UUID roomId) {
+        return roomIndex.get(roomId).size();
+    }
+
+    @Override
+    public List<Meeting> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByIds(officerSchedule.overlapping(officerId, start, end));
+    }
+
+    @Override
+    public boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return officerSchedule.overlaps(officerId, start, end);
     }
 
     @Override
     public List<Meeting> findByDate(LocalDate date) {
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getScheduledAt().toLocalDate().equals(date))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.on(date));
     }
 
     @Override
     public List<Meeting> findUpcoming() {
-        LocalDateTime now = LocalDateTime.now();
-        return meetings.values().stream()
-                .filter(meeting -> meeting.getScheduledAt().isAfter(now))
-                .collect(Collectors.toList());
+        return findByIds(timeIndex.after(LocalDateTime.now()));
     }
 
+    /**
+     * Looks the meetings up in the time index, starting no earlier than the longest meeting before the time.
+     */
     @Override
-    public void deleteById(UUID id) {
-        meetings.remove(id);
-        saveMeetings();
+    public List<Meeting> findEndingAfter(LocalDateTime time) {
+        List<Meeting> result = new ArrayList<>();
+        for (Meeting meeting : findByIds(timeIndex.range(time.minus(officerSchedule.longest()), null))) {
+            if (meeting.getEndsAt().isAfter(time)) {
+                result.add(meeting);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        remove(id);
+        persistDelete(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            remove(id);
+        }
+        persistDeleteAll(ids);
+    }
+
+    /**
+     * Updates the map and the indexes for a saved meeting, without persisting it.
+     */
+    private void put(Meeting meeting) {
+        Meeting previous = meetings.put(meeting.getId(), meeting);
+        if (previous != null) {
+            updateIndexes(previous, meeting);
+        } else {
+            addToIndexes(meeting);
+        }
+    }
+
+    /**
+     * Removes a meeting from the map and the indexes, without persisting the deletion.
+     */
+    private void remove(UUID id) {
+        Meeting removed = meetings.remove(id);
+        if (removed != null) {
+            removeFromIndexes(removed);
+        }
+    }
+
+    private void addToIndexes(Meeting meeting) {
+        officerIndex.add(meeting);
+        roomIndex.add(meeting);
+        timeIndex.add(meeting);
+        officerSchedule.add(meeting);
+    }
+
+    private void updateIndexes(Meeting previous, Meeting meeting) {
+        officerIndex.update(previous, meeting);
+        roomIndex.update(previous, meeting);
+        timeIndex.update(previous, meeting);
+        officerSchedule.update(previous, meeting);
+    }
+
+    private void removeFromIndexes(Meeting meeting) {
+        officerIndex.remove(meeting);
+        roomIndex.remove(meeting);
+        timeIndex.remove(meeting);
+        officerSchedule.remove(meeting);
+    }
+
+    /**
+     * Resolves the IDs returned by an index lookup, keeping their order.
+     */
+    private List<Meeting> findByIds(Collection<UUID> ids) {
+        List<Meeting> result = new ArrayList<>(ids.size());
+        for (UUID id : ids) {
+            result.add(meetings.get(id));
+        }
+        return result;
     }
-}
\ No newline at end of file
+}
@@ -1,29 +1,26 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Officer;
 import de.dhbw.repositories.OfficerRepository;
-import de.dhbw.repositories.json.deserializers.OfficerDeserializer;
-import de.dhbw.repositories.json.serializers.OfficerSerializer;
+import de.dhbw.repositories.index.RangeIndex;
+import de.dhbw.valueobjects.PageRequest;
+import de.dhbw.valueobjects.Rank;
 
 import java.util.*;
+import java.util.stream.Stream;
 
 /**
  * JSON implementation of the OfficerRepository interface.
  * Stores officers in a JSON file.
  */
 public class JsonOfficerRepository extends JsonPersistenceBase<Officer> implements OfficerRepository {
-    private Map<UUID, Officer> officers = new HashMap<>();
+    private Map<UUID, Officer> officers = new LinkedHashMap<>();
+    private final RangeIndex<Integer, Officer> rankIndex =
+            new RangeIndex<>(officer -> officer.getRank().getLevel(), Officer::getId);
 
     public JsonOfficerRepository() {
         super("officers", Officer.class);
 
-        // Register the custom serializer and deserializer
-        SimpleModule module = new SimpleModule();
-        module.addSerializer(Officer.class, new OfficerSerializer());
-        module.addDeserializer(Officer.class, new OfficerDeserializer());
-        objectMapper.registerModule(module);
-
         loadOfficers();
     }
 
@@ -33,30 +30,55 @@ public class JsonOfficerRepository extends JsonPersistenceBase<Officer> implemen
     private void loadOfficers() {
         List<Officer> officerList = loadFromFile();
         officers.clear();
+        rankIndex.clear();
         for (Officer officer : officerList) {
             officers.put(officer.getId(), officer);
+            rankIndex.add(officer);
         }
         System.out.println("Loaded " + officers.size() + " officers from file");
     }
 
+    @Override
+    protected UUID getEntityId(Officer officer) {
+        return officer.getId();
+    }
+
+    @Override
+    protected Collection<Officer> getEntities() {
+        return officers.values();
+    }
+
+    @Override
+    public synchronized void save(Officer officer) {
+        put(officer);
+        persistUpsert(officer);
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Officer> batch) {
+        for (Officer officer : batch) {
+            put(officer);
+        }
+        persistUpsertAll(batch);
+    }
+
     /**
-     * Saves officers to the JSON file.
+     * Looks the officer up under the repository's monitor. The serializers of interrogations and meetings
+     * call it from the persistence writer's thread to decide whether to embed the officer.
      */
-    private void saveOfficers() {
-        List<Officer> officerList = new ArrayList<>(officers.values());
-        saveToFile(officerList);
-        System.out.println("Saved " + officers.size() + " officers to file");
+    @Override
+    public synchronized Optional<Officer> findById(UUID id) {
+        return Optional.ofNullable(officers.get(id));
     }
 
     @Override
-    public void save(Officer officer) {
-        officers.put(officer.getId(), officer);
-        saveOfficers();
+    public synchronized boolean existsById(UUID id) {
+        return officers.containsKey(id);
     }
 
     @Override
-    public Optional<Officer> findById(UUID id) {
-        return Optional.ofNullable(officers.get(id));
+    public long count() {
+        return officers.size();
     }
 
     @Override
@@ -65,8 +87,54 @@ public class JsonOfficerRepository extends JsonPersistenceBase<Officer> implemen
     }
 
     @Override
-    public void deleteById(UUID id) {
+    public Stream<Officer> streamAll() {
+        return officers.values().stream();
+    }
+
+    @Override
+    public synchronized List<Officer> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
+    @Override
+    public synchronized List<Officer> findByMinimumRank(Rank minimumRank) {
+        List<Officer> result = new ArrayList<>();
+        for (UUID id : rankIndex.atLeast(minimumRank.getLevel())) {
+            result.add(officers.get(id));
+        }
+        return result;
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        remove(id);
+        persistDelete(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            remove(id);
+        }
+        persistDeleteAll(ids);
+    }
+
+    /**
+     * Updates the map and the indexes for a saved officer, without persisting it.
+     */
+    private void put(Officer officer) {
+        officers.put(officer.getId(), officer);
+        rankIndex.add(officer);
+    }
+
+    /**
+     * Removes an officer from the map and the indexes, without persisting the deletion.
+     */
+    private void remove(UUID id) {
         officers.remove(id);
-        saveOfficers();
+        rankIndex.remove(id);
     }
 }
\ No newline at end of file
@@ -1,30 +1,75 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.annotation.JsonAutoDetect;
-import com.fasterxml.jackson.annotation.PropertyAccessor;
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.CheckedInputStream;
 
 /**
  * Base class for JSON persistence implementations.
  * Provides common functionality for saving and loading objects to/from JSON files.
+ * <p>
+ * When the journal is enabled (see {@link PersistenceSettings#isJournalEnabled()}), mutations are
+ * appended as one compact JSON record per line to {@code <entity>.journal} instead of rewriting the
+ * whole entity file. The journal is replayed on load and compacted into the snapshot file in the
+ * background once it reaches {@link PersistenceSettings#getJournalCompactionThreshold()} records.
+ * <p>
+ * Unless the durability mode is {@link DurabilityMode#SYNC}, changes are not written by the calling
+ * thread; the repository is marked dirty and flushed by the {@link JsonPersistenceWriter}.
+ * Subclasses must therefore mutate their entities only while holding the repository's monitor.
  */
 public abstract class JsonPersistenceBase<T> {
-    protected final ObjectMapper objectMapper;
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String COMPACTING_SUFFIX = ".journal.compacting";
+    private static final String OPERATION_UPSERT = "U";
+    private static final String OPERATION_DELETE = "D";
+    private static final int TAIL_BUFFER_SIZE = 8192;
+    private static final long INITIAL_COMPACTION_BACKOFF_NANOS = TimeUnit.SECONDS.toNanos(1);
+    private static final long MAX_COMPACTION_BACKOFF_NANOS = TimeUnit.MINUTES.toNanos(5);
+
     protected final String dataDirectory;
     protected final String entityName;
     protected final Class<T> entityClass;
 
+    private final boolean journalEnabled;
+    private final LoadMode loadMode;
+    private final int compactionThreshold;
+    private final JsonPersistenceWriter persistenceWriter;
+    private ObjectReader entityReader;
+    private ObjectWriter snapshotWriter;
+    private ObjectWriter journalRecordWriter;
+    private FileChannel journalChannel;
+    private BufferedWriter journalWriter;
+    private int journalRecordCount;
+    private volatile boolean compactionInProgress;
+    private long compactionBackoffNanos;
+    private long nextCompactionAttempt;
+
     /**
      * Creates a new JSON persistence base.
      *
@@ -32,31 +77,61 @@ public abstract class JsonPersistenceBase<T> {
      * @param entityClass The class of the entity
      */
     public JsonPersistenceBase(String entityName, Class<T> entityClass) {
+        this(entityName, entityClass, JsonPersistenceWriter.getInstance());
+    }
+
+    /**
+     * Creates a new JSON persistence base that flushes through the given writer.
+     *
+     * @param entityName The name of the entity (used for file naming)
+     * @param entityClass The class of the entity
+     * @param persistenceWriter The writer for group commits, checkpoints and compactions
+     */
+    JsonPersistenceBase(String entityName, Class<T> entityClass, JsonPersistenceWriter persistenceWriter) {
         this.entityName = entityName;
         this.entityClass = entityClass;
-        this.dataDirectory = "data";
-
-        // Initialize Jackson ObjectMapper with proper configuration
-        this.objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule()); // For handling Java 8 date/time types
-        objectMapper.configure(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS, false);
-        objectMapper.enable(SerializationFeature.INDENT_OUTPUT); // Pretty print JSON
-
-        // Configure object mapper to use fields rather than getters/setters
-        objectMapper.setVisibility(PropertyAccessor.ALL, JsonAutoDetect.Visibility.NONE);
-        objectMapper.setVisibility(PropertyAccessor.FIELD, JsonAutoDetect.Visibility.ANY);
+        this.dataDirectory = DataDirectoryManager.getDataDirectory();
+        this.journalEnabled = PersistenceSettings.isJournalEnabled();
+        this.loadMode = PersistenceSettings.getLoadMode();
+        this.compactionThreshold = PersistenceSettings.getJournalCompactionThreshold();
+        this.persistenceWriter = persistenceWriter;
 
-        // Configure to handle missing values gracefully
-        objectMapper.configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
-        objectMapper.configure(DeserializationFeature.FAIL_ON_NULL_FOR_PRIMITIVES, false);
-
-        // Configure the JSON domain module
-        JsonDomainModule.configureObjectMapper(objectMapper);
+        // Use the shared codecs instead of configuring a mapper per repository
+        this.entityReader = JsonCodecs.readerFor(entityClass);
+        this.snapshotWriter = JsonCodecs.snapshotWriter();
+        this.journalRecordWriter = JsonCodecs.compactWriter();
 
         // Ensure data directory exists
         createDataDirectoryIfNotExists();
     }
 
+    /**
+     * Attaches the repositories that records of this entity reference by id to all reads and writes.
+     * Must be called before the entities are loaded.
+     *
+     * @param references The referenced repositories
+     */
+    protected void useReferences(ReferenceRepositories references) {
+        entityReader = entityReader.withAttribute(ReferenceRepositories.class, references);
+        snapshotWriter = snapshotWriter.withAttribute(ReferenceRepositories.class, references);
+        journalRecordWriter = journalRecordWriter.withAttribute(ReferenceRepositories.class, references);
+    }
+
+    /**
+     * Gets the identifier of an entity, used to key journal records.
+     *
+     * @param entity The entity
+     * @return The entity's ID
+     */
+    protected abstract UUID getEntityId(T entity);
+
+    /**
+     * Gets the current state of all entities held by the repository.
+     *
+     * @return All entities, used to write a full snapshot
+     */
+    protected abstract Collection<T> getEntities();
+
     /**
      * Creates the data directory if it doesn't exist.
      */
@@ -76,47 +151,572 @@ public abstract class JsonPersistenceBase<T> {
         return Paths.get(dataDirectory, entityName + ".json").toString();
     }
 
+    private Path getJournalPath() {
+        return Paths.get(dataDirectory, entityName + JOURNAL_SUFFIX);
+    }
+
+    private Path getCompactingJournalPath() {
+        return Paths.get(dataDirectory, entityName + COMPACTING_SUFFIX);
+    }
+
+    /**
+     * Persists an inserted or updated entity.
+     * Appends a single journal record in journal mode, otherwise rewrites the entity file.
+     *
+     * @param entity The entity that was saved
+     */
+    protected void persistUpsert(T entity) {
+        if (!journalEnabled) {
+            persistSnapshot();
+            return;
+        }
+
+        try {
+            String entityJson = journalRecordWriter.writeValueAsString(entity);
+            appendToJournal(List.of("{\"op\":\"" + OPERATION_UPSERT + "\",\"entity\":" + entityJson + "}"));
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing " + entityName + " to journal", e);
+        }
+    }
+
+    /**
+     * Persists the deletion of an entity.
+     * Appends a single journal record in journal mode, otherwise rewrites the entity file.
+     *
+     * @param id The ID of the deleted entity
+     */
+    protected void persistDelete(UUID id) {
+        if (!journalEnabled) {
+            persistSnapshot();
+            return;
+        }
+
+        try {
+            appendToJournal(List.of("{\"op\":\"" + OPERATION_DELETE + "\",\"id\":\"" + id + "\"}"));
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing " + entityName + " deletion to journal", e);
+        }
+    }
+
+    /**
+     * Persists a batch of inserted or updated entities.
+     * In journal mode one record per entity is appended and flushed together, otherwise the entity
+     * file is rewritten once for the whole batch.
+     *
+     * @param entities The entities that were saved
+     */
+    protected void persistUpsertAll(Collection<T> entities) {
+        if (!journalEnabled) {
+            persistSnapshot();
+            return;
+        }
+
+        try {
+            List<String> records = new ArrayList<>(entities.size());
+            for (T entity : entities) {
+                String entityJson = journalRecordWriter.writeValueAsString(entity);
+                records.add("{\"op\":\"" + OPERATION_UPSERT + "\",\"entity\":" + entityJson + "}");
+            }
+            appendToJournal(records);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing " + entityName + " to journal", e);
+        }
+    }
+
+    /**
+     * Persists the deletion of a batch of entities.
+     * In journal mode one record per ID is appended and flushed together, otherwise the entity
+     * file is rewritten once for the whole batch.
+     *
+     * @param ids The IDs of the deleted entities
+     */
+    protected void persistDeleteAll(Collection<UUID> ids) {
+        if (!journalEnabled) {
+            persistSnapshot();
+            return;
+        }
+
+        try {
+            List<String> records = new ArrayList<>(ids.size());
+            for (UUID id : ids) {
+                records.add("{\"op\":\"" + OPERATION_DELETE + "\",\"id\":\"" + id + "\"}");
+            }
+            appendToJournal(records);
+        } catch (IOException e) {
+            throw new RuntimeException("Error writing " + entityName + " deletion to journal", e);
+        }
+    }
+
+    /**
+     * Rewrites the entity file now in sync mode, otherwise leaves it to the persistence writer.
+     */
+    private void persistSnapshot() {
+        if (persistenceWriter.getDurabilityMode() == DurabilityMode.SYNC) {
+            writeSnapshot(serializeSnapshot());
+        } else {
+            persistenceWriter.markDirty(this);
+        }
+    }
+
+    /**
+     * Writes pending changes to disk.
+     * Called by the persistence writer for group commits and checkpoints.
+     */
+    void flush() {
+        byte[] snapshot;
+        synchronized (this) {
+            if (journalEnabled) {
+                flushJournal();
+                return;
+            }
+            snapshot = serializeSnapshot();
+        }
+        writeSnapshot(snapshot);
+    }
+
+    /**
+     * Flushes buffered journal records to the journal file and forces them to disk,
+     * so a whole group of records costs a single fsync.
+     */
+    private synchronized void flushJournal() {
+        if (journalWriter == null) {
+            return;
+        }
+
+        try {
+            journalWriter.flush();
+            journalChannel.force(false);
+        } catch (IOException e) {
+            throw new RuntimeException("Error flushing " + entityName + " journal", e);
+        }
+    }
+
+    /**
+     * Appends records to the journal and triggers a compaction once the threshold is reached.
+     * In sync mode the records are flushed and forced to disk immediately, otherwise with the next group commit.
+     *
+     * @param records The single-line JSON records
+     * @throws IOException If the journal cannot be written
+     */
+    private synchronized void appendToJournal(List<String> records) throws IOException {
+        if (journalWriter == null) {
+            journalChannel = FileChannel.open(getJournalPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+            journalWriter = new BufferedWriter(Channels.newWriter(journalChannel, StandardCharsets.UTF_8));
+        }
+        for (String record : records) {
+            journalWriter.write(record);
+            journalWriter.newLine();
+        }
+        journalRecordCount += records.size();
+
+        if (persistenceWriter.getDurabilityMode() == DurabilityMode.SYNC) {
+            journalWriter.flush();
+            journalChannel.force(false);
+        } else {
+            persistenceWriter.markDirty(this);
+        }
+
+        if (journalRecordCount >= compactionThreshold && !compactionInProgress
+                && (compactionBackoffNanos == 0 || System.nanoTime() - nextCompactionAttempt >= 0)) {
+            startCompaction();
+        }
+    }
+
+    /**
+     * Rotates the journal and writes a snapshot of the current state in the background.
+     * Records appended while the compaction is running go to a fresh journal file.
+     * <p>
+     * The snapshot is serialized while the caller still holds the monitor, because the entities
+     * are mutable and may change once the lock is released; only the file write happens in the
+     * background. If the write fails, the rotated journal is kept and the next attempt is delayed
+     * by a backoff that doubles with every failure.
+     *
+     * @throws IOException If the journal cannot be rotated
+     */
+    private void startCompaction() throws IOException {
+        compactionInProgress = true;
+        journalWriter.flush();
+        journalChannel.force(false);
+        journalWriter.close();
+        journalWriter = null;
+        journalChannel = null;
+        rotateJournal();
+        journalRecordCount = 0;
+
+        byte[] snapshot;
+        try {
+            snapshot = serializeSnapshot();
+        } catch (RuntimeException e) {
+            // The records are already in the journal, so only the compaction is given up
+            compactionFailed(e);
+            return;
+        }
+        persistenceWriter.submit(() -> {
+            try {
+                writeSnapshot(snapshot);
+                Files.deleteIfExists(getCompactingJournalPath());
+                synchronized (this) {
+                    compactionBackoffNanos = 0;
+                    compactionInProgress = false;
+                }
+            } catch (RuntimeException | IOException e) {
+                // The rotated journal stays on disk and is replayed on the next start
+                compactionFailed(e);
+            }
+        });
+    }
+
+    /**
+     * Moves the journal out of the way for a compaction. If a previous compaction failed, its
+     * rotated journal is still needed, so the journal is appended to it instead of replacing it.
+     *
+     * @throws IOException If the journal cannot be moved
+     */
+    private void rotateJournal() throws IOException {
+        Path compactingJournal = getCompactingJournalPath();
+        if (!Files.exists(compactingJournal)) {
+            Files.move(getJournalPath(), compactingJournal);
+            return;
+        }
+
+        try (FileChannel target = FileChannel.open(compactingJournal, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+             FileChannel source = FileChannel.open(getJournalPath(), StandardOpenOption.READ)) {
+            long position = 0;
+            long size = source.size();
+            while (position < size) {
+                position += source.transferTo(position, size - position, target);
+            }
+            target.force(false);
+        }
+        Files.delete(getJournalPath());
+    }
+
+    /**
+     * Schedules the next compaction attempt after a failed one.
+     *
+     * @param cause The reason the compaction failed
+     */
+    private synchronized void compactionFailed(Exception cause) {
+        compactionBackoffNanos = compactionBackoffNanos == 0
+                ? INITIAL_COMPACTION_BACKOFF_NANOS
+                : Math.min(compactionBackoffNanos * 2, MAX_COMPACTION_BACKOFF_NANOS);
+        nextCompactionAttempt = System.nanoTime() + compactionBackoffNanos;
+        compactionInProgress = false;
+        System.err.println("Error compacting " + entityName + " journal, retrying in "
+                + TimeUnit.NANOSECONDS.toSeconds(compactionBackoffNanos) + " s: " + cause.getMessage());
+    }
+
+    /**
+     * Writes all entities to the snapshot file right away and drops the journals folded into it.
+     * Used on load to migrate a file to the current format.
+     */
+    protected synchronized void rewriteSnapshot() {
+        writeSnapshot(serializeSnapshot());
+        if (journalWriter != null || compactionInProgress) {
+            return;
+        }
+
+        try {
+            Files.deleteIfExists(getCompactingJournalPath());
+            Files.deleteIfExists(getJournalPath());
+            journalRecordCount = 0;
+        } catch (IOException e) {
+            System.err.println("Error removing " + entityName + " journal: " + e.getMessage());
+        }
+    }
+
     /**
      * Saves a list of entities to the JSON file.
+     * The file is replaced atomically, see {@link SnapshotFiles#writeAtomically}.
      *
      * @param entities The entities to save
      */
     protected void saveToFile(List<T> entities) {
         try {
-            objectMapper.writeValue(new File(getFilePath()), entities);
+            SnapshotFiles.writeAtomically(Paths.get(getFilePath()), out -> snapshotWriter.writeValue(out, entities));
+        } catch (IOException e) {
+            throw new RuntimeException("Error saving " + entityName + " to JSON file", e);
+        }
+    }
+
+    /**
+     * Serializes the current state of all entities.
+     * Must be called while holding the repository's monitor, so the entities cannot change
+     * half-way through; the returned bytes can then be written without the lock.
+     *
+     * @return The snapshot file content
+     */
+    private byte[] serializeSnapshot() {
+        try {
+            return snapshotWriter.writeValueAsBytes(new ArrayList<>(getEntities()));
+        } catch (IOException e) {
+            throw new RuntimeException("Error serializing " + entityName + " to JSON", e);
+        }
+    }
+
+    /**
+     * Replaces the JSON file with serialized content.
+     * The file is replaced atomically, see {@link SnapshotFiles#writeAtomically}.
+     *
+     * @param snapshot The content returned by {@link #serializeSnapshot()}
+     */
+    private void writeSnapshot(byte[] snapshot) {
+        try {
+            SnapshotFiles.writeAtomically(Paths.get(getFilePath()), out -> out.write(snapshot));
         } catch (IOException e) {
             throw new RuntimeException("Error saving " + entityName + " to JSON file", e);
         }
     }
 
     /**
-     * Loads a list of entities from the JSON file.
+     * Loads a list of entities from the JSON file and replays any journal on top of it.
      *
      * @return The loaded entities
      */
     protected List<T> loadFromFile() {
+        List<T> entities = loadSnapshot();
+        if (!Files.exists(getJournalPath()) && !Files.exists(getCompactingJournalPath())) {
+            return entities;
+        }
+        return replayJournals(entities);
+    }
+
+    /**
+     * Loads the snapshot file without applying the journal and reports the load throughput.
+     * The checksum is computed in the same pass that parses the file. A file that cannot be parsed,
+     * or that parses but does not match its stored checksum, is moved aside, see
+     * {@link SnapshotFiles#quarantine(Path)}, and only the journal is replayed. A file without a stored
+     * checksum, or a mismatching one accepted by {@link PersistenceSettings#isChecksumMismatchAccepted()},
+     * is loaded and gets its checksum written.
+     *
+     * @return The entities stored in the snapshot
+     */
+    private List<T> loadSnapshot() {
         Path filePath = Paths.get(getFilePath());
         if (!Files.exists(filePath)) {
             return Collections.emptyList();
         }
 
+        long startTime = System.nanoTime();
+        List<T> entities;
+        long length;
+        long checksum;
+        try (CheckedInputStream in = SnapshotFiles.checkedStream(openSnapshotStream(filePath));
+             JsonParser parser = entityReader.createParser(in)) {
+            // The stream is still needed after the parser has reached the end of the file
+            parser.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+            length = Files.size(filePath);
+            entities = readEntities(parser);
+            // Include anything the parser did not need, e.g. trailing whitespace
+            in.transferTo(OutputStream.nullOutputStream());
+            checksum = in.getChecksum().getValue();
+        } catch (IOException e) {
+            System.err.println("Error loading " + entityName + " from JSON file: " + e.getMessage());
+            quarantineSnapshot(filePath);
+            // Return empty list instead of throwing exception to allow application to start
+            return Collections.emptyList();
+        }
+
+        reportLoadThroughput(length, System.nanoTime() - startTime);
         try {
-            // Check if file is empty
-            if (Files.size(filePath) == 0) {
-                return Collections.emptyList();
+            if (!SnapshotFiles.matchesChecksum(filePath, checksum, length)) {
+                if (SnapshotFiles.hasChecksum(filePath) && !PersistenceSettings.isChecksumMismatchAccepted()) {
+                    System.err.println("Error loading " + entityName + " from JSON file: Checksum mismatch");
+                    quarantineSnapshot(filePath);
+                    return Collections.emptyList();
+                }
+                System.err.println("Warning: No matching checksum for " + filePath + ", storing the checksum of its content");
+                SnapshotFiles.updateChecksum(filePath, checksum, length);
             }
+        } catch (IOException e) {
+            System.err.println("Error updating checksum of " + filePath + ": " + e.getMessage());
+        }
+        return entities;
+    }
 
-            String content = Files.readString(filePath);
-            if (content.trim().isEmpty() || content.trim().equals("[]")) {
-                return Collections.emptyList();
-            }
+    /**
+     * Opens the snapshot file according to the configured load mode.
+     *
+     * @param filePath The snapshot file
+     * @return The stream over the file
+     * @throws IOException If the file cannot be opened
+     */
+    private InputStream openSnapshotStream(Path filePath) throws IOException {
+        if (loadMode == LoadMode.MAPPED) {
+            return new MappedFileInputStream(filePath);
+        }
+        return Files.newInputStream(filePath);
+    }
 
-            return objectMapper.readValue(filePath.toFile(),
-                    objectMapper.getTypeFactory().constructCollectionType(List.class, entityClass));
+    private void quarantineSnapshot(Path filePath) {
+        try {
+            Path corruptCopy = SnapshotFiles.quarantine(filePath);
+            System.err.println("Warning: Moved corrupt " + filePath + " to " + corruptCopy);
         } catch (IOException e) {
-            System.err.println("Error loading " + entityName + " from JSON file: " + e.getMessage());
-            // Return empty list instead of throwing exception to allow application to start
+            System.err.println("Error moving aside " + filePath + ": " + e.getMessage());
+        }
+    }
+
+    private void reportLoadThroughput(long bytes, long elapsedNanos) {
+        double megabytes = bytes / (1024.0 * 1024.0);
+        double seconds = Math.max(elapsedNanos, 1) / 1_000_000_000.0;
+        System.out.printf("Loaded %s.json (%.2f MB) in %d ms, %.1f MB/s (%s)%n",
+                entityName, megabytes, elapsedNanos / 1_000_000, megabytes / seconds, loadMode);
+    }
+
+    /**
+     * Reads a snapshot in a single pass over the token stream.
+     * Empty files, {@code null} and empty arrays are detected from the first tokens, and each
+     * array element is bound as soon as it is read, so only one element is buffered at a time.
+     *
+     * @param parser A parser positioned before the root value
+     * @return The entities stored in the snapshot
+     * @throws IOException If the content is not a JSON array of entities
+     */
+    private List<T> readEntities(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == null || token == JsonToken.VALUE_NULL) {
             return Collections.emptyList();
         }
+        if (token != JsonToken.START_ARRAY) {
+            throw new IOException("Expected a JSON array but found " + token);
+        }
+
+        List<T> entities = new ArrayList<>();
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token == null) {
+                throw new IOException("Unexpected end of file, the array is not closed");
+            }
+            entities.add(entityReader.readValue(parser));
+        }
+
+        if (parser.nextToken() != null) {
+            throw new IOException("Unexpected content after the JSON array");
+        }
+        return entities;
+    }
+
+    /**
+     * Applies the rotated and the current journal to the snapshot entities.
+     * Journals left over from an interrupted compaction, or from a run with the journal enabled
+     * while it is now disabled, are folded into the snapshot file right away.
+     *
+     * @param snapshot The entities loaded from the snapshot file
+     * @return The entities after replaying the journals
+     */
+    private List<T> replayJournals(List<T> snapshot) {
+        Map<UUID, T> entities = new LinkedHashMap<>();
+        for (T entity : snapshot) {
+            entities.put(getEntityId(entity), entity);
+        }
+
+        boolean interruptedCompaction = Files.exists(getCompactingJournalPath());
+        int replayed = replayJournal(getCompactingJournalPath(), entities)
+                + replayJournal(getJournalPath(), entities);
+        List<T> result = new ArrayList<>(entities.values());
+
+        if (!journalEnabled || interruptedCompaction) {
+            saveToFile(result);
+            try {
+                Files.deleteIfExists(getCompactingJournalPath());
+                Files.deleteIfExists(getJournalPath());
+            } catch (IOException e) {
+                System.err.println("Error removing " + entityName + " journal: " + e.getMessage());
+            }
+        } else {
+            journalRecordCount = replayed;
+        }
+
+        System.out.println("Replayed " + replayed + " journal records for " + entityName);
+        return result;
+    }
+
+    /**
+     * Replays a single journal file. A record that cannot be parsed (e.g. a write torn by a crash)
+     * is reported and skipped. A torn last record is also cut off the file, see {@link #truncateTornTail}.
+     *
+     * @param journalPath The journal file
+     * @param entities The entities to apply the records to, keyed by ID
+     * @return The number of records applied
+     */
+    private int replayJournal(Path journalPath, Map<UUID, T> entities) {
+        if (!Files.exists(journalPath)) {
+            return 0;
+        }
+
+        try {
+            truncateTornTail(journalPath);
+        } catch (IOException e) {
+            System.err.println("Error truncating " + journalPath + ": " + e.getMessage());
+        }
+
+        int applied = 0;
+        try (BufferedReader reader = Files.newBufferedReader(journalPath, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (line.isBlank()) {
+                    continue;
+                }
+
+                try {
+                    JsonNode record = entityReader.readTree(line);
+                    String operation = record.get("op").asText();
+                    if (OPERATION_UPSERT.equals(operation)) {
+                        T entity = entityReader.readValue(record.get("entity"));
+                        entities.put(getEntityId(entity), entity);
+                    } else if (OPERATION_DELETE.equals(operation)) {
+                        entities.remove(UUID.fromString(record.get("id").asText()));
+                    } else {
+                        throw new IOException("Unknown journal operation: " + operation);
+                    }
+                    applied++;
+                } catch (IOException | RuntimeException e) {
+                    System.err.println("Skipping invalid record in " + journalPath + ": " + e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            System.err.println("Error reading " + entityName + " journal: " + e.getMessage());
+        }
+        return applied;
+    }
+
+    /**
+     * Cuts a journal off after its last newline. Every append ends its record with a newline, so
+     * anything after it is a record torn by a crash. Left in place, the next append would be glued
+     * onto the fragment and lost on the following replay.
+     *
+     * @param journalPath The journal file
+     * @throws IOException If the journal cannot be read or truncated
+     */
+    private void truncateTornTail(Path journalPath) throws IOException {
+        try (FileChannel channel = FileChannel.open(journalPath, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long size = channel.size();
+            long complete = 0;
+            ByteBuffer buffer = ByteBuffer.allocate(TAIL_BUFFER_SIZE);
+            for (long position = size; position > 0 && complete == 0; ) {
+                int length = (int) Math.min(buffer.capacity(), position);
+                position -= length;
+                buffer.clear().limit(length);
+                while (buffer.hasRemaining()) {
+                    if (channel.read(buffer, position + buffer.position()) < 0) {
+                        throw new IOException("Unexpected end of " + journalPath);
+                    }
+                }
+                for (int i = length - 1; i >= 0; i--) {
+                    if (buffer.get(i) == '\n') {
+                        complete = position + i + 1;
+                        break;
+                    }
+                }
+            }
+
+            if (complete < size) {
+                System.err.println("Truncating torn record at the end of " + journalPath
+                        + " (" + (size - complete) + " bytes)");
+                channel.truncate(complete);
+                channel.force(false);
+            }
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,145 @@
+package de.dhbw.repositories.json;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Background writer shared by all JSON repositories.
+ * Repositories that are not written synchronously mark themselves dirty, and the writer
+ * flushes all dirty repositories together, so a burst of commands touching several
+ * repositories results in one write per repository instead of one write per operation.
+ * The writer also runs journal compactions and performs a final checkpoint on shutdown.
+ */
+public class JsonPersistenceWriter {
+    private static JsonPersistenceWriter instance;
+
+    private final DurabilityMode durabilityMode;
+    private final ScheduledExecutorService executor;
+    private final Set<JsonPersistenceBase<?>> dirtyRepositories = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Gets the singleton instance of the writer, starting it on first use.
+     *
+     * @return The writer instance
+     */
+    public static synchronized JsonPersistenceWriter getInstance() {
+        if (instance == null) {
+            instance = new JsonPersistenceWriter(PersistenceSettings.getDurabilityMode());
+        }
+        return instance;
+    }
+
+    /**
+     * Creates and starts a writer. Repositories normally share the one from {@link #getInstance()}.
+     *
+     * @param durabilityMode The durability mode
+     */
+    JsonPersistenceWriter(DurabilityMode durabilityMode) {
+        this.durabilityMode = durabilityMode;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "json-persistence-writer");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        if (durabilityMode == DurabilityMode.GROUP_COMMIT) {
+            long interval = PersistenceSettings.getGroupCommitIntervalMillis();
+            executor.scheduleWithFixedDelay(this::flushDirtyRepositories, interval, interval, TimeUnit.MILLISECONDS);
+        } else if (durabilityMode == DurabilityMode.CHECKPOINT) {
+            long interval = PersistenceSettings.getCheckpointIntervalSeconds();
+            executor.scheduleWithFixedDelay(this::flushDirtyRepositories, interval, interval, TimeUnit.SECONDS);
+        }
+
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "json-persistence-shutdown"));
+    }
+
+    /**
+     * Gets the durability mode the writer was started with.
+     *
+     * @return The durability mode
+     */
+    public DurabilityMode getDurabilityMode() {
+        return durabilityMode;
+    }
+
+    /**
+     * Marks a repository as having changes that still need to be flushed.
+     *
+     * @param repository The repository with pending changes
+     */
+    void markDirty(JsonPersistenceBase<?> repository) {
+        dirtyRepositories.add(repository);
+    }
+
+    /**
+     * Runs a task on the writer thread, or on the calling thread once the writer is shut down.
+     *
+     * @param task The task to run
+     */
+    void submit(Runnable task) {
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            task.run();
+        }
+    }
+
+    /**
+     * Flushes all dirty repositories immediately.
+     */
+    public void checkpoint() {
+        flushDirtyRepositories();
+    }
+
+    /**
+     * Waits until all background work submitted so far, such as compactions, has finished.
+     */
+    void awaitPendingWork() {
+        try {
+            executor.submit(() -> { }).get();
+        } catch (RejectedExecutionException e) {
+            // Already shut down, nothing is pending
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Flushes every dirty repository once. A repository that fails to flush stays dirty
+     * and is retried with the next group.
+     */
+    private synchronized void flushDirtyRepositories() {
+        Iterator<JsonPersistenceBase<?>> iterator = dirtyRepositories.iterator();
+        while (iterator.hasNext()) {
+            JsonPersistenceBase<?> repository = iterator.next();
+            iterator.remove();
+            try {
+                repository.flush();
+            } catch (RuntimeException e) {
+                dirtyRepositories.add(repository);
+                System.err.println("Error flushing " + repository.entityName + ": " + e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Writes a final checkpoint and waits for pending background work such as compactions.
+     */
+    void shutdown() {
+        flushDirtyRepositories();
+        executor.shutdown();
+        try {
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -3,9 +3,18 @@ package de.dhbw.repositories.json;
 import de.dhbw.repositories.*;
 import de.dhbw.repositories.json.deserializers.*;
 
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
 /**
  * Factory for creating JSON repositories with proper dependencies.
  * This helps manage the circular dependencies between repositories.
+ * <p>
+ * Repositories are loaded in two phases on virtual threads: first the independent room, officer
+ * and detainee repositories, then the interrogation and meeting repositories, which resolve their
+ * references against the first phase.
  */
 public class JsonRepositoryFactory {
     private JsonRoomRepository roomRepository;
@@ -18,23 +27,35 @@ public class JsonRepositoryFactory {
      * Creates all repositories with proper dependencies.
      */
     public JsonRepositoryFactory() {
-        // First, create basic repositories without complex dependencies
-        createBasicRepositories();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            // First, create basic repositories without complex dependencies
+            long phaseStart = System.nanoTime();
+            createBasicRepositories(executor);
+            logPhase("Base repositories", phaseStart);
 
-        // Register these repositories in the registry for use during deserialization
-        registerRepositories();
+            // Register these repositories in the registry for use during deserialization
+            registerRepositories();
 
-        // Now create repositories with dependencies after registry is set up
-        createDependentRepositories();
+            // Now create repositories with dependencies after registry is set up
+            phaseStart = System.nanoTime();
+            createDependentRepositories(executor);
+            logPhase("Dependent repositories", phaseStart);
+        }
     }
 
     /**
-     * Creates basic repositories that don't depend on other repositories.
+     * Creates basic repositories that don't depend on other repositories, loading them concurrently.
+     *
+     * @param executor The executor to load the repositories on
      */
-    private void createBasicRepositories() {
-        roomRepository = new JsonRoomRepository();
-        officerRepository = new JsonOfficerRepository();
-        detaineeRepository = new JsonDetaineeRepository();
+    private void createBasicRepositories(ExecutorService executor) {
+        Future<JsonRoomRepository> rooms = executor.submit(JsonRoomRepository::new);
+        Future<JsonOfficerRepository> officers = executor.submit(JsonOfficerRepository::new);
+        Future<JsonDetaineeRepository> detainees = executor.submit(JsonDetaineeRepository::new);
+
+        roomRepository = await(rooms);
+        officerRepository = await(officers);
+        detaineeRepository = await(detainees);
     }
 
     /**
@@ -52,14 +73,19 @@ public class JsonRepositoryFactory {
     }
 
     /**
-     * Creates repositories that depend on other repositories.
+     * Creates repositories that depend on other repositories, loading them concurrently.
+     *
+     * @param executor The executor to load the repositories on
      */
-    private void createDependentRepositories() {
+    private void createDependentRepositories(ExecutorService executor) {
         // Now create repositories with dependencies
-        interrogationRepository = new JsonInterrogationRepository(
-                officerRepository, detaineeRepository, roomRepository);
-        meetingRepository = new JsonMeetingRepository(
-                officerRepository, roomRepository);
+        Future<JsonInterrogationRepository> interrogations = executor.submit(() -> new JsonInterrogationRepository(
+                officerRepository, detaineeRepository, roomRepository));
+        Future<JsonMeetingRepository> meetings = executor.submit(() -> new JsonMeetingRepository(
+                officerRepository, roomRepository));
+
+        interrogationRepository = await(interrogations);
+        meetingRepository = await(meetings);
 
         // Update the registry with the complete set of repositories
         RepositoryRegistry.getInstance().registerRepositories(
@@ -70,6 +96,30 @@ public class JsonRepositoryFactory {
                 meetingRepository);
     }
 
+    /**
+     * Waits for a repository to finish loading.
+     *
+     * @param future The pending repository
+     * @return The loaded repository
+     */
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading repositories", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Error loading repositories", e.getCause());
+        }
+    }
+
+    private static void logPhase(String phase, long startTime) {
+        System.out.println(phase + " loaded in " + (System.nanoTime() - startTime) / 1_000_000 + " ms");
+    }
+
     /**
      * Gets the room repository.
      *
@@ -1,29 +1,29 @@
 package de.dhbw.repositories.json;
 
-import com.fasterxml.jackson.databind.module.SimpleModule;
 import de.dhbw.aggregates.Room;
 import de.dhbw.repositories.RoomRepository;
-import de.dhbw.repositories.json.deserializers.RoomDeserializer;
+import de.dhbw.repositories.index.RoomPool;
+import de.dhbw.repositories.index.SecondaryIndex;
+import de.dhbw.valueobjects.PageRequest;
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.*;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * JSON implementation of the RoomRepository interface.
  * Stores rooms in a JSON file.
  */
 public class JsonRoomRepository extends JsonPersistenceBase<Room> implements RoomRepository {
-    private Map<UUID, Room> rooms = new HashMap<>();
+    private Map<UUID, Room> rooms = new LinkedHashMap<>();
+    private final SecondaryIndex<RoomType, Room> typeIndex = new SecondaryIndex<>(Room::getType, Room::getId);
+    private final RoomPool roomPool = new RoomPool();
 
     public JsonRoomRepository() {
         super("rooms", Room.class);
 
-        // Register the custom deserializer
-        SimpleModule module = new SimpleModule();
-        module.addDeserializer(Room.class, new RoomDeserializer());
-        objectMapper.registerModule(module);
-
         loadRooms();
     }
 
@@ -33,27 +33,68 @@ public class JsonRoomRepository extends JsonPersistenceBase<Room> implements Roo
     private void loadRooms() {
         List<Room> roomList = loadFromFile();
         rooms.clear();
+        typeIndex.clear();
+        roomPool.clear();
         for (Room room : roomList) {
-            rooms.put(room.getId(), room);
+            put(room);
         }
     }
 
+    @Override
+    protected UUID getEntityId(Room room) {
+        return room.getId();
+    }
+
+    @Override
+    protected Collection<Room> getEntities() {
+        return rooms.values();
+    }
+
+    @Override
+    public synchronized void save(Room room) {
+        put(room);
+        persistUpsert(room);
+    }
+
+    @Override
+    public synchronized void saveAll(Collection<Room> batch) {
+        for (Room room : batch) {
+            put(room);
+        }
+        persistUpsertAll(batch);
+    }
+
     /**
-     * Saves rooms to the JSON file.
+     * Saves the room under the repository's monitor unless its version, or that of the stored room,
+     * moved past the given version, so no concurrent save can slip in between the check and the write.
      */
-    private void saveRooms() {
-        saveToFile(new ArrayList<>(rooms.values()));
+    @Override
+    public synchronized boolean saveIfUnchanged(Room room, long version) {
+        Room stored = rooms.get(room.getId());
+        if (room.getVersion() != version || (stored != null && stored.getVersion() > version)) {
+            return false;
+        }
+        save(room);
+        return true;
     }
 
+    /**
+     * Looks the room up under the repository's monitor. The serializers of interrogations and meetings
+     * call it from the persistence writer's thread to decide whether to embed the room.
+     */
     @Override
-    public void save(Room room) {
-        rooms.put(room.getId(), room);
-        saveRooms();
+    public synchronized Optional<Room> findById(UUID id) {
+        return Optional.ofNullable(rooms.get(id));
     }
 
     @Override
-    public Optional<Room> findById(UUID id) {
-        return Optional.ofNullable(rooms.get(id));
+    public synchronized boolean existsById(UUID id) {
+        return rooms.containsKey(id);
+    }
+
+    @Override
+    public long count() {
+        return rooms.size();
     }
 
     @Override
@@ -61,30 +102,142 @@ public class JsonRoomRepository extends JsonPersistenceBase<Room> implements Roo
         return new ArrayList<>(rooms.values());
     }
 
+    @Override
+    public Stream<Room> streamAll() {
+        return rooms.values().stream();
+    }
+
+    @Override
+    public synchronized List<Room> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     @Override
     public List<Room> findByType(RoomType type) {
-        return rooms.values().stream()
-                .filter(room -> room.getType() == type)
-                .collect(Collectors.toList());
+        List<Room> result = new ArrayList<>();
+        for (UUID id : typeIndex.get(type)) {
+            result.add(rooms.get(id));
+        }
+        return result;
     }
 
     @Override
-    public List<Room> findAvailable() {
-        return rooms.values().stream()
-                .filter(Room::isAvailable)
-                .collect(Collectors.toList());
+    public long countByType(RoomType type) {
+        return typeIndex.get(type).size();
     }
 
     @Override
-    public List<Room> findAvailableByType(RoomType type) {
-        return rooms.values().stream()
-                .filter(room -> room.getType() == type && room.isAvailable())
-                .collect(Collectors.toList());
+    public synchronized List<Room> findAvailable() {
+        return roomPool.getAll();
     }
 
     @Override
-    public void deleteById(UUID id) {
-        rooms.remove(id);
-        saveRooms();
+    public synchronized List<Room> findAvailableByType(RoomType type) {
+        return roomPool.get(type);
+    }
+
+    /**
+     * Counts the available rooms of the type from the pool, consistent with {@link #findAvailableByType}.
+     */
+    @Override
+    public synchronized long countAvailableByType(RoomType type) {
+        return roomPool.count(type);
+    }
+
+    /**
+     * Gets the booked rooms from the pool instead of filtering all rooms.
+     */
+    @Override
+    public synchronized List<Room> findBooked() {
+        return roomPool.getBooked();
+    }
+
+    @Override
+    public synchronized long countBooked() {
+        return roomPool.countBooked();
+    }
+
+    /**
+     * Takes the first available room of the type from the pool and books and saves it under the
+     * repository's monitor, so concurrent callers never get the same room.
+     */
+    @Override
+    public synchronized Optional<Room> allocate(RoomType type) {
+        Room room = roomPool.allocate(type);
+        if (room == null) {
+            return Optional.empty();
+        }
+        save(room);
+        return Optional.of(room);
+    }
+
+    /**
+     * Books and saves the room under the repository's monitor, so the pool sees the booking at once.
+     */
+    @Override
+    public synchronized boolean book(Room room, long version) {
+        return room.tryBook(version) && saveIfUnchanged(room, version + 1);
+    }
+
+    /**
+     * Releases and saves the room under the repository's monitor, so the pool sees the release at once.
+     */
+    @Override
+    public synchronized void release(Room room) {
+        room.release();
+        save(room);
+    }
+
+    /**
+     * Reserves the span in the first free room of the type straight from the pool, under the
+     * repository's monitor so concurrent callers never get the same slots.
+     */
+    @Override
+    public synchronized Optional<Room> reserve(RoomType type, LocalDateTime start, LocalDateTime end) {
+        Room room = roomPool.reserve(type, start, end);
+        if (room == null) {
+            return Optional.empty();
+        }
+        save(room);
+        return Optional.of(room);
+    }
+
+    @Override
+    public synchronized void deleteById(UUID id) {
+        remove(id);
+        persistDelete(id);
+    }
+
+    @Override
+    public synchronized void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            remove(id);
+        }
+        persistDeleteAll(ids);
+    }
+
+    /**
+     * Updates the map and the indexes for a saved room, without persisting it. Past days are dropped
+     * from the room's calendar, so it only keeps days that can still be reserved.
+     */
+    private void put(Room room) {
+        room.getCalendar().pruneBefore(LocalDate.now());
+        rooms.put(room.getId(), room);
+        typeIndex.add(room);
+        roomPool.update(room);
+    }
+
+    /**
+     * Removes a room from the map and the indexes, without persisting the deletion.
+     */
+    private void remove(UUID id) {
+        Room removed = rooms.remove(id);
+        if (removed != null) {
+            typeIndex.remove(removed);
+            roomPool.remove(removed);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,102 @@
+package de.dhbw.repositories.json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream over a memory-mapped file.
+ * The file is mapped in chunks, so files larger than a single mapping (2 GB) can be read as well.
+ * <p>
+ * Each chunk is mapped in its own arena and unmapped as soon as the next chunk is mapped or the
+ * stream is closed. A {@link java.nio.MappedByteBuffer} would only be unmapped by the garbage
+ * collector, and some platforms (notably Windows) refuse to replace a file that is still mapped,
+ * which broke rewriting the snapshot right after it was loaded.
+ */
+class MappedFileInputStream extends InputStream {
+    private static final long CHUNK_SIZE = 256L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long mappedUpTo;
+    private Arena chunkArena;
+    private ByteBuffer chunk;
+
+    /**
+     * Opens a file for mapped reading.
+     *
+     * @param file The file to read
+     * @throws IOException If the file cannot be opened
+     */
+    MappedFileInputStream(Path file) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.size = channel.size();
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureAvailable()) {
+            return -1;
+        }
+        return chunk.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (length == 0) {
+            return 0;
+        }
+        if (!ensureAvailable()) {
+            return -1;
+        }
+
+        int count = Math.min(length, chunk.remaining());
+        chunk.get(buffer, offset, count);
+        return count;
+    }
+
+    @Override
+    public int available() {
+        return chunk == null ? 0 : chunk.remaining();
+    }
+
+    @Override
+    public void close() throws IOException {
+        unmapChunk();
+        channel.close();
+    }
+
+    /**
+     * Maps the next chunk once the current one is exhausted.
+     *
+     * @return true if there is data left to read
+     * @throws IOException If the next chunk cannot be mapped
+     */
+    private boolean ensureAvailable() throws IOException {
+        if (chunk != null && chunk.hasRemaining()) {
+            return true;
+        }
+        if (mappedUpTo >= size) {
+            return false;
+        }
+
+        unmapChunk();
+        long chunkSize = Math.min(CHUNK_SIZE, size - mappedUpTo);
+        chunkArena = Arena.ofConfined();
+        chunk = channel.map(FileChannel.MapMode.READ_ONLY, mappedUpTo, chunkSize, chunkArena).asByteBuffer();
+        mappedUpTo += chunkSize;
+        return true;
+    }
+
+    private void unmapChunk() {
+        chunk = null;
+        if (chunkArena != null) {
+            chunkArena.close();
+            chunkArena = null;
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package de.dhbw.repositories.json;
+
+/**
+ * Central access to the persistence settings of the file-based repositories.
+ * All settings are read from system properties so they can be changed per run,
+ * e.g. {@code java -Dpms.journal=true -jar ...}.
+ */
+public class PersistenceSettings {
+    private static final String JOURNAL_PROPERTY = "pms.journal";
+    private static final String JOURNAL_COMPACTION_THRESHOLD_PROPERTY = "pms.journal.compactionThreshold";
+    private static final int DEFAULT_JOURNAL_COMPACTION_THRESHOLD = 1000;
+    private static final String DURABILITY_PROPERTY = "pms.durability";
+    private static final String GROUP_COMMIT_INTERVAL_PROPERTY = "pms.groupCommitMillis";
+    private static final long DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS = 50;
+    private static final String CHECKPOINT_INTERVAL_PROPERTY = "pms.checkpointSeconds";
+    private static final long DEFAULT_CHECKPOINT_INTERVAL_SECONDS = 300;
+    private static final String LOAD_MODE_PROPERTY = "pms.load";
+    private static final String BACKEND_PROPERTY = "pms.backend";
+    private static final String CONCURRENT_PROPERTY = "pms.concurrent";
+    private static final String ACCEPT_CHECKSUM_MISMATCH_PROPERTY = "pms.acceptChecksumMismatch";
+
+    private PersistenceSettings() {
+        // Utility class
+    }
+
+    /**
+     * Checks whether the append-only journal is enabled.
+     * When disabled, every mutation rewrites the complete entity file.
+     *
+     * @return true if mutations are appended to a journal, false otherwise
+     */
+    public static boolean isJournalEnabled() {
+        return Boolean.getBoolean(JOURNAL_PROPERTY);
+    }
+
+    /**
+     * Gets the number of journal records after which the journal is compacted
+     * into the snapshot file.
+     *
+     * @return The compaction threshold
+     */
+    public static int getJournalCompactionThreshold() {
+        int threshold = Integer.getInteger(JOURNAL_COMPACTION_THRESHOLD_PROPERTY, DEFAULT_JOURNAL_COMPACTION_THRESHOLD);
+        return Math.max(1, threshold);
+    }
+
+    /**
+     * Gets the durability mode, e.g. {@code -Dpms.durability=GROUP_COMMIT}.
+     *
+     * @return The configured durability mode, {@link DurabilityMode#SYNC} by default
+     */
+    public static DurabilityMode getDurabilityMode() {
+        String mode = System.getProperty(DURABILITY_PROPERTY);
+        if (mode == null || mode.isBlank()) {
+            return DurabilityMode.SYNC;
+        }
+
+        try {
+            return DurabilityMode.valueOf(mode.trim().toUpperCase().replace('-', '_'));
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown durability mode '" + mode + "', falling back to SYNC");
+            return DurabilityMode.SYNC;
+        }
+    }
+
+    /**
+     * Gets the interval between two group commits.
+     *
+     * @return The group commit interval in milliseconds
+     */
+    public static long getGroupCommitIntervalMillis() {
+        return Math.max(1, Long.getLong(GROUP_COMMIT_INTERVAL_PROPERTY, DEFAULT_GROUP_COMMIT_INTERVAL_MILLIS));
+    }
+
+    /**
+     * Gets the interval between two checkpoints in checkpoint-only mode.
+     *
+     * @return The checkpoint interval in seconds
+     */
+    public static long getCheckpointIntervalSeconds() {
+        return Math.max(1, Long.getLong(CHECKPOINT_INTERVAL_PROPERTY, DEFAULT_CHECKPOINT_INTERVAL_SECONDS));
+    }
+
+    /**
+     * Gets the way snapshot files are read, e.g. {@code -Dpms.load=MAPPED}.
+     *
+     * @return The configured load mode, {@link LoadMode#BUFFERED} by default
+     */
+    public static LoadMode getLoadMode() {
+        String mode = System.getProperty(LOAD_MODE_PROPERTY);
+        if (mode == null || mode.isBlank()) {
+            return LoadMode.BUFFERED;
+        }
+
+        try {
+            return LoadMode.valueOf(mode.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown load mode '" + mode + "', falling back to BUFFERED");
+            return LoadMode.BUFFERED;
+        }
+    }
+
+    /**
+     * Gets the storage backend, e.g. {@code -Dpms.backend=BINARY}.
+     *
+     * @return The configured backend, {@link StorageBackend#JSON} by default
+     */
+    public static StorageBackend getStorageBackend() {
+        String backend = System.getProperty(BACKEND_PROPERTY);
+        if (backend == null || backend.isBlank()) {
+            return StorageBackend.JSON;
+        }
+
+        try {
+            return StorageBackend.valueOf(backend.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            System.err.println("Unknown storage backend '" + backend + "', falling back to JSON");
+            return StorageBackend.JSON;
+        }
+    }
+
+    /**
+     * Checks whether the repositories are wrapped in their thread-safe views,
+     * e.g. {@code -Dpms.concurrent=true}, so they can be shared by several threads.
+     *
+     * @return true if the repositories are guarded by locks, false otherwise
+     */
+    public static boolean isConcurrentAccessEnabled() {
+        return Boolean.getBoolean(CONCURRENT_PROPERTY);
+    }
+
+    /**
+     * Checks whether a JSON snapshot that parses but does not match its stored checksum is accepted,
+     * e.g. {@code -Dpms.acceptChecksumMismatch=true} after editing a file by hand. By default such a
+     * file is treated as corrupt and moved aside.
+     *
+     * @return true if a mismatching but readable snapshot is loaded and its checksum rewritten
+     */
+    public static boolean isChecksumMismatchAccepted() {
+        return Boolean.getBoolean(ACCEPT_CHECKSUM_MISMATCH_PROPERTY);
+    }
+}
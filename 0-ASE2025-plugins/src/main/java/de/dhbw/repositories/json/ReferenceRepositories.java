@@ -0,0 +1,82 @@
+package de.dhbw.repositories.json;
+
+import com.fasterxml.jackson.databind.DatabindContext;
+import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The repositories that interrogation and meeting records reference by id.
+ * <p>
+ * The shared readers and writers of {@link JsonCodecs} are not bound to particular repositories;
+ * a repository attaches an instance as a per-call attribute instead, so one mapper serves all of
+ * them. The instance also counts the records read in the legacy embedded format.
+ */
+public class ReferenceRepositories {
+    private final OfficerRepository officerRepository;
+    private final DetaineeRepository detaineeRepository;
+    private final RoomRepository roomRepository;
+    private final AtomicInteger legacyRecordCount = new AtomicInteger();
+
+    public ReferenceRepositories(OfficerRepository officerRepository, DetaineeRepository detaineeRepository,
+                                 RoomRepository roomRepository) {
+        this.officerRepository = officerRepository;
+        this.detaineeRepository = detaineeRepository;
+        this.roomRepository = roomRepository;
+    }
+
+    /**
+     * Gets the instance attached to a serialization or deserialization call.
+     *
+     * @param context The Jackson context of the call
+     * @return The attached repositories, or {@code null} if none were attached
+     */
+    public static ReferenceRepositories from(DatabindContext context) {
+        return (ReferenceRepositories) context.getAttribute(ReferenceRepositories.class);
+    }
+
+    /**
+     * Gets the officer repository.
+     *
+     * @return The officer repository
+     */
+    public OfficerRepository getOfficerRepository() {
+        return officerRepository;
+    }
+
+    /**
+     * Gets the detainee repository.
+     *
+     * @return The detainee repository, {@code null} when only serializing
+     */
+    public DetaineeRepository getDetaineeRepository() {
+        return detaineeRepository;
+    }
+
+    /**
+     * Gets the room repository.
+     *
+     * @return The room repository
+     */
+    public RoomRepository getRoomRepository() {
+        return roomRepository;
+    }
+
+    /**
+     * Records that a record was read in the legacy format that embeds full object copies.
+     */
+    public void recordLegacyRecord() {
+        legacyRecordCount.incrementAndGet();
+    }
+
+    /**
+     * Gets the number of records read in the legacy format.
+     *
+     * @return The number of legacy records
+     */
+    public int getLegacyRecordCount() {
+        return legacyRecordCount.get();
+    }
+}
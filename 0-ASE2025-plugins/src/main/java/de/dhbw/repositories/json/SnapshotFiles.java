@@ -0,0 +1,286 @@
+package de.dhbw.repositories.json;
+
+import java.io.BufferedOutputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.zip.CRC32C;
+import java.util.zip.CheckedInputStream;
+import java.util.zip.CheckedOutputStream;
+
+/**
+ * Crash-safe handling of the JSON snapshot files.
+ * <p>
+ * Snapshots are written to a temporary file, forced to disk and atomically renamed over the
+ * previous snapshot, so a crash leaves either the old or the new file, never a truncated one.
+ * Each snapshot gets a {@code <file>.crc} companion holding its CRC32C and length. The checksum is
+ * kept next to the file rather than inside it so that the snapshot stays plain JSON.
+ */
+public class SnapshotFiles {
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String CHECKSUM_SUFFIX = ".crc";
+    private static final String CORRUPT_SUFFIX = ".corrupt-";
+    private static final String EMPTY_SNAPSHOT = "[]";
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final DateTimeFormatter CORRUPT_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    /**
+     * Result of preparing a snapshot file on startup.
+     */
+    public enum Status {
+        /** The file did not exist and an empty snapshot was created. */
+        CREATED,
+        /** A write interrupted by a crash was complete and has been moved into place. */
+        COMPLETED,
+        /** The file exists; it is verified when it is loaded. */
+        PRESENT
+    }
+
+    /**
+     * Writes content to a stream. Unlike a plain consumer it may throw an {@link IOException}.
+     */
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+
+    private SnapshotFiles() {
+        // Utility class
+    }
+
+    /**
+     * Atomically replaces a file with new content and updates its checksum.
+     *
+     * @param target The file to replace
+     * @param contentWriter Writes the new content
+     * @throws IOException If the content cannot be written
+     */
+    public static void writeAtomically(Path target, ContentWriter contentWriter) throws IOException {
+        Path tempFile = siblingPath(target, TEMP_SUFFIX);
+        CRC32C checksum = new CRC32C();
+        long length;
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            CheckedOutputStream out = new CheckedOutputStream(
+                    new BufferedOutputStream(Channels.newOutputStream(channel), READ_BUFFER_SIZE), checksum);
+            contentWriter.writeTo(new NonClosingOutputStream(out));
+            out.flush();
+            length = channel.size();
+            channel.force(true);
+        }
+
+        writeChecksum(target, checksum.getValue(), length);
+        moveAtomically(tempFile, target);
+        forceDirectory(target);
+    }
+
+    /**
+     * Prepares a snapshot file on startup without reading it.
+     * A write interrupted after its checksum was stored is completed, a missing file is created empty.
+     * The content itself is verified while it is loaded, see {@link #checkedStream(InputStream)}.
+     *
+     * @param file The snapshot file
+     * @return What was found and done
+     * @throws IOException If the file cannot be repaired or created
+     */
+    public static Status prepare(Path file) throws IOException {
+        boolean completed = recoverInterruptedWrite(file);
+
+        if (!Files.exists(file)) {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            writeEmptySnapshot(file);
+            return Status.CREATED;
+        }
+        return completed ? Status.COMPLETED : Status.PRESENT;
+    }
+
+    /**
+     * Cleans up the temporary file of a write that was interrupted by a crash.
+     * The checksum is stored before the temporary file is renamed, so a temporary file matching the
+     * stored checksum is a complete snapshot that only missed its rename, and the rename is redone.
+     * Any other temporary file is a partial write and is deleted.
+     *
+     * @param file The snapshot file
+     * @return true if an interrupted write was completed
+     * @throws IOException If the temporary file cannot be moved or deleted
+     */
+    public static boolean recoverInterruptedWrite(Path file) throws IOException {
+        Path tempFile = siblingPath(file, TEMP_SUFFIX);
+        if (!Files.exists(tempFile)) {
+            return false;
+        }
+
+        if (matchesChecksum(file, computeChecksum(tempFile), Files.size(tempFile))) {
+            moveAtomically(tempFile, file);
+            forceDirectory(file);
+            return true;
+        }
+        Files.delete(tempFile);
+        return false;
+    }
+
+    /**
+     * Wraps the stream a snapshot is loaded from, so the checksum is computed in the same pass that
+     * parses the content. Once the stream is read to the end, pass {@code getChecksum().getValue()}
+     * to {@link #matchesChecksum(Path, long, long)}.
+     *
+     * @param in The stream over the snapshot file
+     * @return A stream computing the CRC32C of everything read through it
+     */
+    public static CheckedInputStream checkedStream(InputStream in) {
+        return new CheckedInputStream(in, new CRC32C());
+    }
+
+    /**
+     * Checks a checksum computed while reading a snapshot against the stored one.
+     *
+     * @param file The snapshot file
+     * @param checksum The CRC32C of the content that was read
+     * @param length The number of bytes that were read
+     * @return true if the checksum file exists and matches
+     * @throws IOException If the checksum file cannot be read
+     */
+    public static boolean matchesChecksum(Path file, long checksum, long length) throws IOException {
+        Path checksumFile = siblingPath(file, CHECKSUM_SUFFIX);
+        if (!Files.exists(checksumFile)) {
+            return false;
+        }
+
+        String[] parts = Files.readString(checksumFile, StandardCharsets.US_ASCII).trim().split("\\s+");
+        if (parts.length != 2) {
+            return false;
+        }
+
+        try {
+            return Long.parseLong(parts[0], 16) == checksum && Long.parseLong(parts[1]) == length;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks whether a checksum has been stored for a snapshot. Snapshots written before checksums
+     * were introduced have none.
+     *
+     * @param file The snapshot file
+     * @return true if the checksum file exists
+     */
+    public static boolean hasChecksum(Path file) {
+        return Files.exists(siblingPath(file, CHECKSUM_SUFFIX));
+    }
+
+    /**
+     * Stores the checksum of a snapshot that was read successfully but had no matching checksum,
+     * e.g. one written before checksums were introduced, or edited by hand and explicitly accepted.
+     *
+     * @param file The snapshot file
+     * @param checksum The CRC32C of its content
+     * @param length Its length in bytes
+     * @throws IOException If the checksum cannot be written
+     */
+    public static void updateChecksum(Path file, long checksum, long length) throws IOException {
+        writeChecksum(file, checksum, length);
+    }
+
+    /**
+     * Moves a corrupt snapshot aside as {@code <file>.corrupt-<timestamp>}, so its content can still
+     * be recovered by hand instead of being overwritten by the next save.
+     *
+     * @param file The snapshot file
+     * @return The path the file was moved to
+     * @throws IOException If the file cannot be moved
+     */
+    public static Path quarantine(Path file) throws IOException {
+        Path corruptCopy = siblingPath(file, CORRUPT_SUFFIX + LocalDateTime.now().format(CORRUPT_TIMESTAMP));
+        Files.move(file, corruptCopy, StandardCopyOption.REPLACE_EXISTING);
+        Files.deleteIfExists(siblingPath(file, CHECKSUM_SUFFIX));
+        return corruptCopy;
+    }
+
+    private static void writeChecksum(Path file, long checksum, long length) throws IOException {
+        Path checksumFile = siblingPath(file, CHECKSUM_SUFFIX);
+        Path tempFile = siblingPath(checksumFile, TEMP_SUFFIX);
+        String content = Long.toHexString(checksum) + " " + length + System.lineSeparator();
+
+        try (FileChannel channel = FileChannel.open(tempFile, StandardOpenOption.CREATE,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            channel.write(ByteBuffer.wrap(content.getBytes(StandardCharsets.US_ASCII)));
+            channel.force(true);
+        }
+        moveAtomically(tempFile, checksumFile);
+    }
+
+    private static void writeEmptySnapshot(Path file) throws IOException {
+        writeAtomically(file, out -> out.write(EMPTY_SNAPSHOT.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static long computeChecksum(Path file) throws IOException {
+        CRC32C checksum = new CRC32C();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(READ_BUFFER_SIZE);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            while (channel.read(buffer) != -1) {
+                buffer.flip();
+                checksum.update(buffer);
+                buffer.clear();
+            }
+        }
+        return checksum.getValue();
+    }
+
+    private static void moveAtomically(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Forces the directory entry of a renamed file to disk.
+     * Not every platform allows opening a directory, in which case the rename is left to the OS.
+     */
+    private static void forceDirectory(Path file) {
+        Path directory = file.toAbsolutePath().getParent();
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException | UnsupportedOperationException e) {
+            // Directory sync is best effort
+        }
+    }
+
+    private static Path siblingPath(Path file, String suffix) {
+        return file.resolveSibling(file.getFileName() + suffix);
+    }
+
+    /**
+     * Keeps Jackson from closing the underlying channel before it has been forced.
+     */
+    private static class NonClosingOutputStream extends FilterOutputStream {
+        NonClosingOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package de.dhbw.repositories.json;
+
+/**
+ * Defines the file format the repositories persist to.
+ */
+public enum StorageBackend {
+    /**
+     * Pretty-printed JSON files, readable and editable by hand.
+     */
+    JSON,
+
+    /**
+     * Compact length-prefixed binary records, see {@code de.dhbw.repositories.binary}.
+     */
+    BINARY
+}
@@ -1,14 +1,18 @@
 package de.dhbw.repositories.json.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import de.dhbw.aggregates.Detainee;
 
 import java.io.IOException;
 import java.util.UUID;
 
+/**
+ * Deserializer for Detainee objects.
+ * Reads the token stream directly because a detainee copy is embedded in every interrogation.
+ */
 public class DetaineeDeserializer extends StdDeserializer<Detainee> {
 
     public DetaineeDeserializer() {
@@ -21,25 +25,25 @@ public class DetaineeDeserializer extends StdDeserializer<Detainee> {
 
     @Override
     public Detainee deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
-        JsonNode node = jp.getCodec().readTree(jp);
-
-        // Extract the UUID
-        UUID id = UUID.fromString(node.get("id").asText());
-        String name = node.get("name").asText();
-        String crime = node.get("crime").asText();
-
-        // Create a new Detainee
-        try {
-            Detainee detainee = new Detainee(name, crime);
-
-            // Use reflection to set the id field
-            java.lang.reflect.Field idField = Detainee.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(detainee, id);
+        UUID id = null;
+        String name = null;
+        String crime = null;
+
+        JsonToken token = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextToken() : jp.currentToken();
+        for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+            String field = jp.currentName();
+            jp.nextToken();
+            switch (field) {
+                case "id" -> id = UUID.fromString(jp.getText());
+                case "name" -> name = jp.getText();
+                case "crime" -> crime = jp.getText();
+                default -> jp.skipChildren();
+            }
+        }
 
-            return detainee;
-        } catch (Exception e) {
-            throw new IOException("Could not deserialize Detainee", e);
+        if (id == null || name == null || crime == null) {
+            throw new IOException("Could not deserialize Detainee: id, name and crime are required");
         }
+        return Detainee.restore(id, name, crime);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,44 @@
+package de.dhbw.repositories.json.deserializers;
+
+import java.io.IOException;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Resolves the id references of interrogation and meeting records.
+ */
+final class EntityReferences {
+
+    private EntityReferences() {
+        // Utility class
+    }
+
+    /**
+     * Resolves a referenced entity by its id, using the embedded copy if it is no longer in its repository.
+     *
+     * @param id The referenced id, or {@code null} if the record only has an embedded copy
+     * @param embedded The embedded copy, or {@code null} if the record has none
+     * @param embeddedId Extracts the id of the embedded copy
+     * @param name The name of the reference, used in error messages
+     * @param lookup The repository lookup
+     * @return The referenced entity
+     * @throws IOException If the entity can neither be found nor restored from an embedded copy
+     */
+    static <T> T resolve(UUID id, T embedded, Function<T, UUID> embeddedId, String name,
+                         Function<UUID, Optional<T>> lookup) throws IOException {
+        UUID referencedId = id != null ? id : embedded != null ? embeddedId.apply(embedded) : null;
+        if (referencedId == null) {
+            throw new IOException("Missing " + name + "Id");
+        }
+
+        Optional<T> entity = lookup.apply(referencedId);
+        if (entity.isPresent()) {
+            return entity.get();
+        }
+        if (embedded == null) {
+            throw new IOException("Unknown " + name + " " + referencedId);
+        }
+        return embedded;
+    }
+}
@@ -0,0 +1,55 @@
+package de.dhbw.repositories.json.deserializers;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * Fast parsing of the ISO local date-times written by the serializers.
+ */
+final class IsoDateTimes {
+    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
+
+    private IsoDateTimes() {
+        // Utility class
+    }
+
+    /**
+     * Parses {@code yyyy-MM-ddTHH:mm:ss} directly from the characters and falls back to
+     * {@link DateTimeFormatter#ISO_LOCAL_DATE_TIME} for every other shape, e.g. with fractions.
+     *
+     * @param text The date-time text
+     * @return The parsed date-time
+     */
+    static LocalDateTime parse(String text) {
+        if (text.length() == 19 && text.charAt(4) == '-' && text.charAt(7) == '-' && text.charAt(10) == 'T'
+                && text.charAt(13) == ':' && text.charAt(16) == ':') {
+            int year = digits(text, 0, 4);
+            int month = digits(text, 5, 7);
+            int day = digits(text, 8, 10);
+            int hour = digits(text, 11, 13);
+            int minute = digits(text, 14, 16);
+            int second = digits(text, 17, 19);
+            if (year >= 0 && month >= 0 && day >= 0 && hour >= 0 && minute >= 0 && second >= 0) {
+                return LocalDateTime.of(year, month, day, hour, minute, second);
+            }
+        }
+        return LocalDateTime.parse(text, FORMATTER);
+    }
+
+    /**
+     * Reads a run of decimal digits.
+     *
+     * @return The value, or -1 if a character is not a digit
+     */
+    private static int digits(String text, int start, int end) {
+        int value = 0;
+        for (int i = start; i < end; i++) {
+            int digit = text.charAt(i) - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -1,29 +1,24 @@
 package de.dhbw.repositories.json.deserializers;
 
 import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.databind.DeserializationContext;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.deser.std.StdDeserializer;
 import de.dhbw.aggregates.Meeting;
 import de.dhbw.aggregates.Officer;
 import de.dhbw.aggregates.Room;
 import de.dhbw.repositories.OfficerRepository;
 import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.json.ReferenceRepositories;
 import de.dhbw.repositories.json.RepositoryRegistry;
-import de.dhbw.valueobjects.Rank;
-import de.dhbw.valueobjects.RoomType;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
 import java.util.UUID;
 
 public class MeetingDeserializer extends StdDeserializer<Meeting> {
-    private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
-
-    private OfficerRepository officerRepository;
-    private RoomRepository roomRepository;
-    private boolean repositoriesInitialized = false;
+    private ReferenceRepositories defaultReferences;
 
     public MeetingDeserializer(
             OfficerRepository officerRepository,
@@ -36,92 +31,108 @@ public class MeetingDeserializer extends StdDeserializer<Meeting> {
             OfficerRepository officerRepository,
             RoomRepository roomRepository) {
         super(vc);
-        this.officerRepository = officerRepository;
-        this.roomRepository = roomRepository;
 
         // Check if repositories are already provided
-        this.repositoriesInitialized = (officerRepository != null && roomRepository != null);
+        if (officerRepository != null && roomRepository != null) {
+            this.defaultReferences = new ReferenceRepositories(officerRepository, null, roomRepository);
+        }
     }
 
     /**
-     * Ensures repositories are initialized before using them.
+     * Gets the repositories to resolve references against. Repositories attached to the call
+     * (see {@link ReferenceRepositories#from}) take precedence over the ones given to the constructor.
      *
+     * @param ctxt The deserialization context
+     * @return The repositories
      * @throws IllegalStateException if repositories cannot be initialized
      */
-    private void ensureRepositoriesInitialized() {
-        if (!repositoriesInitialized) {
+    private ReferenceRepositories resolveReferences(DeserializationContext ctxt) {
+        ReferenceRepositories references = ReferenceRepositories.from(ctxt);
+        if (references != null) {
+            return references;
+        }
+
+        if (defaultReferences == null) {
             // Try to get repositories from registry
             RepositoryRegistry registry = RepositoryRegistry.getInstance();
             if (registry.isInitialized()) {
-                this.officerRepository = registry.getOfficerRepository();
-                this.roomRepository = registry.getRoomRepository();
-                this.repositoriesInitialized = true;
+                defaultReferences = new ReferenceRepositories(registry.getOfficerRepository(), null, registry.getRoomRepository());
             } else {
                 throw new IllegalStateException("Required repositories not provided or registered");
             }
         }
+        return defaultReferences;
+    }
+
+    /**
+     * Gets the number of records read in the legacy format that embeds full object copies
+     * through the repositories given to the constructor.
+     *
+     * @return The number of legacy records
+     */
+    public int getLegacyRecordCount() {
+        return defaultReferences == null ? 0 : defaultReferences.getLegacyRecordCount();
     }
 
     @Override
     public Meeting deserialize(JsonParser jp, DeserializationContext ctxt) throws IOException {
         try {
             // Ensure repositories are available
-            ensureRepositoriesInitialized();
-
-            JsonNode node = jp.getCodec().readTree(jp);
+            ReferenceRepositories references = resolveReferences(ctxt);
+
+            UUID id = null;
+            UUID officerId = null;
+            UUID roomId = null;
+            Officer embeddedOfficer = null;
+            Room embeddedRoom = null;
+            String informantName = null;
+            LocalDateTime scheduledAt = null;
+            Duration duration = null;
+
+            // Read the fields in a single pass over the tokens
+            JsonToken token = jp.currentToken() == JsonToken.START_OBJECT ? jp.nextToken() : jp.currentToken();
+            for (; token == JsonToken.FIELD_NAME; token = jp.nextToken()) {
+                String field = jp.currentName();
+                JsonToken value = jp.nextToken();
+                switch (field) {
+                    case "id" -> id = UUID.fromString(jp.getText());
+                    case "officerId" -> officerId = UUID.fromString(jp.getText());
+                    case "roomId" -> roomId = UUID.fromString(jp.getText());
+                    case "officer" -> embeddedOfficer = value == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, Officer.class);
+                    case "room" -> embeddedRoom = value == JsonToken.VALUE_NULL ? null : ctxt.readValue(jp, Room.class);
+                    case "informantName" -> informantName = jp.getText();
+                    case "scheduledAt" -> scheduledAt = IsoDateTimes.parse(jp.getText());
+                    case "duration" -> duration = Duration.parse(jp.getText());
+                    default -> jp.skipChildren();
+                }
+            }
 
-            // If node is empty or null, return null
-            if (node == null || node.isNull() || node.isEmpty()) {
+            // An empty object carries no meeting
+            if (id == null && informantName == null && scheduledAt == null) {
                 return null;
             }
+            if (id == null || informantName == null || scheduledAt == null) {
+                throw new IOException("Missing id, informantName or scheduledAt");
+            }
+
+            // Records written before the id-reference format only have embedded copies
+            if (officerId == null) {
+                references.recordLegacyRecord();
+            }
+
+            // Resolve the references, falling back to the embedded copy of a removed entity
+            Officer officer = EntityReferences.resolve(
+                    officerId, embeddedOfficer, Officer::getId, "officer", references.getOfficerRepository()::findById);
+            Room room = EntityReferences.resolve(
+                    roomId, embeddedRoom, Room::getId, "room", references.getRoomRepository()::findById);
 
-            // Extract the UUID
-            UUID id = UUID.fromString(node.get("id").asText());
-
-            // Get the officer from the repository based on ID or create one
-            JsonNode officerNode = node.get("officer");
-            UUID officerId = UUID.fromString(officerNode.get("id").asText());
-            Officer officer = officerRepository.findById(officerId)
-                    .orElseGet(() -> {
-                        String officerName = officerNode.get("name").asText();
-                        JsonNode rankNode = officerNode.get("rank");
-                        String rankName = rankNode.get("name").asText();
-                        int rankLevel = rankNode.has("level") ? rankNode.get("level").asInt() : 1;
-                        return new Officer(officerName, new Rank(rankName, rankLevel));
-                    });
-
-            // Get the informant name
-            String informantName = node.get("informantName").asText();
-
-            // Get the room from the repository based on ID or create one
-            JsonNode roomNode = node.get("room");
-            UUID roomId = UUID.fromString(roomNode.get("id").asText());
-            Room room = roomRepository.findById(roomId)
-                    .orElseGet(() -> {
-                        RoomType type = RoomType.valueOf(roomNode.get("type").asText());
-                        Room newRoom = new Room(type);
-                        if (!roomNode.get("available").asBoolean()) {
-                            newRoom.book();
-                        }
-                        return newRoom;
-                    });
-
-            // Parse the scheduled time
-            LocalDateTime scheduledAt = LocalDateTime.parse(node.get("scheduledAt").asText(), FORMATTER);
-
-            // Create a new Meeting
-            Meeting meeting = new Meeting(officer, informantName, room, scheduledAt);
-
-            // Use reflection to set the id field
-            java.lang.reflect.Field idField = Meeting.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(meeting, id);
-
-            return meeting;
+            // Records written before durations were recorded get the default
+            return Meeting.restore(id, officer, informantName, room, scheduledAt,
+                    duration == null ? Meeting.DEFAULT_DURATION : duration);
         } catch (Exception e) {
             System.err.println("Error during Meeting deserialization: " + e.getMessage());
             e.printStackTrace();
             throw new IOException("Could not deserialize Meeting", e);
         }
     }
-}
\ No newline at end of file
+}
@@ -34,16 +34,9 @@ public class OfficerDeserializer extends StdDeserializer<Officer> {
             String rankName = rankNode.get("name").asText();
             int rankLevel = rankNode.has("level") ? rankNode.get("level").asInt() : 1;
 
-            // Create rank and officer objects
+            // Create rank and restore the officer
             Rank rank = new Rank(rankName, rankLevel);
-            Officer officer = new Officer(name, rank);
-
-            // Use reflection to set the id field
-            java.lang.reflect.Field idField = Officer.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(officer, id);
-
-            return officer;
+            return Officer.restore(id, name, rank);
         } catch (Exception e) {
             System.err.println("Error deserializing Officer: " + e.getMessage());
             e.printStackTrace();
@@ -8,6 +8,10 @@ import de.dhbw.aggregates.Room;
 import de.dhbw.valueobjects.RoomType;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Iterator;
+import java.util.Map;
 import java.util.UUID;
 
 public class RoomDeserializer extends StdDeserializer<Room> {
@@ -29,23 +33,26 @@ public class RoomDeserializer extends StdDeserializer<Room> {
         RoomType type = RoomType.valueOf(node.get("type").asText());
         boolean available = node.get("available").asBoolean();
 
-        try {
-            // Create a new Room
-            Room room = new Room(type);
-
-            // Use reflection to set the id field
-            java.lang.reflect.Field idField = Room.class.getDeclaredField("id");
-            idField.setAccessible(true);
-            idField.set(room, id);
-
-            // Set the availability if needed
-            if (!available) {
-                room.book();
+        Room room = Room.restore(id, type, available);
+
+        // Rooms written before the calendar existed have no reserved slots
+        JsonNode calendar = node.get("calendar");
+        if (calendar != null) {
+            Iterator<Map.Entry<String, JsonNode>> days = calendar.fields();
+            while (days.hasNext()) {
+                Map.Entry<String, JsonNode> day = days.next();
+                long[] words = new long[day.getValue().size()];
+                for (int i = 0; i < words.length; i++) {
+                    words[i] = day.getValue().get(i).asLong();
+                }
+                // A damaged day costs only its own slots, which restoring the reservations fills in again
+                try {
+                    room.getCalendar().restoreDay(LocalDate.parse(day.getKey()), words);
+                } catch (IllegalArgumentException | DateTimeParseException e) {
+                    System.err.println("Skipping invalid calendar day " + day.getKey() + " of room " + id + ": " + e.getMessage());
+                }
             }
-
-            return room;
-        } catch (Exception e) {
-            throw new IOException("Could not deserialize Room", e);
         }
+        return room;
     }
 }
\ No newline at end of file
@@ -4,81 +4,87 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import de.dhbw.aggregates.Interrogation;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.json.ReferenceRepositories;
+import de.dhbw.repositories.json.RepositoryRegistry;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Custom serializer for Interrogation objects.
- * Enhanced with better error handling and detailed logging.
+ * Officer, detainee and room are stored as {@code officerId}, {@code detaineeId} and {@code roomId},
+ * so mutable state such as the officer's rank or the room's availability is not copied.
+ * The detainee is immutable but removed from its repository on release, so a copy of it is
+ * embedded as well. Officers and rooms are only embedded if they no longer exist.
  */
 public class InterrogationSerializer extends StdSerializer<Interrogation> {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    private ReferenceRepositories defaultReferences;
+
     public InterrogationSerializer() {
-        this(null);
+        this(null, null);
+    }
+
+    public InterrogationSerializer(OfficerRepository officerRepository, RoomRepository roomRepository) {
+        super(Interrogation.class);
+        if (officerRepository != null && roomRepository != null) {
+            this.defaultReferences = new ReferenceRepositories(officerRepository, null, roomRepository);
+        }
     }
 
-    public InterrogationSerializer(Class<Interrogation> t) {
-        super(t);
+    /**
+     * Gets the repositories to check references against. Repositories attached to the call take
+     * precedence over the ones given to the constructor, which fall back to the repository registry.
+     *
+     * @param provider The serializer provider
+     * @return The repositories, or {@code null} if everything has to be embedded
+     */
+    private ReferenceRepositories resolveReferences(SerializerProvider provider) {
+        ReferenceRepositories references = ReferenceRepositories.from(provider);
+        if (references != null) {
+            return references;
+        }
+        if (defaultReferences != null) {
+            return defaultReferences;
+        }
+
+        RepositoryRegistry registry = RepositoryRegistry.getInstance();
+        if (!registry.isInitialized()) {
+            return null;
+        }
+        defaultReferences = new ReferenceRepositories(registry.getOfficerRepository(), null,
+                registry.getRoomRepository());
+        return defaultReferences;
     }
 
     @Override
     public void serialize(Interrogation interrogation, JsonGenerator gen, SerializerProvider provider) throws IOException {
         try {
+            ReferenceRepositories references = resolveReferences(provider);
             gen.writeStartObject();
 
             // ID
             gen.writeStringField("id", interrogation.getId().toString());
 
-            // Officer
-            if (interrogation.getOfficer() != null) {
-                gen.writeObjectFieldStart("officer");
-                gen.writeStringField("id", interrogation.getOfficer().getId().toString());
-                gen.writeStringField("name", interrogation.getOfficer().getName());
+            // References
+            gen.writeStringField("officerId", interrogation.getOfficer().getId().toString());
+            gen.writeStringField("detaineeId", interrogation.getDetainee().getId().toString());
+            gen.writeStringField("roomId", interrogation.getRoom().getId().toString());
 
-                // Rank
-                gen.writeObjectFieldStart("rank");
-                gen.writeStringField("name", interrogation.getOfficer().getRank().getName());
-                gen.writeNumberField("level", interrogation.getOfficer().getRank().getLevel());
-                gen.writeEndObject(); // End rank
-
-                gen.writeEndObject(); // End officer
-            } else {
-                System.err.println("Warning: Officer is null in interrogation " + interrogation.getId());
-                gen.writeNullField("officer");
-            }
-
-            // Detainee
-            if (interrogation.getDetainee() != null) {
-                gen.writeObjectFieldStart("detainee");
-                gen.writeStringField("id", interrogation.getDetainee().getId().toString());
-                gen.writeStringField("name", interrogation.getDetainee().getName());
-                gen.writeStringField("crime", interrogation.getDetainee().getCrime());
-                gen.writeEndObject(); // End detainee
-            } else {
-                System.err.println("Warning: Detainee is null in interrogation " + interrogation.getId());
-                gen.writeNullField("detainee");
-            }
+            // ScheduledAt
+            gen.writeStringField("scheduledAt", interrogation.getScheduledAt().format(FORMATTER));
+            gen.writeStringField("duration", interrogation.getDuration().toString());
 
-            // Room
-            if (interrogation.getRoom() != null) {
-                gen.writeObjectFieldStart("room");
-                gen.writeStringField("id", interrogation.getRoom().getId().toString());
-                gen.writeStringField("type", interrogation.getRoom().getType().name());
-                gen.writeBooleanField("available", interrogation.getRoom().isAvailable());
-                gen.writeEndObject(); // End room
-            } else {
-                System.err.println("Warning: Room is null in interrogation " + interrogation.getId());
-                gen.writeNullField("room");
+            // Embedded copies of the detainee and of entities that can no longer be resolved
+            provider.defaultSerializeField("detainee", interrogation.getDetainee(), gen);
+            if (references == null || references.getOfficerRepository().findById(interrogation.getOfficer().getId()).isEmpty()) {
+                provider.defaultSerializeField("officer", interrogation.getOfficer(), gen);
             }
-
-            // ScheduledAt
-            if (interrogation.getScheduledAt() != null) {
-                gen.writeStringField("scheduledAt", interrogation.getScheduledAt().format(FORMATTER));
-            } else {
-                System.err.println("Warning: ScheduledAt is null in interrogation " + interrogation.getId());
-                gen.writeNullField("scheduledAt");
+            if (references == null || references.getRoomRepository().findById(interrogation.getRoom().getId()).isEmpty()) {
+                provider.defaultSerializeField("room", interrogation.getRoom(), gen);
             }
 
             gen.writeEndObject(); // End interrogation
@@ -89,4 +95,4 @@ public class InterrogationSerializer extends StdSerializer<Interrogation> {
             throw new IOException("Failed to serialize Interrogation", e);
         }
     }
-}
\ No newline at end of file
+}
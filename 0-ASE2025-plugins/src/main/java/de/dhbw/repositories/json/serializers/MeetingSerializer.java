@@ -4,96 +4,94 @@ import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.SerializerProvider;
 import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import de.dhbw.aggregates.Meeting;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.repositories.json.ReferenceRepositories;
+import de.dhbw.repositories.json.RepositoryRegistry;
 
 import java.io.IOException;
 import java.time.format.DateTimeFormatter;
 
 /**
  * Custom serializer for Meeting objects.
- * Enhanced with better error handling and detailed logging.
+ * Officer and room are stored as {@code officerId} and {@code roomId}. A referenced entity that
+ * no longer exists in its repository is additionally embedded so the meeting can still be restored.
  */
 public class MeetingSerializer extends StdSerializer<Meeting> {
     private static final DateTimeFormatter FORMATTER = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
 
+    private ReferenceRepositories defaultReferences;
+
     public MeetingSerializer() {
-        this(null);
+        this(null, null);
+    }
+
+    public MeetingSerializer(OfficerRepository officerRepository, RoomRepository roomRepository) {
+        super(Meeting.class);
+        if (officerRepository != null && roomRepository != null) {
+            this.defaultReferences = new ReferenceRepositories(officerRepository, null, roomRepository);
+        }
     }
 
-    public MeetingSerializer(Class<Meeting> t) {
-        super(t);
+    /**
+     * Gets the repositories to check references against. Repositories attached to the call take
+     * precedence over the ones given to the constructor, which fall back to the repository registry.
+     *
+     * @param provider The serializer provider
+     * @return The repositories, or {@code null} if everything has to be embedded
+     */
+    private ReferenceRepositories resolveReferences(SerializerProvider provider) {
+        ReferenceRepositories references = ReferenceRepositories.from(provider);
+        if (references != null) {
+            return references;
+        }
+        if (defaultReferences != null) {
+            return defaultReferences;
+        }
+
+        RepositoryRegistry registry = RepositoryRegistry.getInstance();
+        if (!registry.isInitialized()) {
+            return null;
+        }
+        defaultReferences = new ReferenceRepositories(registry.getOfficerRepository(), null,
+                registry.getRoomRepository());
+        return defaultReferences;
     }
 
     @Override
     public void serialize(Meeting meeting, JsonGenerator gen, SerializerProvider provider) throws IOException {
         try {
+            ReferenceRepositories references = resolveReferences(provider);
             gen.writeStartObject();
 
             // ID
             gen.writeStringField("id", meeting.getId().toString());
 
-            // Officer
-            if (meeting.getOfficer() != null) {
-                gen.writeObjectFieldStart("officer");
-                gen.writeStringField("id", meeting.getOfficer().getId().toString());
-                gen.writeStringField("name", meeting.getOfficer().getName());
-
-                // Rank
-                if (meeting.getOfficer().getRank() != null) {
-                    gen.writeObjectFieldStart("rank");
-                    gen.writeStringField("name", meeting.getOfficer().getRank().getName());
-                    gen.writeNumberField("level", meeting.getOfficer().getRank().getLevel());
-                    gen.writeEndObject(); // End rank
-                } else {
-                    System.err.println("Warning: Rank is null in officer " + meeting.getOfficer().getId());
-                    gen.writeNullField("rank");
-                }
-
-                gen.writeEndObject(); // End officer
-            } else {
-                System.err.println("Warning: Officer is null in meeting " + meeting.getId());
-                gen.writeNullField("officer");
-            }
+            // References
+            gen.writeStringField("officerId", meeting.getOfficer().getId().toString());
+            gen.writeStringField("roomId", meeting.getRoom().getId().toString());
 
             // InformantName
-            if (meeting.getInformantName() != null) {
-                gen.writeStringField("informantName", meeting.getInformantName());
-            } else {
-                System.err.println("Warning: InformantName is null in meeting " + meeting.getId());
-                gen.writeNullField("informantName");
-            }
-
-            // Room
-            if (meeting.getRoom() != null) {
-                gen.writeObjectFieldStart("room");
-                gen.writeStringField("id", meeting.getRoom().getId().toString());
-                if (meeting.getRoom().getType() != null) {
-                    gen.writeStringField("type", meeting.getRoom().getType().name());
-                } else {
-                    System.err.println("Warning: RoomType is null in meeting " + meeting.getId());
-                    gen.writeNullField("type");
-                }
-                gen.writeBooleanField("available", meeting.getRoom().isAvailable());
-                gen.writeEndObject(); // End room
-            } else {
-                System.err.println("Warning: Room is null in meeting " + meeting.getId());
-                gen.writeNullField("room");
-            }
+            gen.writeStringField("informantName", meeting.getInformantName());
 
             // ScheduledAt
-            if (meeting.getScheduledAt() != null) {
-                gen.writeStringField("scheduledAt", meeting.getScheduledAt().format(FORMATTER));
-            } else {
-                System.err.println("Warning: ScheduledAt is null in meeting " + meeting.getId());
-                gen.writeNullField("scheduledAt");
+            gen.writeStringField("scheduledAt", meeting.getScheduledAt().format(FORMATTER));
+            gen.writeStringField("duration", meeting.getDuration().toString());
+
+            // Embedded copies of entities that can no longer be resolved
+            if (references == null || references.getOfficerRepository().findById(meeting.getOfficer().getId()).isEmpty()) {
+                provider.defaultSerializeField("officer", meeting.getOfficer(), gen);
+            }
+            if (references == null || references.getRoomRepository().findById(meeting.getRoom().getId()).isEmpty()) {
+                provider.defaultSerializeField("room", meeting.getRoom(), gen);
             }
 
             gen.writeEndObject(); // End meeting
 
-
         } catch (Exception e) {
             System.err.println("Error serializing Meeting: " + e.getMessage());
             e.printStackTrace();
             throw new IOException("Failed to serialize Meeting", e);
         }
     }
-}
\ No newline at end of file
+}
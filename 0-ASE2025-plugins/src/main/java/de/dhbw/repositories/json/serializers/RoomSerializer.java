@@ -6,6 +6,8 @@ import com.fasterxml.jackson.databind.ser.std.StdSerializer;
 import de.dhbw.aggregates.Room;
 
 import java.io.IOException;
+import java.time.LocalDate;
+import java.util.Map;
 
 /**
  * Custom serializer for Room objects.
@@ -27,6 +29,17 @@ public class RoomSerializer extends StdSerializer<Room> {
         gen.writeStringField("id", room.getId().toString());
         gen.writeStringField("type", room.getType().name());
         gen.writeBooleanField("available", room.isAvailable());
+
+        // Reserved slots as one array of bitmap words per day, omitted while there are none
+        Map<LocalDate, long[]> days = room.getCalendar().getDays();
+        if (!days.isEmpty()) {
+            gen.writeObjectFieldStart("calendar");
+            for (Map.Entry<LocalDate, long[]> day : days.entrySet()) {
+                gen.writeFieldName(day.getKey().toString());
+                gen.writeArray(day.getValue(), 0, day.getValue().length);
+            }
+            gen.writeEndObject();
+        }
         gen.writeEndObject();
     }
 }
\ No newline at end of file
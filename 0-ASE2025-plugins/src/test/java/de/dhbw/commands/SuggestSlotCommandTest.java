@@ -0,0 +1,110 @@
+package de.dhbw.commands;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.inmemory.InMemoryDetaineeRepository;
+import de.dhbw.repositories.inmemory.InMemoryInterrogationRepository;
+import de.dhbw.repositories.inmemory.InMemoryOfficerRepository;
+import de.dhbw.repositories.inmemory.InMemoryRoomRepository;
+import de.dhbw.services.DetaineeService;
+import de.dhbw.services.InterrogationService;
+import de.dhbw.usecases.SuggestSlotUseCase;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.PrintStream;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SuggestSlotCommand.
+ * Tests argument handling and the printed suggestions with in-memory repositories.
+ */
+public class SuggestSlotCommandTest {
+    private final PrintStream originalOut = System.out;
+    private final PrintStream originalErr = System.err;
+    private ByteArrayOutputStream out;
+    private ByteArrayOutputStream err;
+
+    private SuggestSlotCommand command;
+    private Officer officer;
+    private Detainee detainee;
+
+    @BeforeEach
+    public void setUp() {
+        InMemoryRoomRepository roomRepository = new InMemoryRoomRepository();
+        InMemoryOfficerRepository officerRepository = new InMemoryOfficerRepository();
+        InMemoryDetaineeRepository detaineeRepository = new InMemoryDetaineeRepository();
+        InterrogationService interrogationService = new InterrogationService(
+                roomRepository, officerRepository, new InMemoryInterrogationRepository());
+        command = new SuggestSlotCommand(new SuggestSlotUseCase(interrogationService, new DetaineeService(detaineeRepository)));
+
+        officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        officerRepository.save(officer);
+        detainee = new Detainee("Jane Roe", "Theft");
+        detaineeRepository.save(detainee);
+        roomRepository.save(new Room(RoomType.INTERROGATION));
+
+        out = new ByteArrayOutputStream();
+        err = new ByteArrayOutputStream();
+        System.setOut(new PrintStream(out));
+        System.setErr(new PrintStream(err));
+    }
+
+    @AfterEach
+    public void tearDown() {
+        System.setOut(originalOut);
+        System.setErr(originalErr);
+    }
+
+    @Test
+    public void executeShouldPrintEarliestSlots() {
+        // Act
+        boolean result = command.execute(new String[]{
+                officer.getId().toString(), detainee.getId().toString(), "2025-03-10 08:00", "2025-03-10 18:00", "90"});
+
+        // Assert
+        assertTrue(result);
+        assertTrue(out.toString().contains("2025-03-10 08:00 - 2025-03-10 09:30"), "The first slot should be printed");
+        assertTrue(out.toString().contains("2025-03-10 09:30 - 2025-03-10 11:00"), "The following slot should be printed");
+    }
+
+    @Test
+    public void executeShouldReportUnknownDetainee() {
+        // Act
+        boolean result = command.execute(new String[]{
+                officer.getId().toString(), UUID.randomUUID().toString(), "2025-03-10 08:00", "2025-03-10 18:00"});
+
+        // Assert
+        assertFalse(result);
+        assertTrue(err.toString().contains("Detainee not found"));
+    }
+
+    @Test
+    public void executeShouldReportNoSlotWithinHorizon() {
+        // Act
+        boolean result = command.execute(new String[]{
+                officer.getId().toString(), detainee.getId().toString(), "2025-03-10 08:00", "2025-03-10 08:30"});
+
+        // Assert
+        assertTrue(result, "An empty result is not an error");
+        assertTrue(out.toString().contains("No free slot found between 2025-03-10 08:00 and 2025-03-10 08:30"));
+    }
+
+    @Test
+    public void executeShouldRejectInvalidDate() {
+        // Act
+        boolean result = command.execute(new String[]{
+                officer.getId().toString(), detainee.getId().toString(), "tomorrow", "2025-03-10 18:00"});
+
+        // Assert
+        assertFalse(result);
+        assertTrue(err.toString().contains("Invalid date-time format"));
+    }
+}
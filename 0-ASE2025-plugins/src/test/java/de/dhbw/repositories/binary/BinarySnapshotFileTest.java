@@ -0,0 +1,225 @@
+package de.dhbw.repositories.binary;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.inmemory.InMemoryDetaineeRepository;
+import de.dhbw.repositories.inmemory.InMemoryOfficerRepository;
+import de.dhbw.repositories.inmemory.InMemoryRoomRepository;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the BinarySnapshotFile.
+ * Tests round trips, corrupt files and files of other format versions, including version 1 files written before
+ * trailing fields were added.
+ */
+public class BinarySnapshotFileTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 10, 0);
+
+    private Path dataDirectory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("pms-binary");
+        System.setProperty("pms.dataDir", dataDirectory.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        System.clearProperty("pms.dataDir");
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void savedEntitiesShouldBeLoadedUnchanged() {
+        // Arrange
+        BinarySnapshotFile<Officer> file = new BinarySnapshotFile<>("officers", new OfficerCodec());
+        Officer sergeant = new Officer("John Doe", new Rank("Sergeant", 3));
+        Officer inspector = new Officer("Jane Roe", new Rank("Inspector", 4));
+
+        // Act
+        file.save(List.of(sergeant, inspector));
+        List<Officer> loaded = file.load();
+
+        // Assert
+        assertEquals(2, loaded.size());
+        assertEquals(sergeant.getId(), loaded.get(0).getId());
+        assertEquals("John Doe", loaded.get(0).getName());
+        assertEquals(3, loaded.get(0).getRank().getLevel());
+        assertEquals("Inspector", loaded.get(1).getRank().getName());
+    }
+
+    @Test
+    public void roomCalendarShouldSurviveRoundTrip() {
+        // Arrange
+        BinarySnapshotFile<Room> file = new BinarySnapshotFile<>("rooms", new RoomCodec(true));
+        Room room = new Room(RoomType.INTERROGATION);
+        room.getCalendar().tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act
+        file.save(List.of(room));
+        Room loaded = file.load().get(0);
+
+        // Assert
+        assertFalse(loaded.getCalendar().isFree(MORNING, MORNING.plusHours(1)), "The reservation should be restored");
+        assertTrue(loaded.getCalendar().isFree(MORNING.plusHours(1), MORNING.plusHours(2)));
+    }
+
+    @Test
+    public void fileWithChecksumMismatchShouldBeMovedAside() throws IOException {
+        // Arrange
+        BinarySnapshotFile<Officer> file = new BinarySnapshotFile<>("officers", new OfficerCodec());
+        file.save(List.of(new Officer("John Doe", new Rank("Sergeant", 3))));
+        byte[] content = Files.readAllBytes(file.getFilePath());
+        content[content.length - 1] ^= 1;
+        Files.write(file.getFilePath(), content);
+
+        // Act
+        List<Officer> loaded = file.load();
+
+        // Assert
+        assertTrue(loaded.isEmpty(), "No record of a corrupt file should be loaded");
+        assertFalse(Files.exists(file.getFilePath()));
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            assertEquals(1, files.filter(path -> path.getFileName().toString().startsWith("officers.bin.corrupt-")).count(),
+                    "The corrupt file should be kept for recovery");
+        }
+    }
+
+    @Test
+    public void roomsOfFirstVersionWithoutCalendarShouldLoadWithEmptyCalendar() {
+        // Arrange
+        Room room = Room.restore(UUID.randomUUID(), RoomType.MEETING, false);
+        new BinarySnapshotFile<>("rooms", new RoomCodec(false)).save(List.of(room), BinarySnapshotFile.FIRST_VERSION);
+
+        // Act
+        Room loaded = new BinarySnapshotFile<>("rooms", new RoomCodec(true)).load().get(0);
+
+        // Assert
+        assertEquals(room.getId(), loaded.getId());
+        assertFalse(loaded.isAvailable());
+        assertTrue(loaded.getCalendar().getDays().isEmpty(), "A room without a stored calendar should have no reservations");
+    }
+
+    @Test
+    public void interrogationsOfFirstVersionWithoutDurationShouldGetDefaultDuration() {
+        // Arrange
+        InMemoryOfficerRepository officerRepository = new InMemoryOfficerRepository();
+        InMemoryDetaineeRepository detaineeRepository = new InMemoryDetaineeRepository();
+        InMemoryRoomRepository roomRepository = new InMemoryRoomRepository();
+        Officer officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        Room room = new Room(RoomType.INTERROGATION);
+        officerRepository.save(officer);
+        roomRepository.save(room);
+        InterrogationCodec codec = new InterrogationCodec(officerRepository, detaineeRepository, roomRepository);
+        Interrogation interrogation = new Interrogation(officer, new Detainee("Jane Roe", "Theft"), room, MORNING,
+                Duration.ofMinutes(90));
+        new BinarySnapshotFile<>("interrogations", new WithoutTrailingDuration(codec))
+                .save(List.of(interrogation), BinarySnapshotFile.FIRST_VERSION);
+
+        // Act
+        Interrogation loaded = new BinarySnapshotFile<>("interrogations", codec).load().get(0);
+
+        // Assert
+        assertEquals(interrogation.getId(), loaded.getId());
+        assertEquals(MORNING, loaded.getScheduledAt());
+        assertEquals(Interrogation.DEFAULT_DURATION, loaded.getDuration());
+    }
+
+    @Test
+    public void recordOfCurrentVersionWithoutDurationShouldBeSkipped() {
+        // Arrange
+        InMemoryOfficerRepository officerRepository = new InMemoryOfficerRepository();
+        InMemoryRoomRepository roomRepository = new InMemoryRoomRepository();
+        Officer officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        Room room = new Room(RoomType.INTERROGATION);
+        officerRepository.save(officer);
+        roomRepository.save(room);
+        InterrogationCodec codec = new InterrogationCodec(officerRepository, new InMemoryDetaineeRepository(), roomRepository);
+        Interrogation interrogation = new Interrogation(officer, new Detainee("Jane Roe", "Theft"), room, MORNING,
+                Duration.ofMinutes(90));
+        new BinarySnapshotFile<>("interrogations", new WithoutTrailingDuration(codec)).save(List.of(interrogation));
+
+        // Act
+        List<Interrogation> loaded = new BinarySnapshotFile<>("interrogations", codec).load();
+
+        // Assert
+        assertTrue(loaded.isEmpty(), "A current record must carry its duration, not fall back to the default");
+    }
+
+    @Test
+    public void fileOfNewerVersionShouldNotBeLoaded() {
+        // Arrange
+        BinarySnapshotFile<Officer> file = new BinarySnapshotFile<>("officers", new OfficerCodec());
+        file.save(List.of(new Officer("John Doe", new Rank("Sergeant", 3))), (short) (BinarySnapshotFile.VERSION + 1));
+
+        // Act
+        List<Officer> loaded = file.load();
+
+        // Assert
+        assertTrue(loaded.isEmpty(), "A file of a later release should not be guessed at");
+    }
+
+    /**
+     * Writes interrogation records the way they were written before the duration was added.
+     */
+    private static class WithoutTrailingDuration implements BinaryCodec<Interrogation> {
+        private final InterrogationCodec codec;
+
+        WithoutTrailingDuration(InterrogationCodec codec) {
+            this.codec = codec;
+        }
+
+        @Override
+        public byte getTypeTag() {
+            return codec.getTypeTag();
+        }
+
+        @Override
+        public UUID getId(Interrogation interrogation) {
+            return codec.getId(interrogation);
+        }
+
+        @Override
+        public void internNames(Interrogation interrogation, NameTable names) {
+            codec.internNames(interrogation, names);
+        }
+
+        @Override
+        public void write(DataOutput out, Interrogation interrogation, NameTable names) throws IOException {
+            ByteArrayOutputStream record = new ByteArrayOutputStream();
+            codec.write(new DataOutputStream(record), interrogation, names);
+            out.write(record.toByteArray(), 0, record.size() - Long.BYTES);
+        }
+
+        @Override
+        public Interrogation read(DataInput in, NameTable names) {
+            throw new UnsupportedOperationException();
+        }
+    }
+}
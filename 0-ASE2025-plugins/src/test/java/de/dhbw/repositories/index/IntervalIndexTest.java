@@ -0,0 +1,159 @@
+package de.dhbw.repositories.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the IntervalIndex.
+ * Tests overlap queries at span boundaries, including spans with the same start, updates and removals.
+ */
+public class IntervalIndexTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+    private static final List<UUID> OWNERS = List.of(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID());
+
+    private Map<UUID, Entry> entries;
+    private IntervalIndex<Entry> index;
+
+    @BeforeEach
+    public void setUp() {
+        entries = new LinkedHashMap<>();
+        index = new IntervalIndex<>(Entry::owner, Entry::start, Entry::end, Entry::id);
+    }
+
+    @Test
+    public void touchingSpansShouldNotOverlap() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(1)));
+
+        // Act & Assert
+        assertFalse(index.overlaps(owner, MORNING.plusHours(1), MORNING.plusHours(2)));
+        assertFalse(index.overlaps(owner, MORNING.minusHours(1), MORNING));
+        assertTrue(index.overlaps(owner, MORNING.plusMinutes(59), MORNING.plusHours(2)));
+        assertFalse(index.overlaps(OWNERS.get(1), MORNING, MORNING.plusHours(1)), "Other owners should not be busy");
+    }
+
+    @Test
+    public void longSpanShouldBeFoundFarFromItsStart() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        Entry day = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(10)));
+        save(new Entry(UUID.randomUUID(), owner, MORNING.plusHours(1), MORNING.plusHours(2)));
+
+        // Act
+        List<UUID> overlapping = index.overlapping(owner, MORNING.plusHours(9), MORNING.plusHours(11));
+
+        // Assert
+        assertEquals(List.of(day.id()), overlapping);
+    }
+
+    @Test
+    public void longestShouldCoverAllOwnersAndShrinkOnRemoval() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), OWNERS.get(0), MORNING, MORNING.plusHours(1)));
+        Entry day = save(new Entry(UUID.randomUUID(), OWNERS.get(1), MORNING, MORNING.plusHours(10)));
+        assertEquals(Duration.ofHours(10), index.longest());
+
+        // Act
+        index.remove(entries.remove(day.id()));
+
+        // Assert
+        assertEquals(Duration.ofHours(1), index.longest());
+        index.clear();
+        assertEquals(Duration.ZERO, index.longest(), "An empty index has no longest span");
+    }
+
+    @Test
+    public void updateShouldMoveSpan() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        Entry entry = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(1)));
+
+        // Act
+        save(new Entry(entry.id(), owner, MORNING.plusHours(3), MORNING.plusHours(4)));
+
+        // Assert
+        assertFalse(index.overlaps(owner, MORNING, MORNING.plusHours(1)), "The old span should be free");
+        assertEquals(List.of(entry.id()), index.overlapping(owner, MORNING.plusHours(3), MORNING.plusHours(4)));
+    }
+
+    @Test
+    public void spansWithSameStartShouldKeepInsertionOrderUnlessSpanChanges() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        Entry first = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(1)));
+        Entry second = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(2)));
+        Entry third = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(3)));
+
+        // Act
+        save(new Entry(first.id(), owner, MORNING, MORNING.plusHours(1)));
+        save(new Entry(second.id(), owner, MORNING, MORNING.plusMinutes(90)));
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id(), second.id()), index.overlapping(owner, MORNING, MORNING.plusMinutes(30)),
+                "An unchanged span should keep its position, a changed one should move behind");
+    }
+
+    @Test
+    public void ownerChangeShouldMoveSpanToOtherSchedule() {
+        // Arrange
+        Entry entry = save(new Entry(UUID.randomUUID(), OWNERS.get(0), MORNING, MORNING.plusHours(1)));
+
+        // Act
+        save(new Entry(entry.id(), OWNERS.get(1), MORNING, MORNING.plusHours(1)));
+
+        // Assert
+        assertFalse(index.overlaps(OWNERS.get(0), MORNING, MORNING.plusHours(1)), "The previous owner should be free");
+        assertEquals(List.of(entry.id()), index.overlapping(OWNERS.get(1), MORNING, MORNING.plusHours(1)));
+    }
+
+    @Test
+    public void removedSpanShouldFreeOwner() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        Entry entry = save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(1)));
+
+        // Act
+        index.remove(entries.remove(entry.id()));
+        index.remove(entry);
+
+        // Assert
+        assertFalse(index.overlaps(owner, MORNING, MORNING.plusHours(1)));
+        assertTrue(index.overlapping(owner, MORNING, MORNING.plusHours(1)).isEmpty());
+        assertEquals(Duration.ZERO, index.longest(), "The emptied schedule should have been dropped");
+    }
+
+    @Test
+    public void emptyOrReversedQueryShouldFindNothing() {
+        // Arrange
+        UUID owner = OWNERS.get(0);
+        save(new Entry(UUID.randomUUID(), owner, MORNING, MORNING.plusHours(2)));
+
+        // Act & Assert
+        assertFalse(index.overlaps(owner, MORNING.plusHours(1), MORNING.plusHours(1)), "An empty span should not overlap");
+        assertTrue(index.overlapping(owner, MORNING.plusHours(1), MORNING).isEmpty(), "A reversed span should not overlap");
+        assertTrue(index.overlapping(OWNERS.get(2), MORNING, MORNING.plusHours(2)).isEmpty(), "An unknown owner has no spans");
+    }
+
+    private Entry save(Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            index.update(previous, entry);
+        } else {
+            index.add(entry);
+        }
+        return entry;
+    }
+
+    private record Entry(UUID id, UUID owner, LocalDateTime start, LocalDateTime end) {
+    }
+}
@@ -0,0 +1,165 @@
+package de.dhbw.repositories.index;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.inmemory.InMemoryInterrogationRepository;
+import de.dhbw.valueobjects.InterrogationCriteria;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the QueryPlanner.
+ * Tests the choice of the driving access path, and the interrogation queries built on it.
+ */
+public class QueryPlannerTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private InMemoryInterrogationRepository repository;
+    private Officer officer;
+    private Officer otherOfficer;
+    private Detainee theftDetainee;
+    private Detainee fraudDetainee;
+    private Room room;
+    private Room otherRoom;
+
+    @BeforeEach
+    public void setUp() {
+        repository = new InMemoryInterrogationRepository();
+        officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        otherOfficer = new Officer("Jane Roe", new Rank("Inspector", 4));
+        theftDetainee = new Detainee("Max Mustermann", "Theft");
+        fraudDetainee = new Detainee("Erika Muster", "Fraud");
+        room = new Room(RoomType.INTERROGATION);
+        otherRoom = new Room(RoomType.INTERROGATION);
+    }
+
+    @Test
+    public void planWithoutAccessPathShouldBeFullScan() {
+        // Act
+        QueryPlan plan = new QueryPlanner("interrogations", 10).plan();
+
+        // Assert
+        assertTrue(plan.isFullScan());
+        assertThrows(IllegalStateException.class, plan::getCandidates);
+    }
+
+    @Test
+    public void smallestLookupShouldDriveAndOthersShouldBeIntersected() {
+        // Arrange
+        UUID shared = UUID.randomUUID();
+        Set<UUID> large = Set.of(shared, UUID.randomUUID(), UUID.randomUUID());
+        Set<UUID> small = Set.of(shared, UUID.randomUUID());
+
+        // Act
+        QueryPlan plan = new QueryPlanner("interrogations", 10)
+                .lookup("officer index", large)
+                .lookup("room index", small)
+                .plan();
+
+        // Assert
+        assertEquals(List.of(shared), new ArrayList<>(plan.getCandidates()));
+        assertTrue(plan.getSteps().get(0).startsWith("index lookup room index"), "The smaller lookup should drive");
+        assertTrue(plan.getSteps().get(1).startsWith("intersect officer index"));
+    }
+
+    @Test
+    public void rangeShouldOnlyBeCollectedWhenItIsSmaller() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+        boolean[] collected = {false};
+
+        // Act
+        QueryPlan plan = new QueryPlanner("interrogations", 10)
+                .lookup("officer index", Set.of(id))
+                .range("time index", limit -> limit + 1, () -> {
+                    collected[0] = true;
+                    return List.of(id);
+                })
+                .plan();
+
+        // Assert
+        assertFalse(collected[0], "A range larger than the smallest lookup should not be collected");
+        assertEquals(List.of(id), new ArrayList<>(plan.getCandidates()));
+    }
+
+    @Test
+    public void findMatchingShouldCombineCriteriaAndSortByTime() {
+        // Arrange
+        Interrogation late = save(officer, theftDetainee, room, MORNING.plusHours(3));
+        Interrogation early = save(officer, theftDetainee, otherRoom, MORNING);
+        save(officer, fraudDetainee, room, MORNING.plusHours(1));
+        save(otherOfficer, theftDetainee, room, MORNING.plusHours(2));
+
+        // Act
+        List<Interrogation> result = repository.findMatching(
+                InterrogationCriteria.any().withOfficer(officer.getId()).withCrime("theft"));
+
+        // Assert
+        assertEquals(List.of(early, late), result);
+    }
+
+    @Test
+    public void timeRangeShouldIncludeStartAndExcludeEnd() {
+        // Arrange
+        Interrogation atStart = save(officer, theftDetainee, room, MORNING);
+        save(officer, theftDetainee, room, MORNING.plusHours(2));
+
+        // Act
+        List<Interrogation> result = repository.findMatching(
+                InterrogationCriteria.any().scheduledFrom(MORNING).scheduledBefore(MORNING.plusHours(2)));
+
+        // Assert
+        assertEquals(List.of(atStart), result);
+    }
+
+    @Test
+    public void updatedInterrogationShouldOnlyMatchItsNewValues() {
+        // Arrange
+        Interrogation interrogation = save(officer, theftDetainee, room, MORNING);
+
+        // Act
+        Interrogation moved = Interrogation.restore(interrogation.getId(), otherOfficer, theftDetainee, otherRoom,
+                MORNING.plusHours(4), Interrogation.DEFAULT_DURATION);
+        repository.save(moved);
+
+        // Assert
+        assertTrue(repository.findMatching(InterrogationCriteria.any().withOfficer(officer.getId())).isEmpty());
+        assertTrue(repository.findMatching(InterrogationCriteria.any().withRoom(room.getId())).isEmpty());
+        assertTrue(repository.findMatching(InterrogationCriteria.any().scheduledBefore(MORNING.plusHours(1))).isEmpty());
+        assertEquals(List.of(moved), repository.findMatching(
+                InterrogationCriteria.any().withOfficer(otherOfficer.getId()).withRoom(otherRoom.getId())));
+    }
+
+    @Test
+    public void deletedInterrogationAndUnknownCrimeShouldFindNothing() {
+        // Arrange
+        Interrogation deleted = save(officer, theftDetainee, room, MORNING);
+        Interrogation kept = save(officer, theftDetainee, room, MORNING.plusHours(1));
+
+        // Act
+        repository.deleteById(deleted.getId());
+
+        // Assert
+        assertEquals(List.of(kept), repository.findMatching(InterrogationCriteria.any().withOfficer(officer.getId())));
+        assertTrue(repository.findMatching(InterrogationCriteria.any().withCrime("Arson")).isEmpty());
+    }
+
+    private Interrogation save(Officer officer, Detainee detainee, Room room, LocalDateTime scheduledAt) {
+        Interrogation interrogation = Interrogation.restore(UUID.randomUUID(), officer, detainee, room,
+                scheduledAt, Interrogation.DEFAULT_DURATION);
+        repository.save(interrogation);
+        return interrogation;
+    }
+}
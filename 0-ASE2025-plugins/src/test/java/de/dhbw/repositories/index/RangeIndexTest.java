@@ -0,0 +1,105 @@
+package de.dhbw.repositories.index;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.repositories.inmemory.InMemoryOfficerRepository;
+import de.dhbw.valueobjects.Rank;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RangeIndex.
+ * Tests the order and bounds of range queries, including equal keys, key changes and removals.
+ */
+public class RangeIndexTest {
+    private RangeIndex<Integer, Entry> index;
+
+    @BeforeEach
+    public void setUp() {
+        index = new RangeIndex<>(Entry::key, Entry::id);
+    }
+
+    @Test
+    public void atLeastShouldReturnIdsInAscendingKeyOrder() {
+        // Arrange
+        Entry high = save(new Entry(UUID.randomUUID(), 5));
+        save(new Entry(UUID.randomUUID(), 1));
+        Entry middle = save(new Entry(UUID.randomUUID(), 3));
+
+        // Act
+        List<UUID> ids = index.atLeast(3);
+
+        // Assert
+        assertEquals(List.of(middle.id(), high.id()), ids);
+    }
+
+    @Test
+    public void promotedOfficerShouldMoveToNewRank() {
+        // Arrange
+        InMemoryOfficerRepository repository = new InMemoryOfficerRepository();
+        Officer officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        repository.save(officer);
+
+        // Act
+        officer.promoteTo(new Rank("Inspector", 4));
+        repository.save(officer);
+
+        // Assert
+        assertEquals(List.of(officer), repository.findByMinimumRank(new Rank("Inspector", 4)));
+        assertEquals(List.of(officer), repository.findByMinimumRank(new Rank("Sergeant", 3)),
+                "The officer should be listed once after the promotion");
+    }
+
+    @Test
+    public void equalKeysShouldKeepInsertionOrderUnlessKeyChanges() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), 3));
+        Entry second = save(new Entry(UUID.randomUUID(), 3));
+        Entry third = save(new Entry(UUID.randomUUID(), 3));
+
+        // Act
+        save(first);
+        save(new Entry(second.id(), 4));
+        save(new Entry(second.id(), 3));
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id(), second.id()), index.atLeast(3),
+                "An unchanged save keeps the position, a key changed back moves to the end");
+    }
+
+    @Test
+    public void minimumAboveAllKeysShouldFindNothing() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), 5));
+
+        // Act & Assert
+        assertTrue(index.atLeast(6).isEmpty());
+        assertEquals(1, index.atLeast(5).size(), "The minimum itself should be included");
+    }
+
+    @Test
+    public void removedEntityShouldNotBeFound() {
+        // Arrange
+        Entry removed = save(new Entry(UUID.randomUUID(), 3));
+        Entry kept = save(new Entry(UUID.randomUUID(), 3));
+
+        // Act
+        index.remove(removed.id());
+        index.remove(UUID.randomUUID());
+
+        // Assert
+        assertEquals(List.of(kept.id()), index.atLeast(1));
+    }
+
+    private Entry save(Entry entry) {
+        index.add(entry);
+        return entry;
+    }
+
+    private record Entry(UUID id, int key) {
+    }
+}
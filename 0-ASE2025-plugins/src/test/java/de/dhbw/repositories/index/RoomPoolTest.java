@@ -0,0 +1,209 @@
+package de.dhbw.repositories.index;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RoomPool.
+ * Tests allocations, reservations, and lookups and counts of available and booked rooms after saving, booking,
+ * releasing and deleting rooms.
+ */
+public class RoomPoolTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private RoomPool pool;
+
+    @BeforeEach
+    public void setUp() {
+        pool = new RoomPool();
+    }
+
+    @Test
+    public void savedRoomsShouldBeGroupedByType() {
+        // Arrange
+        Room interrogation = save(new Room(RoomType.INTERROGATION));
+        Room meeting = save(new Room(RoomType.MEETING));
+
+        // Act & Assert
+        assertEquals(List.of(interrogation), pool.get(RoomType.INTERROGATION));
+        assertEquals(List.of(meeting), pool.get(RoomType.MEETING));
+        assertEquals(1, pool.count(RoomType.MEETING));
+        assertEquals(2, pool.getAll().size());
+    }
+
+    @Test
+    public void savedBookingAndReleaseShouldMoveRoomOutAndBackIn() {
+        // Arrange
+        Room room = save(new Room(RoomType.MEETING));
+
+        // Act & Assert
+        room.book();
+        save(room);
+        assertTrue(pool.get(RoomType.MEETING).isEmpty(), "A saved booking should take the room out");
+        assertEquals(0, pool.count(RoomType.MEETING));
+
+        room.release();
+        save(room);
+        assertEquals(List.of(room), pool.get(RoomType.MEETING), "A saved release should put the room back");
+    }
+
+    @Test
+    public void bookedRoomsShouldBeTrackedAcrossTypes() {
+        // Arrange
+        Room interrogation = save(new Room(RoomType.INTERROGATION));
+        Room meeting = save(new Room(RoomType.MEETING));
+        save(new Room(RoomType.MEETING));
+        interrogation.book();
+        save(interrogation);
+        meeting.book();
+        save(meeting);
+
+        // Act & Assert
+        assertEquals(2, pool.countBooked());
+        assertEquals(List.of(interrogation, meeting), pool.getBooked());
+
+        meeting.release();
+        save(meeting);
+        pool.remove(interrogation);
+        assertEquals(0, pool.countBooked(), "Released and deleted rooms should not be counted as booked");
+        assertTrue(pool.getBooked().isEmpty());
+    }
+
+    @Test
+    public void savingBookedRoomTwiceShouldCountItOnce() {
+        // Arrange
+        Room room = new Room(RoomType.INTERROGATION);
+        room.book();
+        save(room);
+
+        // Act
+        save(room);
+
+        // Assert
+        assertEquals(1, pool.countBooked());
+    }
+
+    @Test
+    public void savingRoomTwiceShouldKeepOneEntry() {
+        // Arrange
+        Room room = save(new Room(RoomType.INTERROGATION));
+
+        // Act
+        save(room);
+
+        // Assert
+        assertEquals(1, pool.count(RoomType.INTERROGATION));
+        assertEquals(0, pool.countBooked());
+    }
+
+    @Test
+    public void removedRoomShouldNotBeFound() {
+        // Arrange
+        Room room = save(new Room(RoomType.INTERROGATION));
+
+        // Act
+        pool.remove(room);
+
+        // Assert
+        assertTrue(pool.get(RoomType.INTERROGATION).isEmpty());
+        assertTrue(pool.getBooked().isEmpty());
+        assertNull(pool.allocate(RoomType.INTERROGATION));
+    }
+
+    @Test
+    public void allocateShouldBookFirstAvailableRoomOfType() {
+        // Arrange
+        save(new Room(RoomType.MEETING));
+        Room first = save(new Room(RoomType.INTERROGATION));
+        Room second = save(new Room(RoomType.INTERROGATION));
+
+        // Act
+        Room allocated = pool.allocate(RoomType.INTERROGATION);
+
+        // Assert
+        assertSame(first, allocated);
+        assertFalse(first.isAvailable());
+        assertEquals(List.of(second), pool.get(RoomType.INTERROGATION), "The allocated room should leave the pool");
+    }
+
+    @Test
+    public void allocateShouldDropRoomBookedWithoutSaving() {
+        // Arrange
+        Room bookedElsewhere = save(new Room(RoomType.MEETING));
+        Room free = save(new Room(RoomType.MEETING));
+        bookedElsewhere.book();
+
+        // Act
+        Room allocated = pool.allocate(RoomType.MEETING);
+
+        // Assert
+        assertSame(free, allocated);
+        assertEquals(0, pool.count(RoomType.MEETING), "The room booked elsewhere should have been dropped");
+    }
+
+    @Test
+    public void allocateShouldReturnNullWhenPoolIsEmpty() {
+        // Arrange
+        save(new Room(RoomType.MEETING));
+
+        // Act & Assert
+        assertNull(pool.allocate(RoomType.INTERROGATION));
+    }
+
+    @Test
+    public void reserveShouldSkipBookedAndBusyRooms() {
+        // Arrange
+        Room booked = save(new Room(RoomType.MEETING));
+        Room busy = save(new Room(RoomType.MEETING));
+        Room free = save(new Room(RoomType.MEETING));
+        booked.book();
+        save(booked);
+        busy.getCalendar().tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act
+        Room reserved = pool.reserve(RoomType.MEETING, MORNING.plusMinutes(30), MORNING.plusHours(2));
+
+        // Assert
+        assertEquals(free, reserved);
+        assertFalse(free.getCalendar().isFree(MORNING.plusMinutes(30), MORNING.plusHours(2)), "The span should be reserved");
+        assertTrue(booked.getCalendar().isFree(MORNING, MORNING.plusHours(2)), "A booked room should not be reserved");
+    }
+
+    @Test
+    public void reserveShouldAcceptSpanStartingWhereAnotherEnds() {
+        // Arrange
+        Room room = save(new Room(RoomType.INTERROGATION));
+        room.getCalendar().tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act
+        Room reserved = pool.reserve(RoomType.INTERROGATION, MORNING.plusHours(1), MORNING.plusHours(2));
+
+        // Assert
+        assertSame(room, reserved, "Spans are end-exclusive");
+    }
+
+    @Test
+    public void reserveShouldReturnNullWhenNoRoomOfTheTypeIsFree() {
+        // Arrange
+        save(new Room(RoomType.INTERROGATION)).getCalendar().tryReserve(MORNING, MORNING.plusHours(1));
+        save(new Room(RoomType.MEETING));
+
+        // Act
+        Room reserved = pool.reserve(RoomType.INTERROGATION, MORNING, MORNING.plusHours(1));
+
+        // Assert
+        assertNull(reserved);
+    }
+
+    private Room save(Room room) {
+        pool.update(room);
+        return room;
+    }
+}
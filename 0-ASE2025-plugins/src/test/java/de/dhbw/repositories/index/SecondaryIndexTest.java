@@ -0,0 +1,151 @@
+package de.dhbw.repositories.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SecondaryIndex.
+ * Tests the order of the IDs per key across additions, updates that keep or move keys, removals and clearing.
+ */
+public class SecondaryIndexTest {
+    private Map<UUID, Entry> entries;
+    private SecondaryIndex<String, Entry> index;
+
+    @BeforeEach
+    public void setUp() {
+        entries = new LinkedHashMap<>();
+        index = new SecondaryIndex<>(Entry::key, Entry::id);
+    }
+
+    @Test
+    public void getShouldReturnIdsInInsertionOrder() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), "theft"));
+        save(new Entry(UUID.randomUUID(), "fraud"));
+        Entry third = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        List<UUID> ids = new ArrayList<>(index.get("theft"));
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id()), ids);
+        assertTrue(index.get("assault").isEmpty(), "A key without entities should have no IDs");
+    }
+
+    @Test
+    public void updateWithSameKeyShouldKeepPosition() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), "theft"));
+        Entry second = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        save(new Entry(first.id(), "theft"));
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), new ArrayList<>(index.get("theft")));
+    }
+
+    @Test
+    public void updateWithNewKeyShouldMoveEntity() {
+        // Arrange
+        Entry entry = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        save(new Entry(entry.id(), "fraud"));
+
+        // Assert
+        assertTrue(index.get("theft").isEmpty(), "The old key should no longer list the entity");
+        assertEquals(List.of(entry.id()), new ArrayList<>(index.get("fraud")));
+    }
+
+    @Test
+    public void entityMovedBackShouldGoToEndOfItsOldKey() {
+        // Arrange
+        Entry moved = save(new Entry(UUID.randomUUID(), "theft"));
+        Entry stayed = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        save(new Entry(moved.id(), "fraud"));
+        save(new Entry(moved.id(), "theft"));
+
+        // Assert
+        assertEquals(List.of(stayed.id(), moved.id()), new ArrayList<>(index.get("theft")));
+        assertTrue(index.get("fraud").isEmpty());
+    }
+
+    @Test
+    public void removeShouldKeepOrderOfRemainingIds() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), "theft"));
+        Entry second = save(new Entry(UUID.randomUUID(), "theft"));
+        Entry third = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        index.remove(second);
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id()), new ArrayList<>(index.get("theft")));
+    }
+
+    @Test
+    public void removingLastEntityShouldEmptyKey() {
+        // Arrange
+        Entry entry = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        index.remove(entry);
+        index.remove(entry);
+
+        // Assert
+        assertTrue(index.get("theft").isEmpty(), "Removing an entity twice should be harmless");
+        Entry next = save(new Entry(UUID.randomUUID(), "theft"));
+        assertEquals(List.of(next.id()), new ArrayList<>(index.get("theft")), "A dropped key should be usable again");
+    }
+
+    @Test
+    public void removeWithStaleKeyShouldNotTouchOtherKeys() {
+        // Arrange
+        Entry entry = save(new Entry(UUID.randomUUID(), "theft"));
+
+        // Act
+        index.remove(new Entry(entry.id(), "fraud"));
+
+        // Assert
+        assertEquals(List.of(entry.id()), new ArrayList<>(index.get("theft")));
+    }
+
+    @Test
+    public void clearShouldEmptyAllKeys() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), "theft"));
+        save(new Entry(UUID.randomUUID(), "fraud"));
+
+        // Act
+        index.clear();
+
+        // Assert
+        assertTrue(index.get("theft").isEmpty());
+        assertTrue(index.get("fraud").isEmpty());
+    }
+
+    private Entry save(Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            index.update(previous, entry);
+        } else {
+            index.add(entry);
+        }
+        return entry;
+    }
+
+    private record Entry(UUID id, String key) {
+    }
+}
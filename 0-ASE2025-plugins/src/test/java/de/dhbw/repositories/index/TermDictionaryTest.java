@@ -0,0 +1,176 @@
+package de.dhbw.repositories.index;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.repositories.inmemory.InMemoryDetaineeRepository;
+import de.dhbw.repositories.json.JsonDetaineeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TermDictionary.
+ * Tests codes and interned spellings, the crimes of saved detainees, and the crime lookup built on them.
+ */
+public class TermDictionaryTest {
+    private TermDictionary dictionary;
+
+    @BeforeEach
+    public void setUp() {
+        dictionary = new TermDictionary();
+    }
+
+    @Test
+    public void termsDifferingInCaseShouldShareCode() {
+        // Act
+        int code = dictionary.codeOf("Theft");
+
+        // Assert
+        assertEquals(code, dictionary.codeOf("THEFT"));
+        assertNotEquals(code, dictionary.codeOf("Fraud"));
+        assertEquals("Theft", dictionary.termOf(code), "The first spelling should be kept");
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void findShouldNotRegisterUnknownTerm() {
+        // Act
+        int code = dictionary.find("Arson");
+
+        // Assert
+        assertEquals(-1, code);
+        assertEquals(0, dictionary.size());
+    }
+
+    @Test
+    public void internShouldReturnSharedInstancePerSpelling() {
+        // Arrange
+        String first = dictionary.intern(new String("Theft"));
+
+        // Act
+        String second = dictionary.intern(new String("Theft"));
+        String otherCase = dictionary.intern(new String("theft"));
+
+        // Assert
+        assertSame(first, second);
+        assertNotSame(first, otherCase, "Each spelling should keep its own instance");
+        assertEquals(dictionary.find("Theft"), dictionary.find("theft"));
+    }
+
+    @Test
+    public void savedDetaineesShouldShareCrimeInstance() {
+        // Arrange
+        InMemoryDetaineeRepository repository = new InMemoryDetaineeRepository();
+        Detainee first = new Detainee("John Doe", new String("Theft"));
+        Detainee second = new Detainee("Jane Roe", new String("Theft"));
+
+        // Act
+        repository.save(first);
+        repository.saveAll(List.of(second));
+
+        // Assert
+        assertSame(repository.findById(first.getId()).orElseThrow().getCrime(),
+                repository.findById(second.getId()).orElseThrow().getCrime());
+    }
+
+    @Test
+    public void detaineesSavedToJsonShouldShareCrimeInstance() throws IOException {
+        // Arrange
+        Path dataDirectory = Files.createTempDirectory("pms-json");
+        System.setProperty("pms.dataDir", dataDirectory.toString());
+        try {
+            JsonDetaineeRepository repository = new JsonDetaineeRepository();
+            Detainee first = new Detainee("John Doe", new String("Theft"));
+            Detainee second = new Detainee("Jane Roe", new String("Theft"));
+
+            // Act
+            repository.save(first);
+            repository.saveAll(List.of(second));
+
+            // Assert
+            assertSame(repository.findById(first.getId()).orElseThrow().getCrime(),
+                    repository.findById(second.getId()).orElseThrow().getCrime());
+        } finally {
+            System.clearProperty("pms.dataDir");
+            try (Stream<Path> files = Files.walk(dataDirectory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    @Test
+    public void codesShouldBeAssignedInOrderOfFirstUse() {
+        // Act
+        int theft = dictionary.codeOf("Theft");
+        int fraud = dictionary.codeOf("fraud");
+        int theftAgain = dictionary.codeOf("tHeFt");
+
+        // Assert
+        assertEquals(0, theft);
+        assertEquals(1, fraud);
+        assertEquals(theft, theftAgain, "A known term should keep its code");
+        assertEquals(fraud, dictionary.find("FRAUD"));
+        assertEquals(2, dictionary.size());
+    }
+
+    @Test
+    public void findByCrimeShouldIgnoreCase() {
+        // Arrange
+        InMemoryDetaineeRepository repository = new InMemoryDetaineeRepository();
+        Detainee first = new Detainee("John Doe", "Theft");
+        Detainee second = new Detainee("Jane Roe", "THEFT");
+        repository.save(first);
+        repository.save(second);
+        repository.save(new Detainee("Max Mustermann", "Fraud"));
+
+        // Act
+        List<Detainee> thieves = repository.findByCrime("theft");
+
+        // Assert
+        assertEquals(Set.of(first, second), new HashSet<>(thieves));
+        assertTrue(repository.findByCrime("Arson").isEmpty(), "An unknown crime should find nothing");
+    }
+
+    @Test
+    public void crimeChangeShouldMoveDetainee() {
+        // Arrange
+        InMemoryDetaineeRepository repository = new InMemoryDetaineeRepository();
+        Detainee detainee = new Detainee("John Doe", "Theft");
+        repository.save(detainee);
+
+        // Act
+        Detainee changed = Detainee.restore(detainee.getId(), "John Doe", "Fraud");
+        repository.save(changed);
+
+        // Assert
+        assertTrue(repository.findByCrime("Theft").isEmpty(), "The previous crime should no longer find the detainee");
+        assertEquals(List.of(changed), repository.findByCrime("fraud"));
+    }
+
+    @Test
+    public void deletedDetaineeShouldNotBeFoundByCrime() {
+        // Arrange
+        InMemoryDetaineeRepository repository = new InMemoryDetaineeRepository();
+        Detainee deleted = new Detainee("John Doe", "Theft");
+        Detainee kept = new Detainee("Jane Roe", "Theft");
+        repository.save(deleted);
+        repository.save(kept);
+
+        // Act
+        repository.deleteById(deleted.getId());
+
+        // Assert
+        assertEquals(List.of(kept), repository.findByCrime("Theft"));
+    }
+}
@@ -0,0 +1,152 @@
+package de.dhbw.repositories.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TimeIndex.
+ * Tests the bounds of the range queries, day and empty ranges, and the order of equal times across updates and removals.
+ */
+public class TimeIndexTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+
+    private Map<UUID, Entry> entries;
+    private TimeIndex<Entry> index;
+
+    @BeforeEach
+    public void setUp() {
+        entries = new LinkedHashMap<>();
+        index = new TimeIndex<>(Entry::time, Entry::id);
+    }
+
+    @Test
+    public void rangeShouldIncludeStartAndExcludeEnd() {
+        // Arrange
+        Entry atStart = save(new Entry(UUID.randomUUID(), MORNING));
+        Entry inside = save(new Entry(UUID.randomUUID(), MORNING.plusMinutes(30)));
+        save(new Entry(UUID.randomUUID(), MORNING.plusHours(1)));
+
+        // Act
+        List<UUID> range = index.range(MORNING, MORNING.plusHours(1));
+        List<UUID> between = index.between(MORNING, MORNING.plusHours(1));
+
+        // Assert
+        assertEquals(List.of(atStart.id(), inside.id()), range);
+        assertEquals(List.of(inside.id()), between, "Both bounds of between should be exclusive");
+    }
+
+    @Test
+    public void countShouldStopAtLimit() {
+        // Arrange
+        for (int i = 0; i < 10; i++) {
+            save(new Entry(UUID.randomUUID(), MORNING.plusMinutes(i)));
+        }
+
+        // Act
+        int count = index.count(null, null, 3);
+
+        // Assert
+        assertEquals(4, count, "Counting should stop one past the limit");
+        assertEquals(10, index.count(MORNING, null, 100));
+    }
+
+    @Test
+    public void updateWithSameTimeShouldKeepPosition() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), MORNING));
+        Entry second = save(new Entry(UUID.randomUUID(), MORNING));
+
+        // Act
+        save(new Entry(first.id(), MORNING));
+
+        // Assert
+        assertEquals(List.of(first.id(), second.id()), index.on(MORNING.toLocalDate()));
+    }
+
+    @Test
+    public void updateWithNewTimeShouldMoveEntityBehindEqualTimes() {
+        // Arrange
+        Entry moved = save(new Entry(UUID.randomUUID(), MORNING));
+        Entry waiting = save(new Entry(UUID.randomUUID(), MORNING.plusHours(1)));
+
+        // Act
+        save(new Entry(moved.id(), MORNING.plusHours(1)));
+
+        // Assert
+        assertTrue(index.range(MORNING, MORNING.plusMinutes(1)).isEmpty(), "The old time should no longer list the entity");
+        assertEquals(List.of(waiting.id(), moved.id()), index.after(MORNING));
+    }
+
+    @Test
+    public void removeShouldKeepOtherEntitiesWithSameTime() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), MORNING));
+        Entry second = save(new Entry(UUID.randomUUID(), MORNING));
+        Entry third = save(new Entry(UUID.randomUUID(), MORNING));
+
+        // Act
+        index.remove(second);
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id()), index.range(MORNING, null));
+    }
+
+    @Test
+    public void onShouldCoverWholeDayOnly() {
+        // Arrange
+        Entry midnight = save(new Entry(UUID.randomUUID(), MORNING.toLocalDate().atStartOfDay()));
+        Entry lastMinute = save(new Entry(UUID.randomUUID(), MORNING.toLocalDate().atTime(23, 59)));
+        save(new Entry(UUID.randomUUID(), MORNING.toLocalDate().plusDays(1).atStartOfDay()));
+        save(new Entry(UUID.randomUUID(), MORNING.toLocalDate().atStartOfDay().minusMinutes(1)));
+
+        // Act
+        List<UUID> day = index.on(MORNING.toLocalDate());
+
+        // Assert
+        assertEquals(List.of(midnight.id(), lastMinute.id()), day);
+    }
+
+    @Test
+    public void afterShouldExcludeEntitiesAtTheTime() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), MORNING));
+        Entry later = save(new Entry(UUID.randomUUID(), MORNING.plusSeconds(1)));
+
+        // Act & Assert
+        assertEquals(List.of(later.id()), index.after(MORNING));
+    }
+
+    @Test
+    public void emptyOrInvertedRangesShouldFindNothing() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), MORNING));
+
+        // Act & Assert
+        assertTrue(index.between(MORNING, MORNING).isEmpty());
+        assertTrue(index.between(MORNING.plusHours(1), MORNING.minusHours(1)).isEmpty());
+        assertTrue(index.range(MORNING, MORNING).isEmpty());
+        assertTrue(index.on(MORNING.toLocalDate().plusDays(1)).isEmpty());
+        assertEquals(0, index.count(MORNING.plusMinutes(1), null, 10));
+    }
+
+    private Entry save(Entry entry) {
+        Entry previous = entries.put(entry.id(), entry);
+        if (previous != null) {
+            index.update(previous, entry);
+        } else {
+            index.add(entry);
+        }
+        return entry;
+    }
+
+    private record Entry(UUID id, LocalDateTime time) {
+    }
+}
@@ -0,0 +1,134 @@
+package de.dhbw.repositories.index;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the TrigramIndex.
+ * Tests substring searches with short, repeated and out-of-order trigrams, and the order of results across updates
+ * and removals.
+ */
+public class TrigramIndexTest {
+    private Map<UUID, Entry> entries;
+    private TrigramIndex<Entry> index;
+
+    @BeforeEach
+    public void setUp() {
+        entries = new LinkedHashMap<>();
+        index = new TrigramIndex<>(Entry::text, Entry::id);
+    }
+
+    @Test
+    public void searchShouldIgnoreCase() {
+        // Arrange
+        Entry john = save(new Entry(UUID.randomUUID(), "John Doe"));
+        save(new Entry(UUID.randomUUID(), "Jane Roe"));
+
+        // Act
+        List<UUID> result = index.search("JOHN d");
+
+        // Assert
+        assertEquals(List.of(john.id()), result);
+    }
+
+    @Test
+    public void matchingTrigramsOutOfOrderShouldNotMatch() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), "abcxbcd"));
+
+        // Act
+        List<UUID> result = index.search("abcd");
+
+        // Assert
+        assertTrue(result.isEmpty(), "All trigrams occur, but not as one substring");
+    }
+
+    @Test
+    public void updatedTextShouldReplaceOldText() {
+        // Arrange
+        Entry entry = save(new Entry(UUID.randomUUID(), "John Doe"));
+
+        // Act
+        save(new Entry(entry.id(), "Jane Doe"));
+
+        // Assert
+        assertTrue(index.search("john").isEmpty(), "The old text should no longer match");
+        assertEquals(List.of(entry.id()), index.search("jane"));
+    }
+
+    @Test
+    public void queriesShorterThanTrigramShouldMatchSubstrings() {
+        // Arrange
+        Entry ab = save(new Entry(UUID.randomUUID(), "ab"));
+        Entry xa = save(new Entry(UUID.randomUUID(), "xA"));
+        Entry empty = save(new Entry(UUID.randomUUID(), ""));
+
+        // Act & Assert
+        assertEquals(List.of(ab.id(), xa.id(), empty.id()), index.search(""), "The empty query should match everything");
+        assertEquals(List.of(ab.id(), xa.id()), index.search("a"));
+        assertEquals(List.of(ab.id()), index.search("AB"));
+        assertTrue(index.search("abc").isEmpty(), "Texts shorter than the query should not match");
+    }
+
+    @Test
+    public void repeatedTrigramShouldNeedRepeatedText() {
+        // Arrange
+        save(new Entry(UUID.randomUUID(), "aaa"));
+        Entry longer = save(new Entry(UUID.randomUUID(), "xaaaa"));
+
+        // Act
+        List<UUID> result = index.search("aaaa");
+
+        // Assert
+        assertEquals(List.of(longer.id()), result);
+    }
+
+    @Test
+    public void resultsShouldKeepInsertionOrderUnlessTextChanges() {
+        // Arrange
+        Entry first = save(new Entry(UUID.randomUUID(), "John Doe"));
+        Entry second = save(new Entry(UUID.randomUUID(), "Jane Doe"));
+        Entry third = save(new Entry(UUID.randomUUID(), "Jim Doe"));
+
+        // Act
+        save(first);
+        save(new Entry(second.id(), "Janet Doe"));
+
+        // Assert
+        assertEquals(List.of(first.id(), third.id(), second.id()), index.search("doe"),
+                "An unchanged save keeps the position, a changed text moves to the end");
+    }
+
+    @Test
+    public void removedEntityShouldNotMatch() {
+        // Arrange
+        Entry removed = save(new Entry(UUID.randomUUID(), "John Doe"));
+        Entry kept = save(new Entry(UUID.randomUUID(), "John Roe"));
+
+        // Act
+        entries.remove(removed.id());
+        index.remove(removed.id());
+        index.remove(UUID.randomUUID());
+
+        // Assert
+        assertEquals(List.of(kept.id()), index.search("john"));
+        assertTrue(index.search("doe").isEmpty());
+        assertEquals(List.of(kept.id()), index.search("j"), "Short queries should skip removed entities too");
+    }
+
+    private Entry save(Entry entry) {
+        entries.put(entry.id(), entry);
+        index.add(entry);
+        return entry;
+    }
+
+    private record Entry(UUID id, String text) {
+    }
+}
@@ -0,0 +1,298 @@
+package de.dhbw.repositories.json;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the JSON persistence base.
+ * Tests journal replay, compaction and recovery from crashes and damaged files, mostly using the officer repository.
+ */
+public class JsonPersistenceBaseTest {
+    private Path dataDirectory;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("pms-json");
+        System.setProperty("pms.dataDir", dataDirectory.toString());
+        System.setProperty("pms.journal", "true");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        JsonPersistenceWriter.getInstance().awaitPendingWork();
+        System.clearProperty("pms.dataDir");
+        System.clearProperty("pms.journal");
+        System.clearProperty("pms.journal.compactionThreshold");
+        System.clearProperty("pms.acceptChecksumMismatch");
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void journalShouldBeReplayedOnLoad() {
+        // Arrange
+        JsonOfficerRepository repository = new JsonOfficerRepository();
+        Officer kept = new Officer("John Doe", new Rank("Sergeant", 3));
+        Officer deleted = new Officer("Jane Roe", new Rank("Inspector", 4));
+        repository.save(kept);
+        repository.save(deleted);
+        repository.deleteById(deleted.getId());
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertTrue(Files.exists(journal()), "The records should have been appended to the journal");
+        assertEquals(1, reloaded.count());
+        assertEquals("John Doe", reloaded.findById(kept.getId()).orElseThrow().getName());
+        assertFalse(reloaded.existsById(deleted.getId()), "The deletion should have been replayed");
+    }
+
+    @Test
+    public void truncatedJournalLineShouldBeSkipped() throws IOException {
+        // Arrange
+        JsonOfficerRepository repository = new JsonOfficerRepository();
+        Officer officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        repository.save(officer);
+        // A crash in the middle of a write leaves half a record behind
+        Files.writeString(journal(), "{\"op\":\"U\",\"entity\":{\"id\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(1, reloaded.count(), "The complete record should survive the torn one");
+        assertTrue(reloaded.existsById(officer.getId()));
+    }
+
+    @Test
+    public void recordAppendedAfterTornLineShouldSurviveReload() throws IOException {
+        // Arrange
+        Officer first = new Officer("John Doe", new Rank("Sergeant", 3));
+        new JsonOfficerRepository().save(first);
+        Files.writeString(journal(), "{\"op\":\"U\",\"entity\":{\"id\":\"", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+        JsonOfficerRepository restarted = new JsonOfficerRepository();
+        Officer second = new Officer("Jane Roe", new Rank("Inspector", 4));
+
+        // Act
+        restarted.save(second);
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(2, reloaded.count(), "The record appended after the restart should not be glued onto the torn one");
+        assertTrue(reloaded.existsById(second.getId()));
+        assertEquals(2, Files.readAllLines(journal()).size(), "The torn fragment should have been cut off");
+    }
+
+    @Test
+    public void compactionShouldFoldJournalIntoSnapshot() throws IOException {
+        // Arrange
+        System.setProperty("pms.journal.compactionThreshold", "3");
+        JsonOfficerRepository repository = new JsonOfficerRepository();
+
+        // Act
+        for (int i = 0; i < 3; i++) {
+            repository.save(new Officer("Officer " + i, new Rank("Sergeant", 3)));
+        }
+        JsonPersistenceWriter.getInstance().awaitPendingWork();
+
+        // Assert
+        assertFalse(Files.exists(compactingJournal()), "The rotated journal should be deleted after the compaction");
+        assertFalse(Files.exists(journal()), "No record should have been appended after the compaction");
+        System.clearProperty("pms.journal");
+        assertEquals(3, new JsonOfficerRepository().count(), "The snapshot alone should hold all officers");
+    }
+
+    @Test
+    public void interruptedCompactionShouldBeReplayedAndFolded() throws IOException {
+        // Arrange
+        JsonOfficerRepository repository = new JsonOfficerRepository();
+        Officer first = new Officer("John Doe", new Rank("Sergeant", 3));
+        Officer second = new Officer("Jane Roe", new Rank("Inspector", 4));
+        repository.save(first);
+        // A crash after the rotation leaves the rotated journal next to a fresh one
+        Files.move(journal(), compactingJournal());
+        repository.save(second);
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(2, reloaded.count());
+        assertFalse(Files.exists(compactingJournal()), "The journals should have been folded into the snapshot");
+        assertFalse(Files.exists(journal()));
+    }
+
+    @Test
+    public void failedCompactionShouldBeRetried() throws Exception {
+        // Arrange
+        System.setProperty("pms.journal.compactionThreshold", "2");
+        JsonOfficerRepository repository = new JsonOfficerRepository();
+        // A directory in place of the temporary file makes the snapshot write fail
+        Path blocker = dataDirectory.resolve("officers.json.tmp");
+        Files.createDirectories(blocker.resolve("blocked"));
+        repository.save(new Officer("Officer 0", new Rank("Sergeant", 3)));
+        repository.save(new Officer("Officer 1", new Rank("Sergeant", 3)));
+        JsonPersistenceWriter.getInstance().awaitPendingWork();
+        assertTrue(Files.exists(compactingJournal()), "The rotated journal should be kept after a failed compaction");
+
+        // Act
+        Files.delete(blocker.resolve("blocked"));
+        Files.delete(blocker);
+        Thread.sleep(1100);
+        repository.save(new Officer("Officer 2", new Rank("Sergeant", 3)));
+        repository.save(new Officer("Officer 3", new Rank("Sergeant", 3)));
+        JsonPersistenceWriter.getInstance().awaitPendingWork();
+
+        // Assert
+        assertFalse(Files.exists(compactingJournal()), "The retried compaction should have folded both journals");
+        System.clearProperty("pms.journal");
+        assertEquals(4, new JsonOfficerRepository().count(), "The snapshot alone should hold all officers");
+    }
+
+    @Test
+    public void unreadableSnapshotShouldBeMovedAside() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        new JsonOfficerRepository().save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        Path snapshot = dataDirectory.resolve("officers.json");
+        String content = Files.readString(snapshot);
+        Files.writeString(snapshot, content.substring(0, content.length() / 2));
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(0, reloaded.count());
+        assertFalse(Files.exists(snapshot), "The unreadable snapshot should not be kept in place");
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith("officers.json.corrupt-")).count(),
+                    "The unreadable snapshot should be kept for recovery");
+        }
+    }
+
+    @Test
+    public void snapshotNotMatchingItsChecksumShouldBeMovedAside() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        new JsonOfficerRepository().save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        Path snapshot = dataDirectory.resolve("officers.json");
+        // Bit rot that still parses as JSON
+        Files.writeString(snapshot, Files.readString(snapshot).replace("John Doe", "John Dob"));
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(0, reloaded.count(), "Content not matching its checksum should not be loaded");
+        try (Stream<Path> files = Files.list(dataDirectory)) {
+            assertEquals(1, files.filter(file -> file.getFileName().toString().startsWith("officers.json.corrupt-")).count(),
+                    "The mismatching snapshot should be kept for recovery");
+        }
+    }
+
+    @Test
+    public void journalShouldBeReplayedWhenSnapshotDoesNotMatchItsChecksum() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        Officer inSnapshot = new Officer("John Doe", new Rank("Sergeant", 3));
+        new JsonOfficerRepository().save(inSnapshot);
+        System.setProperty("pms.journal", "true");
+        Officer inJournal = new Officer("Jane Roe", new Rank("Inspector", 4));
+        new JsonOfficerRepository().save(inJournal);
+        Path snapshot = dataDirectory.resolve("officers.json");
+        Files.writeString(snapshot, Files.readString(snapshot).replace("John Doe", "John Dob"));
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertFalse(reloaded.existsById(inSnapshot.getId()), "The mismatching snapshot should not be loaded");
+        assertTrue(reloaded.existsById(inJournal.getId()), "The journal should still be replayed");
+    }
+
+    @Test
+    public void editedSnapshotShouldBeAcceptedWhenOptedIn() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        System.setProperty("pms.acceptChecksumMismatch", "true");
+        new JsonOfficerRepository().save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        Path snapshot = dataDirectory.resolve("officers.json");
+        Path checksum = dataDirectory.resolve("officers.json.crc");
+        String storedChecksum = Files.readString(checksum);
+        Files.writeString(snapshot, Files.readString(snapshot).replace("John Doe", "Jane Doe"));
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals("Jane Doe", reloaded.findAll().get(0).getName(), "An accepted edit should be loaded");
+        assertNotEquals(storedChecksum, Files.readString(checksum), "The checksum should be updated to the edited content");
+    }
+
+    @Test
+    public void snapshotWithoutChecksumShouldBeLoadedAndGetChecksum() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        new JsonOfficerRepository().save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        Path checksum = dataDirectory.resolve("officers.json.crc");
+        Files.delete(checksum);
+
+        // Act
+        JsonOfficerRepository reloaded = new JsonOfficerRepository();
+
+        // Assert
+        assertEquals(1, reloaded.count(), "A snapshot written before checksums existed should be loaded");
+        assertTrue(Files.exists(checksum));
+    }
+
+    @Test
+    public void invalidCalendarDayShouldBeSkipped() throws IOException {
+        // Arrange
+        System.clearProperty("pms.journal");
+        System.setProperty("pms.acceptChecksumMismatch", "true");
+        Room room = new Room(RoomType.MEETING);
+        LocalDate tomorrow = LocalDate.now().plusDays(1);
+        LocalDate later = tomorrow.plusDays(1);
+        room.getCalendar().tryReserve(tomorrow.atTime(10, 0), tomorrow.atTime(11, 0));
+        room.getCalendar().tryReserve(later.atTime(10, 0), later.atTime(11, 0));
+        new JsonRoomRepository().save(room);
+        Path snapshot = dataDirectory.resolve("rooms.json");
+        Files.writeString(snapshot, Files.readString(snapshot).replace(tomorrow.toString(), "not-a-day"));
+
+        // Act
+        JsonRoomRepository reloaded = new JsonRoomRepository();
+
+        // Assert
+        Room loaded = reloaded.findById(room.getId()).orElseThrow(() -> new AssertionError("The room should be loaded"));
+        assertFalse(loaded.getCalendar().isFree(later.atTime(10, 0), later.atTime(11, 0)), "The valid day should be kept");
+        assertTrue(loaded.getCalendar().isFree(tomorrow.atTime(10, 0), tomorrow.atTime(11, 0)));
+    }
+
+    private Path journal() {
+        return dataDirectory.resolve("officers.journal");
+    }
+
+    private Path compactingJournal() {
+        return dataDirectory.resolve("officers.journal.compacting");
+    }
+}
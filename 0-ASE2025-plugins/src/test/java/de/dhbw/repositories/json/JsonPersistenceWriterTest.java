@@ -0,0 +1,160 @@
+package de.dhbw.repositories.json;
+
+import de.dhbw.aggregates.Officer;
+import de.dhbw.valueobjects.Rank;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the JsonPersistenceWriter.
+ * Tests when changes reach the disk in each durability mode, with and without the journal.
+ */
+public class JsonPersistenceWriterTest {
+    private Path dataDirectory;
+    private JsonPersistenceWriter writer;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        dataDirectory = Files.createTempDirectory("pms-writer");
+        System.setProperty("pms.dataDir", dataDirectory.toString());
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        if (writer != null) {
+            writer.shutdown();
+        }
+        System.clearProperty("pms.dataDir");
+        System.clearProperty("pms.journal");
+        try (Stream<Path> files = Files.walk(dataDirectory)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(file);
+            }
+        }
+    }
+
+    @Test
+    public void syncModeShouldWriteBeforeReturning() {
+        // Arrange
+        writer = new JsonPersistenceWriter(DurabilityMode.SYNC);
+        OfficerStore store = new OfficerStore(writer);
+
+        // Act
+        store.save(new Officer("John Doe", new Rank("Sergeant", 3)));
+
+        // Assert
+        assertEquals(1, new OfficerStore(writer).size(), "The officer should be on disk right away");
+    }
+
+    @Test
+    public void checkpointModeShouldWriteOnCheckpoint() {
+        // Arrange
+        writer = new JsonPersistenceWriter(DurabilityMode.CHECKPOINT);
+        OfficerStore store = new OfficerStore(writer);
+        store.save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        assertEquals(0, new OfficerStore(writer).size(), "The officer should not be written before the checkpoint");
+
+        // Act
+        writer.checkpoint();
+
+        // Assert
+        assertEquals(1, new OfficerStore(writer).size(), "The checkpoint should write the officer");
+    }
+
+    @Test
+    public void checkpointModeShouldFlushJournalOnCheckpoint() {
+        // Arrange
+        System.setProperty("pms.journal", "true");
+        writer = new JsonPersistenceWriter(DurabilityMode.CHECKPOINT);
+        OfficerStore store = new OfficerStore(writer);
+        store.save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        store.save(new Officer("Jane Roe", new Rank("Inspector", 4)));
+        assertEquals(0, new OfficerStore(writer).size(), "The records should still be buffered");
+
+        // Act
+        writer.checkpoint();
+
+        // Assert
+        assertEquals(2, new OfficerStore(writer).size(), "The checkpoint should flush both records");
+    }
+
+    @Test
+    public void groupCommitModeShouldWriteWithinInterval() throws InterruptedException {
+        // Arrange
+        writer = new JsonPersistenceWriter(DurabilityMode.GROUP_COMMIT);
+        OfficerStore store = new OfficerStore(writer);
+
+        // Act
+        store.save(new Officer("John Doe", new Rank("Sergeant", 3)));
+        store.save(new Officer("Jane Roe", new Rank("Inspector", 4)));
+        int persisted = 0;
+        long deadline = System.currentTimeMillis() + 2000;
+        while (persisted < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            persisted = new OfficerStore(writer).size();
+        }
+
+        // Assert
+        assertEquals(2, persisted, "A group commit should write both officers without a checkpoint");
+    }
+
+    @Test
+    public void shutdownShouldWriteFinalCheckpoint() {
+        // Arrange
+        writer = new JsonPersistenceWriter(DurabilityMode.CHECKPOINT);
+        OfficerStore store = new OfficerStore(writer);
+        store.save(new Officer("John Doe", new Rank("Sergeant", 3)));
+
+        // Act
+        writer.shutdown();
+
+        // Assert
+        assertEquals(1, new OfficerStore(writer).size(), "Shutting down should not lose pending changes");
+    }
+
+    /**
+     * Minimal repository that persists officers through a given writer.
+     */
+    private static class OfficerStore extends JsonPersistenceBase<Officer> {
+        private final Map<UUID, Officer> officers = new LinkedHashMap<>();
+
+        OfficerStore(JsonPersistenceWriter writer) {
+            super("officers", Officer.class, writer);
+            for (Officer officer : loadFromFile()) {
+                officers.put(officer.getId(), officer);
+            }
+        }
+
+        synchronized void save(Officer officer) {
+            officers.put(officer.getId(), officer);
+            persistUpsert(officer);
+        }
+
+        int size() {
+            return officers.size();
+        }
+
+        @Override
+        protected UUID getEntityId(Officer officer) {
+            return officer.getId();
+        }
+
+        @Override
+        protected Collection<Officer> getEntities() {
+            return officers.values();
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package de.dhbw.repositories.json;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Comparator;
+import java.util.stream.Stream;
+import java.util.zip.CheckedInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SnapshotFiles.
+ * Tests atomic writes, checksums and the recovery of writes interrupted by a crash.
+ */
+public class SnapshotFilesTest {
+    private Path directory;
+    private Path file;
+
+    @BeforeEach
+    public void setUp() throws IOException {
+        directory = Files.createTempDirectory("pms-snapshot");
+        file = directory.resolve("officers.json");
+    }
+
+    @AfterEach
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.walk(directory)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    @Test
+    public void writtenFileShouldMatchItsChecksum() throws IOException {
+        // Arrange
+        write(file, "[{\"name\":\"John Doe\"}]");
+
+        // Act
+        boolean matches = readAndMatch(file);
+
+        // Assert
+        assertTrue(matches, "The checksum computed while reading should match the stored one");
+        assertFalse(Files.exists(directory.resolve("officers.json.tmp")), "No temporary file should be left behind");
+    }
+
+    @Test
+    public void modifiedFileShouldNotMatchItsChecksum() throws IOException {
+        // Arrange
+        write(file, "[{\"name\":\"John Doe\"}]");
+        Files.writeString(file, "[{\"name\":\"Jane Doe\"}]");
+
+        // Act
+        boolean matches = readAndMatch(file);
+
+        // Assert
+        assertFalse(matches, "A changed byte should be detected");
+    }
+
+    @Test
+    public void prepareShouldCreateMissingFile() throws IOException {
+        // Act
+        SnapshotFiles.Status status = SnapshotFiles.prepare(file);
+
+        // Assert
+        assertEquals(SnapshotFiles.Status.CREATED, status);
+        assertEquals("[]", Files.readString(file));
+        assertTrue(readAndMatch(file), "The created file should have a checksum");
+    }
+
+    @Test
+    public void prepareShouldCompleteWriteInterruptedBeforeRename() throws IOException {
+        // Arrange
+        write(file, "[]");
+        Path newer = directory.resolve("newer.json");
+        write(newer, "[{\"name\":\"John Doe\"}]");
+        // The crash happened after the new checksum was stored but before the rename
+        Files.move(newer, directory.resolve("officers.json.tmp"));
+        Files.move(directory.resolve("newer.json.crc"), directory.resolve("officers.json.crc"), StandardCopyOption.REPLACE_EXISTING);
+
+        // Act
+        SnapshotFiles.Status status = SnapshotFiles.prepare(file);
+
+        // Assert
+        assertEquals(SnapshotFiles.Status.COMPLETED, status);
+        assertEquals("[{\"name\":\"John Doe\"}]", Files.readString(file), "The completed write should be in place");
+        assertTrue(readAndMatch(file));
+    }
+
+    @Test
+    public void prepareShouldDiscardPartialWrite() throws IOException {
+        // Arrange
+        write(file, "[]");
+        Files.writeString(directory.resolve("officers.json.tmp"), "[{\"name\":\"Jo");
+
+        // Act
+        SnapshotFiles.Status status = SnapshotFiles.prepare(file);
+
+        // Assert
+        assertEquals(SnapshotFiles.Status.PRESENT, status);
+        assertFalse(Files.exists(directory.resolve("officers.json.tmp")), "The partial write should be deleted");
+        assertEquals("[]", Files.readString(file), "The previous snapshot should be kept");
+    }
+
+    @Test
+    public void quarantineShouldKeepCorruptContent() throws IOException {
+        // Arrange
+        write(file, "[]");
+        Files.writeString(file, "[{\"name\":");
+
+        // Act
+        Path corruptCopy = SnapshotFiles.quarantine(file);
+
+        // Assert
+        assertFalse(Files.exists(file));
+        assertFalse(Files.exists(directory.resolve("officers.json.crc")), "The stale checksum should be removed");
+        assertTrue(corruptCopy.getFileName().toString().startsWith("officers.json.corrupt-"));
+        assertEquals("[{\"name\":", Files.readString(corruptCopy));
+    }
+
+    private static void write(Path target, String content) throws IOException {
+        SnapshotFiles.writeAtomically(target, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static boolean readAndMatch(Path target) throws IOException {
+        try (CheckedInputStream in = SnapshotFiles.checkedStream(Files.newInputStream(target))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return SnapshotFiles.matchesChecksum(target, in.getChecksum().getValue(), Files.size(target));
+        }
+    }
+}
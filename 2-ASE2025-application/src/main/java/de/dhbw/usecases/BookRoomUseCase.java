@@ -2,6 +2,7 @@ package de.dhbw.usecases;
 
 import de.dhbw.aggregates.Room;
 import de.dhbw.services.RoomManagementService;
+import de.dhbw.valueobjects.RoomType;
 
 import java.util.UUID;
 
@@ -26,4 +27,15 @@ public class BookRoomUseCase {
     public Room execute(UUID roomId) {
         return roomManagementService.bookRoom(roomId);
     }
+
+    /**
+     * Execute the use case to book any available room of a type.
+     *
+     * @param type The type of room to book
+     * @return The booked room
+     * @throws IllegalStateException If no room of the type is available
+     */
+    public Room execute(RoomType type) {
+        return roomManagementService.bookAvailableRoom(type);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,27 @@
+package de.dhbw.usecases;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.services.DetaineeService;
+
+import java.util.List;
+
+/**
+ * Use case for registering many detainees at once, e.g. when importing them from a file.
+ */
+public class BulkRegisterDetaineesUseCase {
+    private final DetaineeService detaineeService;
+
+    public BulkRegisterDetaineesUseCase(DetaineeService detaineeService) {
+        this.detaineeService = detaineeService;
+    }
+
+    /**
+     * Execute the use case to register the detainees.
+     *
+     * @param detainees The new detainees
+     * @return The registered detainees
+     */
+    public List<Detainee> execute(List<Detainee> detainees) {
+        return detaineeService.registerDetainees(detainees);
+    }
+}
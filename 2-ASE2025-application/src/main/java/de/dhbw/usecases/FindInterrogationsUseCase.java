@@ -0,0 +1,38 @@
+package de.dhbw.usecases;
+
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.repositories.InterrogationRepository;
+import de.dhbw.valueobjects.InterrogationCriteria;
+
+import java.util.List;
+
+/**
+ * Use case for finding interrogations by a combination of criteria.
+ */
+public class FindInterrogationsUseCase {
+    private final InterrogationRepository interrogationRepository;
+
+    public FindInterrogationsUseCase(InterrogationRepository interrogationRepository) {
+        this.interrogationRepository = interrogationRepository;
+    }
+
+    /**
+     * Execute the use case to find all interrogations matching the criteria.
+     *
+     * @param criteria The filters to apply
+     * @return List of matching interrogations
+     */
+    public List<Interrogation> execute(InterrogationCriteria criteria) {
+        return interrogationRepository.findMatching(criteria);
+    }
+
+    /**
+     * Describes how the repository evaluates the criteria.
+     *
+     * @param criteria The filters to apply
+     * @return A readable description of the query plan
+     */
+    public String explain(InterrogationCriteria criteria) {
+        return interrogationRepository.explain(criteria);
+    }
+}
@@ -2,8 +2,10 @@ package de.dhbw.usecases;
 
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.services.DetaineeService;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Use case for retrieving all registered detainees in the system.
@@ -23,4 +25,23 @@ public class GetAllDetaineesUseCase {
     public List<Detainee> execute() {
         return detaineeService.getAllDetainees();
     }
-}
\ No newline at end of file
+
+    /**
+     * Execute the use case to retrieve one page of detainees.
+     *
+     * @param page The page to retrieve
+     * @return List of the detainees on the page
+     */
+    public List<Detainee> execute(PageRequest page) {
+        return detaineeService.getDetaineePage(page);
+    }
+
+    /**
+     * Streams all detainees in the system, so they can be listed without copying them.
+     *
+     * @return Stream of all detainees in the system
+     */
+    public Stream<Detainee> stream() {
+        return detaineeService.streamAllDetainees();
+    }
+}
@@ -2,8 +2,10 @@ package de.dhbw.usecases;
 
 import de.dhbw.aggregates.Room;
 import de.dhbw.services.RoomManagementService;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Use case for retrieving all rooms registered in the system.
@@ -23,4 +25,23 @@ public class GetAllRoomsUseCase {
     public List<Room> execute() {
         return roomManagementService.getAllRooms();
     }
-}
\ No newline at end of file
+
+    /**
+     * Execute the use case to retrieve one page of rooms.
+     *
+     * @param page The page to retrieve
+     * @return List of the rooms on the page
+     */
+    public List<Room> execute(PageRequest page) {
+        return roomManagementService.getRoomPage(page);
+    }
+
+    /**
+     * Streams all rooms in the system, so they can be listed without copying them.
+     *
+     * @return Stream of all rooms in the system
+     */
+    public Stream<Room> stream() {
+        return roomManagementService.streamAllRooms();
+    }
+}
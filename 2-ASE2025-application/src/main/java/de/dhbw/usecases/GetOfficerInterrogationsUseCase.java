@@ -32,7 +32,7 @@ public class GetOfficerInterrogationsUseCase {
      */
     public List<Interrogation> execute(UUID officerId) {
         // Verify that the officer exists
-        if (!officerRepository.findById(officerId).isPresent()) {
+        if (!officerRepository.existsById(officerId)) {
             throw new IllegalArgumentException("Officer not found");
         }
 
@@ -49,7 +49,7 @@ public class GetOfficerInterrogationsUseCase {
      */
     public List<Interrogation> getUpcoming(UUID officerId) {
         // Verify that the officer exists
-        if (!officerRepository.findById(officerId).isPresent()) {
+        if (!officerRepository.existsById(officerId)) {
             throw new IllegalArgumentException("Officer not found");
         }
 
@@ -6,6 +6,7 @@ import de.dhbw.services.DetaineeService;
 import de.dhbw.services.InterrogationService;
 import de.dhbw.valueobjects.InterrogationRequest;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -34,11 +35,26 @@ public class InterrogateDetaineeUseCase {
      * @throws IllegalStateException    If no interrogation rooms are available
      */
     public Interrogation execute(UUID officerId, UUID detaineeId, LocalDateTime scheduledTime) {
+        return execute(officerId, detaineeId, scheduledTime, Interrogation.DEFAULT_DURATION);
+    }
+
+    /**
+     * Execute the use case to schedule an interrogation of a detainee for a given duration.
+     *
+     * @param officerId     The ID of the officer conducting the interrogation
+     * @param detaineeId    The ID of the detainee to interrogate
+     * @param scheduledTime The time when the interrogation should take place
+     * @param duration      The length of the interrogation
+     * @return The scheduled interrogation
+     * @throws IllegalArgumentException If officer or detainee not found, or the duration is not positive
+     * @throws IllegalStateException    If the officer is busy or no interrogation rooms are available
+     */
+    public Interrogation execute(UUID officerId, UUID detaineeId, LocalDateTime scheduledTime, Duration duration) {
         // First, retrieve the detainee
         Detainee detainee = detaineeService.getDetainee(detaineeId);
 
         // Create the request object
-        InterrogationRequest request = new InterrogationRequest(officerId, detainee, scheduledTime);
+        InterrogationRequest request = new InterrogationRequest(officerId, detainee, scheduledTime, duration);
 
         // Then schedule the interrogation
         return interrogationService.scheduleInterrogation(request);
@@ -3,6 +3,7 @@ package de.dhbw.usecases;
 import de.dhbw.aggregates.Meeting;
 import de.dhbw.services.MeetingService;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.UUID;
 
@@ -29,4 +30,19 @@ public class ScheduleMeetingUseCase {
     public Meeting execute(UUID officerId, String informantName, LocalDateTime scheduledTime) {
         return meetingService.scheduleMeeting(officerId, informantName, scheduledTime);
     }
+
+    /**
+     * Execute the use case to schedule a meeting for a given duration.
+     *
+     * @param officerId The ID of the officer hosting the meeting
+     * @param informantName The name of the informant
+     * @param scheduledTime The time when the meeting should take place
+     * @param duration The length of the meeting
+     * @return The scheduled meeting
+     * @throws IllegalArgumentException If officer not found, or the duration is not positive
+     * @throws IllegalStateException If the officer is busy or no meeting rooms are available
+     */
+    public Meeting execute(UUID officerId, String informantName, LocalDateTime scheduledTime, Duration duration) {
+        return meetingService.scheduleMeeting(officerId, informantName, scheduledTime, duration);
+    }
 }
\ No newline at end of file
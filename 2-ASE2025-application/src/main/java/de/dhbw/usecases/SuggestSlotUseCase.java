@@ -0,0 +1,48 @@
+package de.dhbw.usecases;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.services.DetaineeService;
+import de.dhbw.services.InterrogationService;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Use case for finding the earliest times at which an interrogation could be scheduled.
+ */
+public class SuggestSlotUseCase {
+    public static final int DEFAULT_SUGGESTIONS = 3;
+
+    private final InterrogationService interrogationService;
+    private final DetaineeService detaineeService;
+
+    public SuggestSlotUseCase(
+            InterrogationService interrogationService,
+            DetaineeService detaineeService) {
+        this.interrogationService = interrogationService;
+        this.detaineeService = detaineeService;
+    }
+
+    /**
+     * Execute the use case to find the earliest feasible starts of an interrogation within a window.
+     *
+     * @param officerId  The ID of the officer conducting the interrogation
+     * @param detaineeId The ID of the detainee to interrogate
+     * @param from       The earliest start
+     * @param until      The time by which the interrogation must be over
+     * @param duration   The length of the interrogation
+     * @return Up to {@value #DEFAULT_SUGGESTIONS} starts in ascending order, empty if none fits
+     * @throws IllegalArgumentException If officer or detainee not found, or the duration is not positive
+     * @throws IllegalStateException    If the officer does not have sufficient rank
+     */
+    public List<LocalDateTime> execute(UUID officerId, UUID detaineeId, LocalDateTime from,
+                                       LocalDateTime until, Duration duration) {
+        // Make sure the detainee exists
+        Detainee detainee = detaineeService.getDetainee(detaineeId);
+
+        return interrogationService.suggestSlots(
+                officerId, detainee.getId(), from, until, duration, DEFAULT_SUGGESTIONS);
+    }
+}
@@ -0,0 +1,134 @@
+package de.dhbw.usecases;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.services.DetaineeService;
+import de.dhbw.services.InterrogationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the SuggestSlotUseCase.
+ * Tests the detainee lookup and the hand-over to the interrogation service with fake implementations.
+ */
+public class SuggestSlotUseCaseTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private FakeDetaineeRepository detaineeRepository;
+    private FakeInterrogationService interrogationService;
+    private SuggestSlotUseCase suggestSlotUseCase;
+    private Detainee detainee;
+
+    @BeforeEach
+    public void setUp() {
+        detaineeRepository = new FakeDetaineeRepository();
+        interrogationService = new FakeInterrogationService();
+        suggestSlotUseCase = new SuggestSlotUseCase(interrogationService, new DetaineeService(detaineeRepository));
+
+        detainee = new Detainee("Jane Roe", "Theft");
+        detaineeRepository.save(detainee);
+    }
+
+    @Test
+    public void executeShouldAskForDefaultNumberOfSuggestions() {
+        // Arrange
+        UUID officerId = UUID.randomUUID();
+        interrogationService.slots = List.of(MORNING, MORNING.plusHours(1));
+
+        // Act
+        List<LocalDateTime> slots = suggestSlotUseCase.execute(officerId, detainee.getId(), MORNING, MORNING.plusHours(8), HOUR);
+
+        // Assert
+        assertEquals(List.of(MORNING, MORNING.plusHours(1)), slots);
+        assertEquals(List.of(officerId, detainee.getId(), MORNING, MORNING.plusHours(8), HOUR,
+                SuggestSlotUseCase.DEFAULT_SUGGESTIONS), interrogationService.lastCall);
+    }
+
+    @Test
+    public void executeShouldRejectUnknownDetainee() {
+        // Act & Assert
+        Exception exception = assertThrows(IllegalArgumentException.class, () ->
+                suggestSlotUseCase.execute(UUID.randomUUID(), UUID.randomUUID(), MORNING, MORNING.plusHours(8), HOUR));
+        assertEquals("Detainee not found", exception.getMessage());
+        assertNull(interrogationService.lastCall, "The service should not be asked for slots");
+    }
+
+    @Test
+    public void executeShouldReturnEmptyListWhenNoSlotFitsWithinHorizon() {
+        // Arrange
+        interrogationService.slots = List.of();
+
+        // Act
+        List<LocalDateTime> slots = suggestSlotUseCase.execute(UUID.randomUUID(), detainee.getId(), MORNING, MORNING.plusMinutes(30), HOUR);
+
+        // Assert
+        assertTrue(slots.isEmpty());
+    }
+
+    // Fake implementations for testing
+    private static class FakeInterrogationService extends InterrogationService {
+        private List<LocalDateTime> slots = List.of();
+        private List<Object> lastCall;
+
+        private FakeInterrogationService() {
+            super(null, null, null);
+        }
+
+        @Override
+        public List<LocalDateTime> suggestSlots(UUID officerId, UUID detaineeId, LocalDateTime from,
+                                                LocalDateTime until, Duration duration, int limit) {
+            lastCall = List.of(officerId, detaineeId, from, until, duration, limit);
+            return slots;
+        }
+    }
+
+    private static class FakeDetaineeRepository implements DetaineeRepository {
+        private final Map<UUID, Detainee> detainees = new HashMap<>();
+
+        @Override
+        public void save(Detainee detainee) {
+            detainees.put(detainee.getId(), detainee);
+        }
+
+        @Override
+        public Optional<Detainee> findById(UUID id) {
+            return Optional.ofNullable(detainees.get(id));
+        }
+
+        @Override
+        public List<Detainee> findByNameContaining(String name) {
+            return detainees.values().stream()
+                    .filter(detainee -> detainee.getName().contains(name))
+                    .toList();
+        }
+
+        @Override
+        public List<Detainee> findByCrime(String crime) {
+            return detainees.values().stream()
+                    .filter(detainee -> detainee.getCrime().equals(crime))
+                    .toList();
+        }
+
+        @Override
+        public List<Detainee> findAll() {
+            return new ArrayList<>(detainees.values());
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            detainees.remove(id);
+        }
+    }
+}
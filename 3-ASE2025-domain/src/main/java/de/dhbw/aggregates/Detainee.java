@@ -10,11 +10,22 @@ public class Detainee {
     private final String crime;
 
     public Detainee(String name, String crime) {
-        this.id = UUID.randomUUID();
+        this(UUID.randomUUID(), name, crime);
+    }
+
+    private Detainee(UUID id, String name, String crime) {
+        this.id = Objects.requireNonNull(id);
         this.name = Objects.requireNonNull(name);
         this.crime = Objects.requireNonNull(crime);
     }
 
+    /**
+     * Restores a persisted detainee with its existing id.
+     */
+    public static Detainee restore(UUID id, String name, String crime) {
+        return new Detainee(id, name, crime);
+    }
+
     public UUID getId() {
         return id;
     }
@@ -2,28 +2,56 @@ package de.dhbw.aggregates;
 
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
 
 public class Interrogation {
+    /**
+     * Duration of interrogations scheduled without one, and of interrogations persisted before
+     * durations were recorded.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
 
     private final UUID id;
     private final Officer officer;
     private final Detainee detainee;
     private final Room room;
     private final LocalDateTime scheduledAt;
+    private final Duration duration;
 
     public Interrogation(Officer officer, Detainee detainee, Room room, LocalDateTime scheduledAt) {
+        this(officer, detainee, room, scheduledAt, DEFAULT_DURATION);
+    }
+
+    public Interrogation(Officer officer, Detainee detainee, Room room, LocalDateTime scheduledAt, Duration duration) {
+        this(UUID.randomUUID(), officer, detainee, room, scheduledAt, duration);
+    }
+
+    private Interrogation(UUID id, Officer officer, Detainee detainee, Room room, LocalDateTime scheduledAt,
+                          Duration duration) {
         if (room.getType() != RoomType.INTERROGATION) {
             throw new IllegalArgumentException("Room must be of type INTERROGATION.");
         }
+        if (Objects.requireNonNull(duration).isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
 
-        this.id = UUID.randomUUID();
+        this.id = Objects.requireNonNull(id);
         this.officer = Objects.requireNonNull(officer);
         this.detainee = Objects.requireNonNull(detainee);
         this.room = Objects.requireNonNull(room);
         this.scheduledAt = Objects.requireNonNull(scheduledAt);
+        this.duration = duration;
+    }
+
+    /**
+     * Restores a persisted interrogation with its existing id.
+     */
+    public static Interrogation restore(UUID id, Officer officer, Detainee detainee, Room room, LocalDateTime scheduledAt,
+                                        Duration duration) {
+        return new Interrogation(id, officer, detainee, room, scheduledAt, duration);
     }
 
     public UUID getId() {
@@ -45,5 +73,28 @@ public class Interrogation {
     public LocalDateTime getScheduledAt() {
         return scheduledAt;
     }
-}
 
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the end of the interrogation.
+     *
+     * @return The exclusive end time
+     */
+    public LocalDateTime getEndsAt() {
+        return scheduledAt.plus(duration);
+    }
+
+    /**
+     * Checks whether the interrogation overlaps a time span. Sessions that merely touch do not overlap.
+     *
+     * @param start The inclusive start of the span
+     * @param end The exclusive end of the span
+     * @return true if both share at least one moment
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return scheduledAt.isBefore(end) && getEndsAt().isAfter(start);
+    }
+}
@@ -2,6 +2,7 @@ package de.dhbw.aggregates;
 
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -10,22 +11,49 @@ import java.util.UUID;
  * Represents a meeting with an informant or other personnel.
  */
 public class Meeting {
+    /**
+     * Duration of meetings scheduled without one, and of meetings persisted before durations were recorded.
+     */
+    public static final Duration DEFAULT_DURATION = Duration.ofHours(1);
+
     private final UUID id;
     private final Officer officer;
     private final String informantName;
     private final Room room;
     private final LocalDateTime scheduledAt;
+    private final Duration duration;
 
     public Meeting(Officer officer, String informantName, Room room, LocalDateTime scheduledAt) {
+        this(officer, informantName, room, scheduledAt, DEFAULT_DURATION);
+    }
+
+    public Meeting(Officer officer, String informantName, Room room, LocalDateTime scheduledAt, Duration duration) {
+        this(UUID.randomUUID(), officer, informantName, room, scheduledAt, duration);
+    }
+
+    private Meeting(UUID id, Officer officer, String informantName, Room room, LocalDateTime scheduledAt,
+                    Duration duration) {
         if (room.getType() != RoomType.MEETING) {
             throw new IllegalArgumentException("Room must be of type MEETING.");
         }
+        if (Objects.requireNonNull(duration).isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
 
-        this.id = UUID.randomUUID();
+        this.id = Objects.requireNonNull(id);
         this.officer = Objects.requireNonNull(officer);
         this.informantName = Objects.requireNonNull(informantName);
         this.room = Objects.requireNonNull(room);
         this.scheduledAt = Objects.requireNonNull(scheduledAt);
+        this.duration = duration;
+    }
+
+    /**
+     * Restores a persisted meeting with its existing id.
+     */
+    public static Meeting restore(UUID id, Officer officer, String informantName, Room room, LocalDateTime scheduledAt,
+                                  Duration duration) {
+        return new Meeting(id, officer, informantName, room, scheduledAt, duration);
     }
 
     public UUID getId() {
@@ -47,4 +75,28 @@ public class Meeting {
     public LocalDateTime getScheduledAt() {
         return scheduledAt;
     }
-}
\ No newline at end of file
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the end of the meeting.
+     *
+     * @return The exclusive end time
+     */
+    public LocalDateTime getEndsAt() {
+        return scheduledAt.plus(duration);
+    }
+
+    /**
+     * Checks whether the meeting overlaps a time span. Meetings that merely touch it do not overlap.
+     *
+     * @param start The inclusive start of the span
+     * @param end The exclusive end of the span
+     * @return true if both share at least one moment
+     */
+    public boolean overlaps(LocalDateTime start, LocalDateTime end) {
+        return scheduledAt.isBefore(end) && getEndsAt().isAfter(start);
+    }
+}
@@ -12,11 +12,22 @@ public class Officer {
     private Rank rank;
 
     public Officer(String name, Rank rank) {
-        this.id = UUID.randomUUID();
+        this(UUID.randomUUID(), name, rank);
+    }
+
+    private Officer(UUID id, String name, Rank rank) {
+        this.id = Objects.requireNonNull(id);
         this.name = Objects.requireNonNull(name);
         this.rank = Objects.requireNonNull(rank);
     }
 
+    /**
+     * Restores a persisted officer with its existing id.
+     */
+    public static Officer restore(UUID id, String name, Rank rank) {
+        return new Officer(id, name, rank);
+    }
+
     public UUID getId() {
         return id;
     }
@@ -4,18 +4,45 @@ import de.dhbw.valueobjects.RoomType;
 
 import java.util.Objects;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class Room {
+    private static final long BOOKED = 1L;
 
     private final UUID id;
     private final RoomType type;
-    private boolean available = true;
+
+    /**
+     * The booking flag in the lowest bit and the version in the remaining bits, so both change
+     * together with a single compare-and-set. Every booking and release increments the version.
+     * Versions are not persisted, a restored room starts at version 0.
+     */
+    private final AtomicLong state = new AtomicLong();
+
+    /**
+     * The time slots reserved by scheduled sessions. Unlike the booking flag they expire by
+     * themselves once the session is over.
+     */
+    private final RoomCalendar calendar = new RoomCalendar();
 
     public Room(RoomType type) {
-        this.id = UUID.randomUUID();
+        this(UUID.randomUUID(), type);
+    }
+
+    private Room(UUID id, RoomType type) {
+        this.id = Objects.requireNonNull(id);
         this.type = type;
     }
 
+    /**
+     * Restores a persisted room with its existing id and availability.
+     */
+    public static Room restore(UUID id, RoomType type, boolean available) {
+        Room room = new Room(id, type);
+        room.state.set(available ? 0L : BOOKED);
+        return room;
+    }
+
     public UUID getId() {
         return id;
     }
@@ -24,17 +51,71 @@ public class Room {
         return type;
     }
 
+    /**
+     * Gets the calendar of the time slots reserved for sessions in this room.
+     *
+     * @return The calendar
+     */
+    public RoomCalendar getCalendar() {
+        return calendar;
+    }
+
     public boolean isAvailable() {
-        return available;
+        return (state.get() & BOOKED) == 0;
+    }
+
+    /**
+     * Gets the version of the booking state, which increases with every booking and release.
+     *
+     * @return The current version
+     */
+    public long getVersion() {
+        return state.get() >>> 1;
     }
 
     public void book() {
-        if (!available) throw new IllegalStateException("Room is already booked.");
-        this.available = false;
+        if (!tryBook()) throw new IllegalStateException("Room is already booked.");
+    }
+
+    /**
+     * Books the room if it is available, without locking.
+     *
+     * @return true if this call booked the room, false if it was already booked
+     */
+    public boolean tryBook() {
+        long current = state.get();
+        while ((current & BOOKED) == 0) {
+            if (state.compareAndSet(current, next(current, BOOKED))) {
+                return true;
+            }
+            current = state.get();
+        }
+        return false;
+    }
+
+    /**
+     * Books the room only if it is still available at the given version.
+     * Fails if the room was booked or released in the meantime, so the caller can re-check and retry.
+     *
+     * @param expectedVersion The version the caller read while the room was available
+     * @return true if this call booked the room
+     */
+    public boolean tryBook(long expectedVersion) {
+        return state.compareAndSet(expectedVersion << 1, next(expectedVersion << 1, BOOKED));
     }
 
     public void release() {
-        this.available = true;
+        long current = state.get();
+        while ((current & BOOKED) != 0) {
+            if (state.compareAndSet(current, next(current, 0L))) {
+                return;
+            }
+            current = state.get();
+        }
+    }
+
+    private static long next(long current, long booked) {
+        return (((current >>> 1) + 1) << 1) | booked;
     }
 
     @Override
@@ -0,0 +1,283 @@
+package de.dhbw.aggregates;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Occupancy of a room, kept as one bitmap of 15-minute slots per day.
+ * <p>
+ * A day has 96 slots, stored in two {@code long} words; bit {@code i} is set while slot {@code i}
+ * is reserved. A span occupies every slot it touches, so a session from 10:05 to 10:50 reserves
+ * 10:00 to 11:00. Checking or reserving a span costs a map lookup and a masked word operation per
+ * 64 slots, however many sessions the room has had. Days without reservations are not stored.
+ * All methods are synchronized, so a reservation checks and claims its slots atomically.
+ */
+public class RoomCalendar {
+    public static final Duration SLOT_LENGTH = Duration.ofMinutes(15);
+    public static final int SLOTS_PER_DAY = 96;
+    public static final int WORDS_PER_DAY = (SLOTS_PER_DAY + Long.SIZE - 1) / Long.SIZE;
+
+    private static final long SLOT_NANOS = SLOT_LENGTH.toNanos();
+
+    private final NavigableMap<LocalDate, long[]> days = new TreeMap<>();
+
+    /**
+     * Checks whether all slots touched by a span are free.
+     *
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @return true if the span can be reserved
+     * @throws IllegalArgumentException If start is not before end
+     */
+    public synchronized boolean isFree(LocalDateTime start, LocalDateTime end) {
+        return new SlotRange(start, end).firstReserved() == null;
+    }
+
+    /**
+     * Reserves all slots touched by a span if none of them is reserved yet.
+     *
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @return true if the span was reserved, false if any of its slots was taken
+     * @throws IllegalArgumentException If start is not before end
+     */
+    public synchronized boolean tryReserve(LocalDateTime start, LocalDateTime end) {
+        SlotRange range = new SlotRange(start, end);
+        if (range.firstReserved() != null) {
+            return false;
+        }
+        range.set(true);
+        return true;
+    }
+
+    /**
+     * Reserves all slots touched by a span, including those reserved already, e.g. when the sessions
+     * of a room are restored into its calendar.
+     *
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @return true if any of the slots was free before
+     * @throws IllegalArgumentException If start is not before end
+     */
+    public synchronized boolean reserve(LocalDateTime start, LocalDateTime end) {
+        return new SlotRange(start, end).set(true);
+    }
+
+    /**
+     * Frees all slots touched by a span, e.g. when a session is cancelled.
+     *
+     * @param start The inclusive start
+     * @param end The exclusive end
+     * @throws IllegalArgumentException If start is not before end
+     */
+    public synchronized void release(LocalDateTime start, LocalDateTime end) {
+        new SlotRange(start, end).set(false);
+    }
+
+    /**
+     * Finds the earliest slot boundary at or after a time from which a span of the given length is free.
+     *
+     * @param from The earliest start; it is rounded up to the next slot boundary
+     * @param length The length of the span
+     * @param latestStart The latest start to consider
+     * @return The earliest possible start, or null if none is free up to the limit
+     */
+    public synchronized LocalDateTime findFirstFree(LocalDateTime from, Duration length, LocalDateTime latestStart) {
+        LocalDateTime start = ceilToSlot(from);
+        while (!start.isAfter(latestStart)) {
+            LocalDateTime end = start.plus(length);
+            LocalDateTime taken = new SlotRange(start, end).firstReserved();
+            if (taken == null) {
+                return start;
+            }
+            // Every start up to the taken slot would overlap it, so skip to the next free slot
+            start = firstFreeSlotFrom(taken);
+        }
+        return null;
+    }
+
+    /**
+     * Drops the reservations of all days before a day, which no span can be checked against anymore.
+     *
+     * @param day The first day to keep
+     */
+    public synchronized void pruneBefore(LocalDate day) {
+        days.headMap(day).clear();
+    }
+
+    /**
+     * Gets the bitmaps of all days with reservations, for persistence.
+     *
+     * @return Copies of the words per day, ordered by day
+     */
+    public synchronized Map<LocalDate, long[]> getDays() {
+        Map<LocalDate, long[]> copy = new LinkedHashMap<>();
+        for (Map.Entry<LocalDate, long[]> day : days.entrySet()) {
+            copy.put(day.getKey(), day.getValue().clone());
+        }
+        return copy;
+    }
+
+    /**
+     * Restores the bitmap of a persisted day, replacing any reservations of that day.
+     *
+     * @param day The day
+     * @param words The words as returned by {@link #getDays()}
+     * @throws IllegalArgumentException If the number of words does not match a day
+     */
+    public synchronized void restoreDay(LocalDate day, long[] words) {
+        if (words.length != WORDS_PER_DAY) {
+            throw new IllegalArgumentException("A day needs " + WORDS_PER_DAY + " words, got " + words.length);
+        }
+        if (isEmpty(words)) {
+            days.remove(day);
+        } else {
+            days.put(Objects.requireNonNull(day), words.clone());
+        }
+    }
+
+    /**
+     * Gets the start of the first free slot at or after a slot boundary, skipping whole runs of
+     * reserved slots by searching the inverted words.
+     */
+    private LocalDateTime firstFreeSlotFrom(LocalDateTime slotStart) {
+        LocalDate day = slotStart.toLocalDate();
+        int slot = (int) (slotStart.toLocalTime().toNanoOfDay() / SLOT_NANOS);
+        while (true) {
+            long[] words = days.get(day);
+            if (words == null) {
+                return day.atStartOfDay().plus(SLOT_LENGTH.multipliedBy(slot));
+            }
+            for (int word = slot / Long.SIZE; word < WORDS_PER_DAY; word++) {
+                long free = ~words[word] & mask(word, slot, SLOTS_PER_DAY);
+                if (free != 0) {
+                    int found = word * Long.SIZE + Long.numberOfTrailingZeros(free);
+                    return day.atStartOfDay().plus(SLOT_LENGTH.multipliedBy(found));
+                }
+            }
+            day = day.plusDays(1);
+            slot = 0;
+        }
+    }
+
+    private static LocalDateTime ceilToSlot(LocalDateTime time) {
+        long nanos = time.toLocalTime().toNanoOfDay();
+        long rounded = (nanos + SLOT_NANOS - 1) / SLOT_NANOS * SLOT_NANOS;
+        return time.toLocalDate().atStartOfDay().plusNanos(rounded);
+    }
+
+    /**
+     * Gets the bits of a word that lie in the slots {@code [from, to)} of a day.
+     */
+    private static long mask(int word, int from, int to) {
+        int low = Math.max(from - word * Long.SIZE, 0);
+        int high = Math.min(to - word * Long.SIZE, Long.SIZE);
+        long upTo = high == Long.SIZE ? -1L : (1L << high) - 1;
+        return upTo & (-1L << low);
+    }
+
+    private static boolean isEmpty(long[] words) {
+        for (long word : words) {
+            if (word != 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * The slots touched by a span, which may cross midnight.
+     */
+    private class SlotRange {
+        private final LocalDate firstDay;
+        private final int firstSlot;
+        private final LocalDate lastDay;
+        private final int lastSlotEnd;
+
+        private SlotRange(LocalDateTime start, LocalDateTime end) {
+            if (!Objects.requireNonNull(start).isBefore(Objects.requireNonNull(end))) {
+                throw new IllegalArgumentException("Start must be before end.");
+            }
+            this.firstDay = start.toLocalDate();
+            this.firstSlot = (int) (start.toLocalTime().toNanoOfDay() / SLOT_NANOS);
+
+            long endNanos = end.toLocalTime().toNanoOfDay();
+            if (endNanos == 0) {
+                // Ending at midnight fills the previous day
+                this.lastDay = end.toLocalDate().minusDays(1);
+                this.lastSlotEnd = SLOTS_PER_DAY;
+            } else {
+                this.lastDay = end.toLocalDate();
+                this.lastSlotEnd = (int) ((endNanos + SLOT_NANOS - 1) / SLOT_NANOS);
+            }
+        }
+
+        private int fromSlot(LocalDate day) {
+            return day.equals(firstDay) ? firstSlot : 0;
+        }
+
+        private int toSlot(LocalDate day) {
+            return day.equals(lastDay) ? lastSlotEnd : SLOTS_PER_DAY;
+        }
+
+        /**
+         * Gets the start of the first reserved slot, or null if all slots are free.
+         */
+        private LocalDateTime firstReserved() {
+            for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                long[] words = days.get(day);
+                if (words == null) {
+                    continue;
+                }
+                int from = fromSlot(day);
+                int to = toSlot(day);
+                for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+                    long taken = words[word] & mask(word, from, to);
+                    if (taken != 0) {
+                        int slot = word * Long.SIZE + Long.numberOfTrailingZeros(taken);
+                        return day.atStartOfDay().plus(SLOT_LENGTH.multipliedBy(slot));
+                    }
+                }
+            }
+            return null;
+        }
+
+        /**
+         * Sets or clears all slots, returning whether any of them changed.
+         */
+        private boolean set(boolean reserved) {
+            boolean changed = false;
+            for (LocalDate day = firstDay; !day.isAfter(lastDay); day = day.plusDays(1)) {
+                long[] words = days.get(day);
+                if (words == null) {
+                    if (!reserved) {
+                        continue;
+                    }
+                    words = new long[WORDS_PER_DAY];
+                    days.put(day, words);
+                }
+                int from = fromSlot(day);
+                int to = toSlot(day);
+                for (int word = from / Long.SIZE; word <= (to - 1) / Long.SIZE; word++) {
+                    long before = words[word];
+                    if (reserved) {
+                        words[word] |= mask(word, from, to);
+                    } else {
+                        words[word] &= ~mask(word, from, to);
+                    }
+                    changed |= words[word] != before;
+                }
+                if (!reserved && RoomCalendar.isEmpty(words)) {
+                    days.remove(day);
+                }
+            }
+            return changed;
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package de.dhbw.repositories;
 
 import de.dhbw.aggregates.Detainee;
+import de.dhbw.valueobjects.PageRequest;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Detainee entities.
@@ -18,6 +21,17 @@ public interface DetaineeRepository {
      */
     void save(Detainee detainee);
 
+    /**
+     * Saves or updates several detainees at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param detainees The detainees to be persisted.
+     */
+    default void saveAll(Collection<Detainee> detainees) {
+        for (Detainee detainee : detainees) {
+            save(detainee);
+        }
+    }
+
     /**
      * Finds a detainee by their unique identifier.
      * @param id UUID of the detainee.
@@ -25,6 +39,23 @@ public interface DetaineeRepository {
      */
     Optional<Detainee> findById(UUID id);
 
+    /**
+     * Checks whether a detainee with the given ID exists, without loading it.
+     * @param id UUID of the detainee.
+     * @return true if the detainee exists, false otherwise.
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Counts the registered detainees.
+     * @return Number of detainees.
+     */
+    default long count() {
+        return streamAll().count();
+    }
+
     /**
      * Find detainees by name (partial match).
      * @param name The name or part of the name to search for.
@@ -45,9 +76,42 @@ public interface DetaineeRepository {
      */
     List<Detainee> findAll();
 
+    /**
+     * Streams all registered detainees without copying them into a list.
+     * The stream has to be consumed before the repository is modified.
+     * @return Stream of detainees.
+     */
+    default Stream<Detainee> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns one page of registered detainees.
+     * The order is stable as long as the repository is not modified.
+     * @param page The page to return.
+     * @return List of detainees on the page, empty if the page lies beyond the last entry.
+     */
+    default List<Detainee> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     /**
      * Deletes a detainee by ID.
      * @param id UUID of the detainee to delete.
      */
     void deleteById(UUID id);
+
+    /**
+     * Deletes several detainees by ID at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param ids UUIDs of the detainees to delete.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
 }
\ No newline at end of file
@@ -1,12 +1,17 @@
 package de.dhbw.repositories;
 
 import de.dhbw.aggregates.Interrogation;
+import de.dhbw.valueobjects.InterrogationCriteria;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Interrogation entities.
@@ -20,6 +25,17 @@ public interface InterrogationRepository {
      */
     void save(Interrogation interrogation);
 
+    /**
+     * Saves or updates several interrogations at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param interrogations The interrogations to be persisted.
+     */
+    default void saveAll(Collection<Interrogation> interrogations) {
+        for (Interrogation interrogation : interrogations) {
+            save(interrogation);
+        }
+    }
+
     /**
      * Finds an interrogation by its unique identifier.
      * @param id UUID of the interrogation.
@@ -27,12 +43,51 @@ public interface InterrogationRepository {
      */
     Optional<Interrogation> findById(UUID id);
 
+    /**
+     * Checks whether a interrogation with the given ID exists, without loading it.
+     * @param id UUID of the interrogation.
+     * @return true if the interrogation exists, false otherwise.
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Counts the scheduled interrogations.
+     * @return Number of interrogations.
+     */
+    default long count() {
+        return streamAll().count();
+    }
+
     /**
      * Returns all scheduled interrogations.
      * @return List of interrogations.
      */
     List<Interrogation> findAll();
 
+    /**
+     * Streams all scheduled interrogations without copying them into a list.
+     * The stream has to be consumed before the repository is modified.
+     * @return Stream of interrogations.
+     */
+    default Stream<Interrogation> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns one page of scheduled interrogations.
+     * The order is stable as long as the repository is not modified.
+     * @param page The page to return.
+     * @return List of interrogations on the page, empty if the page lies beyond the last entry.
+     */
+    default List<Interrogation> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     /**
      * Finds all interrogations conducted by a specific officer.
      * @param officerId UUID of the officer.
@@ -40,6 +95,15 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findByOfficerId(UUID officerId);
 
+    /**
+     * Counts the interrogations of a specific officer.
+     * @param officerId UUID of the officer.
+     * @return Number of interrogations of the officer.
+     */
+    default long countByOfficerId(UUID officerId) {
+        return findByOfficerId(officerId).size();
+    }
+
     /**
      * Finds all interrogations of a specific detainee.
      * @param detaineeId UUID of the detainee.
@@ -47,6 +111,15 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findByDetaineeId(UUID detaineeId);
 
+    /**
+     * Counts the interrogations of a specific detainee.
+     * @param detaineeId UUID of the detainee.
+     * @return Number of interrogations of the detainee.
+     */
+    default long countByDetaineeId(UUID detaineeId) {
+        return findByDetaineeId(detaineeId).size();
+    }
+
     /**
      * Finds all interrogations scheduled in a specific room.
      * @param roomId UUID of the room.
@@ -54,6 +127,67 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findByRoomId(UUID roomId);
 
+    /**
+     * Counts the interrogations of a specific room.
+     * @param roomId UUID of the room.
+     * @return Number of interrogations of the room.
+     */
+    default long countByRoomId(UUID roomId) {
+        return findByRoomId(roomId).size();
+    }
+
+    /**
+     * Finds the interrogations of an officer that overlap a time span.
+     * @param officerId UUID of the officer.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return List of overlapping interrogations, sorted by start time.
+     */
+    default List<Interrogation> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByOfficerId(officerId).stream()
+                .filter(interrogation -> interrogation.overlaps(start, end))
+                .sorted(Comparator.comparing(Interrogation::getScheduledAt))
+                .toList();
+    }
+
+    /**
+     * Checks whether an officer has an interrogation overlapping a time span.
+     * @param officerId UUID of the officer.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return true if the officer is busy during the span.
+     */
+    default boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByOfficerId(officerId).stream()
+                .anyMatch(interrogation -> interrogation.overlaps(start, end));
+    }
+
+    /**
+     * Finds the interrogations of a detainee that overlap a time span.
+     * @param detaineeId UUID of the detainee.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return List of overlapping interrogations, sorted by start time.
+     */
+    default List<Interrogation> findOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return findByDetaineeId(detaineeId).stream()
+                .filter(interrogation -> interrogation.overlaps(start, end))
+                .sorted(Comparator.comparing(Interrogation::getScheduledAt))
+                .toList();
+    }
+
+    /**
+     * Checks whether a detainee has an interrogation overlapping a time span.
+     * @param detaineeId UUID of the detainee.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return true if the detainee is busy during the span.
+     */
+    default boolean existsOverlappingByDetaineeId(UUID detaineeId, LocalDateTime start, LocalDateTime end) {
+        return findByDetaineeId(detaineeId).stream()
+                .anyMatch(interrogation -> interrogation.overlaps(start, end));
+    }
+
     /**
      * Finds all interrogations scheduled on a specific date.
      * @param date The date to search for.
@@ -67,6 +201,17 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findUpcoming();
 
+    /**
+     * Finds all interrogations that are not over at a time, including those already running.
+     * @param time The time to check.
+     * @return List of interrogations ending after the time.
+     */
+    default List<Interrogation> findEndingAfter(LocalDateTime time) {
+        return streamAll()
+                .filter(interrogation -> interrogation.getEndsAt().isAfter(time))
+                .toList();
+    }
+
     /**
      * Finds all interrogations scheduled within a time range.
      * @param start Start of the time range.
@@ -75,9 +220,41 @@ public interface InterrogationRepository {
      */
     List<Interrogation> findByTimeRange(LocalDateTime start, LocalDateTime end);
 
+    /**
+     * Finds all interrogations matching the given criteria.
+     * @param criteria The filters to apply.
+     * @return List of matching interrogations, sorted by scheduled time.
+     */
+    default List<Interrogation> findMatching(InterrogationCriteria criteria) {
+        return streamAll()
+                .filter(criteria::matches)
+                .sorted(Comparator.comparing(Interrogation::getScheduledAt))
+                .toList();
+    }
+
+    /**
+     * Describes how {@link #findMatching} evaluates the given criteria.
+     * @param criteria The filters to apply.
+     * @return A readable description of the query plan.
+     */
+    default String explain(InterrogationCriteria criteria) {
+        return "full scan of " + count() + " interrogations";
+    }
+
     /**
      * Deletes an interrogation by ID.
      * @param id UUID of the interrogation to delete.
      */
     void deleteById(UUID id);
+
+    /**
+     * Deletes several interrogations by ID at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param ids UUIDs of the interrogations to delete.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
 }
\ No newline at end of file
@@ -1,11 +1,16 @@
 package de.dhbw.repositories;
 
 import de.dhbw.aggregates.Meeting;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Meeting entities.
@@ -17,6 +22,17 @@ public interface MeetingRepository {
      */
     void save(Meeting meeting);
 
+    /**
+     * Saves or updates several meetings at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param meetings The meetings to be persisted.
+     */
+    default void saveAll(Collection<Meeting> meetings) {
+        for (Meeting meeting : meetings) {
+            save(meeting);
+        }
+    }
+
     /**
      * Finds a meeting by its unique identifier.
      * @param id UUID of the meeting.
@@ -24,12 +40,51 @@ public interface MeetingRepository {
      */
     Optional<Meeting> findById(UUID id);
 
+    /**
+     * Checks whether a meeting with the given ID exists, without loading it.
+     * @param id UUID of the meeting.
+     * @return true if the meeting exists, false otherwise.
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Counts the scheduled meetings.
+     * @return Number of meetings.
+     */
+    default long count() {
+        return streamAll().count();
+    }
+
     /**
      * Returns all scheduled meetings.
      * @return List of meetings.
      */
     List<Meeting> findAll();
 
+    /**
+     * Streams all scheduled meetings without copying them into a list.
+     * The stream has to be consumed before the repository is modified.
+     * @return Stream of meetings.
+     */
+    default Stream<Meeting> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns one page of scheduled meetings.
+     * The order is stable as long as the repository is not modified.
+     * @param page The page to return.
+     * @return List of meetings on the page, empty if the page lies beyond the last entry.
+     */
+    default List<Meeting> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     /**
      * Finds all meetings conducted by a specific officer.
      * @param officerId UUID of the officer.
@@ -37,6 +92,15 @@ public interface MeetingRepository {
      */
     List<Meeting> findByOfficerId(UUID officerId);
 
+    /**
+     * Counts the meetings of a specific officer.
+     * @param officerId UUID of the officer.
+     * @return Number of meetings of the officer.
+     */
+    default long countByOfficerId(UUID officerId) {
+        return findByOfficerId(officerId).size();
+    }
+
     /**
      * Finds all meetings scheduled in a specific room.
      * @param roomId UUID of the room.
@@ -44,6 +108,41 @@ public interface MeetingRepository {
      */
     List<Meeting> findByRoomId(UUID roomId);
 
+    /**
+     * Counts the meetings of a specific room.
+     * @param roomId UUID of the room.
+     * @return Number of meetings of the room.
+     */
+    default long countByRoomId(UUID roomId) {
+        return findByRoomId(roomId).size();
+    }
+
+    /**
+     * Finds the meetings of an officer that overlap a time span.
+     * @param officerId UUID of the officer.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return List of overlapping meetings, sorted by start time.
+     */
+    default List<Meeting> findOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByOfficerId(officerId).stream()
+                .filter(meeting -> meeting.overlaps(start, end))
+                .sorted(Comparator.comparing(Meeting::getScheduledAt))
+                .toList();
+    }
+
+    /**
+     * Checks whether an officer has a meeting overlapping a time span.
+     * @param officerId UUID of the officer.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return true if the officer is busy during the span.
+     */
+    default boolean existsOverlappingByOfficerId(UUID officerId, LocalDateTime start, LocalDateTime end) {
+        return findByOfficerId(officerId).stream()
+                .anyMatch(meeting -> meeting.overlaps(start, end));
+    }
+
     /**
      * Finds all meetings scheduled on a specific date.
      * @param date The date to search for.
@@ -57,9 +156,31 @@ public interface MeetingRepository {
      */
     List<Meeting> findUpcoming();
 
+    /**
+     * Finds all meetings that are not over at a time, including those already running.
+     * @param time The time to check.
+     * @return List of meetings ending after the time.
+     */
+    default List<Meeting> findEndingAfter(LocalDateTime time) {
+        return streamAll()
+                .filter(meeting -> meeting.getEndsAt().isAfter(time))
+                .toList();
+    }
+
     /**
      * Deletes a meeting by ID.
      * @param id UUID of the meeting to delete.
      */
     void deleteById(UUID id);
+
+    /**
+     * Deletes several meetings by ID at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param ids UUIDs of the meetings to delete.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
 }
\ No newline at end of file
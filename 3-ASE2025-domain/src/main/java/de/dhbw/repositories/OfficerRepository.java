@@ -1,10 +1,14 @@
 package de.dhbw.repositories;
 
 import de.dhbw.aggregates.Officer;
+import de.dhbw.valueobjects.PageRequest;
+import de.dhbw.valueobjects.Rank;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Officer entities.
@@ -18,6 +22,17 @@ public interface OfficerRepository {
      */
     void save(Officer officer);
 
+    /**
+     * Saves or updates several officers at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param officers The officers to be persisted.
+     */
+    default void saveAll(Collection<Officer> officers) {
+        for (Officer officer : officers) {
+            save(officer);
+        }
+    }
+
     /**
      * Finds an officer by their unique identifier.
      * @param id UUID of the officer.
@@ -25,16 +40,78 @@ public interface OfficerRepository {
      */
     Optional<Officer> findById(UUID id);
 
+    /**
+     * Checks whether a officer with the given ID exists, without loading it.
+     * @param id UUID of the officer.
+     * @return true if the officer exists, false otherwise.
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Counts the registered officers.
+     * @return Number of officers.
+     */
+    default long count() {
+        return streamAll().count();
+    }
+
     /**
      * Returns all registered officers.
      * @return List of officers.
      */
     List<Officer> findAll();
 
+    /**
+     * Streams all registered officers without copying them into a list.
+     * The stream has to be consumed before the repository is modified.
+     * @return Stream of officers.
+     */
+    default Stream<Officer> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns one page of registered officers.
+     * The order is stable as long as the repository is not modified.
+     * @param page The page to return.
+     * @return List of officers on the page, empty if the page lies beyond the last entry.
+     */
+    default List<Officer> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
+    /**
+     * Finds all officers with a rank equal to or higher than the given rank.
+     * Ranks are compared by level, changed ranks are taken into account once the officer is saved.
+     * @param minimumRank The minimum rank.
+     * @return List of officers with at least the given rank.
+     */
+    default List<Officer> findByMinimumRank(Rank minimumRank) {
+        return findAll().stream()
+                .filter(officer -> officer.getRank().compareTo(minimumRank) >= 0)
+                .toList();
+    }
+
     /**
      * Deletes an officer by ID.
      * @param id UUID of the officer to delete.
      */
     void deleteById(UUID id);
+
+    /**
+     * Deletes several officers by ID at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param ids UUIDs of the officers to delete.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
 }
 
@@ -1,11 +1,15 @@
 package de.dhbw.repositories;
 
 import de.dhbw.aggregates.Room;
+import de.dhbw.valueobjects.PageRequest;
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for accessing Room entities.
@@ -19,6 +23,33 @@ public interface RoomRepository {
      */
     void save(Room room);
 
+    /**
+     * Saves or updates several rooms at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param rooms The rooms to be persisted.
+     */
+    default void saveAll(Collection<Room> rooms) {
+        for (Room room : rooms) {
+            save(room);
+        }
+    }
+
+    /**
+     * Saves a room unless its booking state changed again after the given version.
+     * Whoever made the later change saves the room in turn, so skipping this write loses nothing.
+     * Implementations should check and save atomically, this default does not.
+     * @param room The room to be persisted.
+     * @param version The version produced by the caller's change.
+     * @return true if the room was saved, false if the write was superseded.
+     */
+    default boolean saveIfUnchanged(Room room, long version) {
+        if (room.getVersion() != version) {
+            return false;
+        }
+        save(room);
+        return true;
+    }
+
     /**
      * Finds a room by its unique identifier.
      * @param id UUID of the room.
@@ -26,12 +57,51 @@ public interface RoomRepository {
      */
     Optional<Room> findById(UUID id);
 
+    /**
+     * Checks whether a room with the given ID exists, without loading it.
+     * @param id UUID of the room.
+     * @return true if the room exists, false otherwise.
+     */
+    default boolean existsById(UUID id) {
+        return findById(id).isPresent();
+    }
+
+    /**
+     * Counts the registered rooms.
+     * @return Number of rooms.
+     */
+    default long count() {
+        return streamAll().count();
+    }
+
     /**
      * Returns all registered rooms.
      * @return List of rooms.
      */
     List<Room> findAll();
 
+    /**
+     * Streams all registered rooms without copying them into a list.
+     * The stream has to be consumed before the repository is modified.
+     * @return Stream of rooms.
+     */
+    default Stream<Room> streamAll() {
+        return findAll().stream();
+    }
+
+    /**
+     * Returns one page of registered rooms.
+     * The order is stable as long as the repository is not modified.
+     * @param page The page to return.
+     * @return List of rooms on the page, empty if the page lies beyond the last entry.
+     */
+    default List<Room> findPage(PageRequest page) {
+        return streamAll()
+                .skip(page.getOffset())
+                .limit(page.getLimit())
+                .toList();
+    }
+
     /**
      * Finds all rooms of a specific type.
      * @param type The room type to search for.
@@ -39,6 +109,15 @@ public interface RoomRepository {
      */
     List<Room> findByType(RoomType type);
 
+    /**
+     * Counts the rooms of a specific type.
+     * @param type The room type to count.
+     * @return Number of rooms of the given type.
+     */
+    default long countByType(RoomType type) {
+        return findByType(type).size();
+    }
+
     /**
      * Finds all available rooms.
      * @return List of available rooms.
@@ -52,9 +131,103 @@ public interface RoomRepository {
      */
     List<Room> findAvailableByType(RoomType type);
 
+    /**
+     * Counts the available rooms of a specific type.
+     * @param type The room type to count.
+     * @return Number of available rooms of the given type.
+     */
+    default long countAvailableByType(RoomType type) {
+        return findAvailableByType(type).size();
+    }
+
+    /**
+     * Finds all booked rooms.
+     * @return List of booked rooms.
+     */
+    default List<Room> findBooked() {
+        return streamAll()
+                .filter(room -> !room.isAvailable())
+                .toList();
+    }
+
+    /**
+     * Counts all booked rooms.
+     * @return Number of booked rooms.
+     */
+    default long countBooked() {
+        return findBooked().size();
+    }
+
+    /**
+     * Books an available room of a specific type and saves it.
+     * Implementations should claim the room from a pool of available rooms atomically and in constant time.
+     * @param type The room type to book.
+     * @return The booked room, or empty if no room of the type is available.
+     */
+    default Optional<Room> allocate(RoomType type) {
+        for (Room room : findAvailableByType(type)) {
+            if (room.tryBook()) {
+                save(room);
+                return Optional.of(room);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Books a room if it is still available at the given version and saves it.
+     * Bookings go through the repository so that it can track which rooms are available.
+     * Implementations should book and save atomically.
+     * @param room The room to book.
+     * @param version The version the caller read while the room was available.
+     * @return true if the room was booked and saved, false if it changed in the meantime.
+     */
+    default boolean book(Room room, long version) {
+        return room.tryBook(version) && saveIfUnchanged(room, version + 1);
+    }
+
+    /**
+     * Releases a room and saves it.
+     * Releases go through the repository so that it can track which rooms are available.
+     * @param room The room to release.
+     */
+    default void release(Room room) {
+        room.release();
+        save(room);
+    }
+
+    /**
+     * Reserves the time slots of a span in the first available room of a specific type that is free
+     * during the span, and saves the room. The room stays available for other spans.
+     * @param type The room type to reserve.
+     * @param start The inclusive start of the span.
+     * @param end The exclusive end of the span.
+     * @return The reserved room, or empty if no room of the type is free during the span.
+     */
+    default Optional<Room> reserve(RoomType type, LocalDateTime start, LocalDateTime end) {
+        for (Room room : findAvailableByType(type)) {
+            if (room.getCalendar().tryReserve(start, end)) {
+                save(room);
+                return Optional.of(room);
+            }
+        }
+        return Optional.empty();
+    }
+
     /**
      * Deletes a room by ID.
      * @param id UUID of the room to delete.
      */
     void deleteById(UUID id);
+
+    /**
+     * Deletes several rooms by ID at once.
+     * Implementations should persist the whole batch with a single write.
+     * @param ids UUIDs of the rooms to delete.
+     */
+    default void deleteAllById(Collection<UUID> ids) {
+        for (UUID id : ids) {
+            deleteById(id);
+        }
+    }
 }
@@ -2,10 +2,12 @@ package de.dhbw.services;
 
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.valueobjects.PageRequest;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Domain service handling operations related to detainees.
@@ -30,6 +32,17 @@ public class DetaineeService {
         return detainee;
     }
 
+    /**
+     * Registers several new detainees with a single repository write.
+     *
+     * @param detainees The new detainees
+     * @return The registered detainees
+     */
+    public List<Detainee> registerDetainees(List<Detainee> detainees) {
+        detaineeRepository.saveAll(detainees);
+        return detainees;
+    }
+
     /**
      * Searches for detainees by name.
      *
@@ -71,6 +84,25 @@ public class DetaineeService {
         return detaineeRepository.findAll();
     }
 
+    /**
+     * Streams all detainees registered in the system without copying them.
+     *
+     * @return Stream of all detainees
+     */
+    public Stream<Detainee> streamAllDetainees() {
+        return detaineeRepository.streamAll();
+    }
+
+    /**
+     * Retrieves one page of the detainees registered in the system.
+     *
+     * @param page The page to retrieve
+     * @return List of the detainees on the page
+     */
+    public List<Detainee> getDetaineePage(PageRequest page) {
+        return detaineeRepository.findPage(page);
+    }
+
     /**
      * Releases a detainee from the system.
      *
@@ -79,7 +111,7 @@ public class DetaineeService {
      */
     public void releaseDetainee(UUID detaineeId) {
         // Verify the detainee exists before attempting to delete
-        if (!detaineeRepository.findById(detaineeId).isPresent()) {
+        if (!detaineeRepository.existsById(detaineeId)) {
             throw new IllegalArgumentException("Detainee not found");
         }
 
@@ -8,12 +8,21 @@ import de.dhbw.valueobjects.InterrogationRequest;
 import de.dhbw.valueobjects.Rank;
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
 import java.util.UUID;
 
 /**
  * Domain service handling operations related to interrogations.
+ * <p>
+ * Scheduling checks the officer's and detainee's schedules, reserves a room and saves the
+ * interrogation in separate repository calls. The service serializes these sequences on its own
+ * monitor, so two concurrent requests cannot both pass the checks before either is saved.
  */
 public class InterrogationService {
     private static final Rank MINIMUM_RANK_FOR_INTERROGATION = new Rank("Sergeant", 3);
@@ -33,11 +42,15 @@ public class InterrogationService {
     /**
      * Schedules an interrogation if all conditions are met.
      * Conditions:
-     * - Officer must be available
-     * - Room must be of type INTERROGATION and available
-     * - No other interrogation in the same room at the same time
+     * - Officer must have sufficient rank and no other interrogation overlapping the requested time
+     * - Detainee must have no other interrogation overlapping the requested time
+     * - Room must be of type INTERROGATION, available and have no reserved slot during that time
+     * The officer's and detainee's overlaps are answered from the repository's schedules, the room's from its calendar.
+     * The room's slots are reserved for the interrogation and free again once it is over.
+     * Requests are scheduled one at a time, so two of them cannot both pass the overlap checks for the same officer
+     * or detainee; the repositories only guard their own calls.
      */
-    public Interrogation scheduleInterrogation(InterrogationRequest request) {
+    public synchronized Interrogation scheduleInterrogation(InterrogationRequest request) {
         Officer officer = officerRepository.findById(request.getOfficerId())
                 .orElseThrow(() -> new IllegalArgumentException("Officer not found"));
 
@@ -46,36 +59,159 @@ public class InterrogationService {
             throw new IllegalStateException("Officer does not have sufficient rank for interrogation");
         }
 
-        // Find an available interrogation room
-        List<Room> availableRooms = roomRepository.findAvailableByType(RoomType.INTERROGATION);
-        if (availableRooms.isEmpty()) {
-            throw new IllegalStateException("No interrogation rooms available");
+        LocalDateTime start = request.getScheduledTime();
+        LocalDateTime end = request.getEndTime();
+
+        // Check if the officer is already busy with another interrogation at that time
+        if (interrogationRepository.existsOverlappingByOfficerId(request.getOfficerId(), start, end)) {
+            throw new IllegalStateException("Officer is already scheduled for another interrogation");
         }
 
-        // Check if the officer is already scheduled for another interrogation
-        List<Interrogation> officerInterrogations =
-                interrogationRepository.findByOfficerId(request.getOfficerId());
+        // Check if the detainee is already being interrogated at that time
+        if (interrogationRepository.existsOverlappingByDetaineeId(request.getDetainee().getId(), start, end)) {
+            throw new IllegalStateException("Detainee is already scheduled for another interrogation");
+        }
 
-        boolean isOfficerAvailable = officerInterrogations.stream()
-                .noneMatch(i -> i.getScheduledAt().equals(request.getScheduledTime()));
+        // Reserve the time slots in an interrogation room that is free at that time
+        Room room = roomRepository.reserve(RoomType.INTERROGATION, start, end)
+                .orElseThrow(() -> new IllegalStateException("No interrogation rooms available"));
 
-        if (!isOfficerAvailable) {
-            throw new IllegalStateException("Officer is already scheduled for another interrogation");
+        // Create the interrogation, freeing the slots again if it cannot be saved
+        try {
+            Interrogation interrogation = new Interrogation(
+                    officer,
+                    request.getDetainee(),
+                    room,
+                    start,
+                    request.getDuration());
+
+            interrogationRepository.save(interrogation);
+
+            return interrogation;
+        } catch (RuntimeException e) {
+            room.getCalendar().release(start, end);
+            roomRepository.save(room);
+            throw e;
+        }
+    }
+
+    /**
+     * Reserves the slots of all interrogations that are not over yet in the calendars of their rooms.
+     * Rooms stored before their calendars were persisted start with empty calendars, so this is run
+     * at startup; only rooms whose calendars changed are saved, and rooms that no longer exist are skipped.
+     */
+    public synchronized void restoreRoomReservations() {
+        Map<UUID, Room> changedRooms = new LinkedHashMap<>();
+        for (Interrogation interrogation : interrogationRepository.findEndingAfter(LocalDateTime.now())) {
+            // Reserve in the stored room, a deleted room must not be saved again
+            Room room = roomRepository.findById(interrogation.getRoom().getId()).orElse(null);
+            if (room != null && room.getCalendar().reserve(interrogation.getScheduledAt(), interrogation.getEndsAt())) {
+                changedRooms.put(room.getId(), room);
+            }
+        }
+        roomRepository.saveAll(changedRooms.values());
+    }
+
+    /**
+     * Finds the earliest starts within a window at which an interrogation could be scheduled.
+     * A start is feasible if neither the officer nor the detainee has an overlapping interrogation
+     * and some available interrogation room is free for the whole duration. Suggestions do not
+     * overlap each other and start on slot boundaries of the room calendars.
+     * <p>
+     * The search jumps from conflict to conflict instead of probing every slot: a busy officer or
+     * detainee moves the candidate to the end of the clashing interrogation, a busy room calendar to
+     * the first free slot of any room. The rooms are queued by their earliest free start, and only
+     * those whose start the search has passed are looked up again, so a step costs a lookup in the
+     * repository's schedules and a few bitmap operations for the rooms it passes, not for every room.
+     *
+     * @param officerId The ID of the officer conducting the interrogation
+     * @param detaineeId The ID of the detainee to interrogate
+     * @param from The earliest start
+     * @param until The time by which the interrogation must be over
+     * @param duration The length of the interrogation
+     * @param limit The maximum number of suggestions
+     * @return The feasible starts in ascending order, empty if none fits into the window
+     * @throws IllegalArgumentException If the officer is not found, or duration or limit are not positive
+     * @throws IllegalStateException If the officer does not have sufficient rank
+     */
+    public List<LocalDateTime> suggestSlots(UUID officerId, UUID detaineeId, LocalDateTime from,
+                                            LocalDateTime until, Duration duration, int limit) {
+        if (duration.isZero() || duration.isNegative()) {
+            throw new IllegalArgumentException("Duration must be positive.");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Number of suggestions must be positive.");
         }
 
-        // Book the room and create the interrogation
-        Room room = availableRooms.get(0);
-        room.book();
-        roomRepository.save(room);
+        Officer officer = officerRepository.findById(officerId)
+                .orElseThrow(() -> new IllegalArgumentException("Officer not found"));
+        if (officer.getRank().compareTo(MINIMUM_RANK_FOR_INTERROGATION) < 0) {
+            throw new IllegalStateException("Officer does not have sufficient rank for interrogation");
+        }
 
-        Interrogation interrogation = new Interrogation(
-                officer,
-                request.getDetainee(),
-                room,
-                request.getScheduledTime());
+        LocalDateTime latestStart = until.minus(duration);
+        List<LocalDateTime> suggestions = new ArrayList<>();
 
-        interrogationRepository.save(interrogation);
+        // The rooms keyed by their earliest free start, which stays valid until the search passes it
+        PriorityQueue<Map.Entry<LocalDateTime, Room>> roomStarts = new PriorityQueue<>(Map.Entry.comparingByKey());
+        for (Room room : roomRepository.findAvailableByType(RoomType.INTERROGATION)) {
+            offerFirstFree(roomStarts, room, from, duration, latestStart);
+        }
 
-        return interrogation;
+        LocalDateTime start = from;
+        while (suggestions.size() < limit && !start.isAfter(latestStart)) {
+            LocalDateTime end = start.plus(duration);
+
+            // Skip past the interrogations the officer or detainee already has at that time
+            LocalDateTime busyUntil = latestEnd(
+                    interrogationRepository.findOverlappingByOfficerId(officerId, start, end),
+                    interrogationRepository.findOverlappingByDetaineeId(detaineeId, start, end));
+            if (busyUntil != null) {
+                start = busyUntil;
+                continue;
+            }
+
+            // Find the earliest start at which any room is free, refreshing only the rooms the search has passed
+            while (!roomStarts.isEmpty() && roomStarts.peek().getKey().isBefore(start)) {
+                offerFirstFree(roomStarts, roomStarts.poll().getValue(), start, duration, latestStart);
+            }
+            if (roomStarts.isEmpty()) {
+                break;
+            }
+            LocalDateTime roomStart = roomStarts.peek().getKey();
+
+            if (roomStart.equals(start)) {
+                suggestions.add(start);
+                start = end;
+            } else {
+                start = roomStart;
+            }
+        }
+        return suggestions;
+    }
+
+    /**
+     * Queues a room under its earliest free start at or after a time, or drops it if it has none
+     * within the window. As no calendar changes during the search, a room queued under a start that
+     * the search has not passed yet is still free first at that start.
+     */
+    private static void offerFirstFree(PriorityQueue<Map.Entry<LocalDateTime, Room>> roomStarts, Room room,
+                                       LocalDateTime from, Duration duration, LocalDateTime latestStart) {
+        LocalDateTime free = room.getCalendar().findFirstFree(from, duration, latestStart);
+        if (free != null) {
+            roomStarts.add(Map.entry(free, room));
+        }
+    }
+
+    private static LocalDateTime latestEnd(List<Interrogation> officerClashes, List<Interrogation> detaineeClashes) {
+        LocalDateTime latest = null;
+        for (List<Interrogation> clashes : List.of(officerClashes, detaineeClashes)) {
+            for (Interrogation interrogation : clashes) {
+                if (latest == null || interrogation.getEndsAt().isAfter(latest)) {
+                    latest = interrogation.getEndsAt();
+                }
+            }
+        }
+        return latest;
     }
-}
\ No newline at end of file
+}
@@ -6,14 +6,20 @@ import de.dhbw.repositories.OfficerRepository;
 import de.dhbw.repositories.RoomRepository;
 import de.dhbw.valueobjects.RoomType;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Domain service handling operations related to meetings with informants or other personnel.
  * This is a simplified version assuming a Meeting entity exists in your domain.
+ * <p>
+ * Scheduling and cancelling span several repository calls. The service serializes them on its
+ * own monitor, so two concurrent requests cannot both pass the officer's schedule check before
+ * either meeting is saved.
  */
 public class MeetingService {
     private final RoomRepository roomRepository;
@@ -32,49 +38,85 @@ public class MeetingService {
     }
 
     /**
-     * Schedules a meeting with an informant.
+     * Schedules a meeting with an informant for the default duration.
      *
      * @param officerId The ID of the officer hosting the meeting
      * @param informantName The name of the informant
      * @param scheduledTime The time when the meeting should take place
      * @return The scheduled meeting
      * @throws IllegalArgumentException If officer not found
-     * @throws IllegalStateException If no meeting rooms are available
+     * @throws IllegalStateException If the officer is busy or no meeting rooms are available
      */
     public Meeting scheduleMeeting(
             UUID officerId,
             String informantName,
             LocalDateTime scheduledTime) {
+        return scheduleMeeting(officerId, informantName, scheduledTime, Meeting.DEFAULT_DURATION);
+    }
+
+    /**
+     * Schedules a meeting with an informant.
+     * The officer must not have another meeting overlapping the requested time, and the time slots
+     * are reserved in a meeting room that is free then. Meetings are scheduled one at a time, so two
+     * meetings of the same officer cannot both pass the overlap check.
+     *
+     * @param officerId The ID of the officer hosting the meeting
+     * @param informantName The name of the informant
+     * @param scheduledTime The time when the meeting should take place
+     * @param duration The length of the meeting
+     * @return The scheduled meeting
+     * @throws IllegalArgumentException If officer not found
+     * @throws IllegalStateException If the officer is busy or no meeting rooms are available
+     */
+    public synchronized Meeting scheduleMeeting(
+            UUID officerId,
+            String informantName,
+            LocalDateTime scheduledTime,
+            Duration duration) {
 
         // Find the officer
         Officer officer = officerRepository.findById(officerId)
                 .orElseThrow(() -> new IllegalArgumentException("Officer not found"));
 
-        // Find an available meeting room
-        List<Room> availableRooms = roomRepository.findAvailableByType(RoomType.MEETING);
-        if (availableRooms.isEmpty()) {
-            throw new IllegalStateException("No meeting rooms available");
-        }
-
-        // Check if the officer is already scheduled for another meeting
-        List<Meeting> officerMeetings = meetingRepository.findByOfficerId(officerId);
-
-        boolean isOfficerAvailable = officerMeetings.stream()
-                .noneMatch(m -> m.getScheduledAt().equals(scheduledTime));
+        LocalDateTime end = scheduledTime.plus(duration);
 
-        if (!isOfficerAvailable) {
+        // Check if the officer is already busy with another meeting at that time
+        if (meetingRepository.existsOverlappingByOfficerId(officerId, scheduledTime, end)) {
             throw new IllegalStateException("Officer is already scheduled for another meeting");
         }
 
-        // Book the room and create the meeting
-        Room room = availableRooms.get(0);
-        room.book();
-        roomRepository.save(room);
+        // Reserve the time slots in a meeting room that is free at that time
+        Room room = roomRepository.reserve(RoomType.MEETING, scheduledTime, end)
+                .orElseThrow(() -> new IllegalStateException("No meeting rooms available"));
 
-        Meeting meeting = new Meeting(officer, informantName, room, scheduledTime);
-        meetingRepository.save(meeting);
+        // Create the meeting, freeing the slots again if it cannot be saved
+        try {
+            Meeting meeting = new Meeting(officer, informantName, room, scheduledTime, duration);
+            meetingRepository.save(meeting);
 
-        return meeting;
+            return meeting;
+        } catch (RuntimeException e) {
+            room.getCalendar().release(scheduledTime, end);
+            roomRepository.save(room);
+            throw e;
+        }
+    }
+
+    /**
+     * Reserves the slots of all meetings that are not over yet in the calendars of their rooms.
+     * Rooms stored before their calendars were persisted start with empty calendars, so this is run
+     * at startup; only rooms whose calendars changed are saved, and rooms that no longer exist are skipped.
+     */
+    public synchronized void restoreRoomReservations() {
+        Map<UUID, Room> changedRooms = new LinkedHashMap<>();
+        for (Meeting meeting : meetingRepository.findEndingAfter(LocalDateTime.now())) {
+            // Reserve in the stored room, a deleted room must not be saved again
+            Room room = roomRepository.findById(meeting.getRoom().getId()).orElse(null);
+            if (room != null && room.getCalendar().reserve(meeting.getScheduledAt(), meeting.getEndsAt())) {
+                changedRooms.put(room.getId(), room);
+            }
+        }
+        roomRepository.saveAll(changedRooms.values());
     }
 
     /**
@@ -83,13 +125,13 @@ public class MeetingService {
      * @param meetingId The ID of the meeting to cancel
      * @throws IllegalArgumentException If meeting not found
      */
-    public void cancelMeeting(UUID meetingId) {
+    public synchronized void cancelMeeting(UUID meetingId) {
         Meeting meeting = meetingRepository.findById(meetingId)
                 .orElseThrow(() -> new IllegalArgumentException("Meeting not found"));
 
-        // Release the room
+        // Free the room's time slots
         Room room = meeting.getRoom();
-        room.release();
+        room.getCalendar().release(meeting.getScheduledAt(), meeting.getEndsAt());
         roomRepository.save(room);
 
         // Delete the meeting
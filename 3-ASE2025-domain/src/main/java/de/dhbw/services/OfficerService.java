@@ -31,6 +31,17 @@ public class OfficerService {
         return officer;
     }
 
+    /**
+     * Registers several new officers with a single repository write.
+     *
+     * @param officers The new officers
+     * @return The registered officers
+     */
+    public List<Officer> registerOfficers(List<Officer> officers) {
+        officerRepository.saveAll(officers);
+        return officers;
+    }
+
     /**
      * Promotes an officer to a higher rank.
      *
@@ -80,8 +91,6 @@ public class OfficerService {
      * @return List of officers with the specified minimum rank
      */
     public List<Officer> findOfficersWithMinimumRank(Rank minimumRank) {
-        return officerRepository.findAll().stream()
-                .filter(officer -> officer.getRank().compareTo(minimumRank) >= 0)
-                .toList();
+        return officerRepository.findByMinimumRank(minimumRank);
     }
 }
\ No newline at end of file
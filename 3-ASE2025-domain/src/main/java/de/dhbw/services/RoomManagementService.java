@@ -2,16 +2,20 @@ package de.dhbw.services;
 
 import de.dhbw.aggregates.Room;
 import de.dhbw.repositories.RoomRepository;
+import de.dhbw.valueobjects.PageRequest;
 import de.dhbw.valueobjects.RoomType;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Domain service handling operations related to room management.
  */
 public class RoomManagementService {
+    private static final int MAX_BOOKING_ATTEMPTS = 16;
+
     private final RoomRepository roomRepository;
 
     public RoomManagementService(RoomRepository roomRepository) {
@@ -32,6 +36,11 @@ public class RoomManagementService {
 
     /**
      * Books a room for use, making it unavailable.
+     * The room is claimed with a compare-and-set on its version instead of a lock, so concurrent
+     * callers never book the same room twice. If the room was booked and released again between
+     * reading and claiming it, or its booking was superseded by a later change before it was saved,
+     * the booking is retried with the new version. The booking goes through the repository, which
+     * saves it and keeps track of the available rooms.
      *
      * @param roomId The ID of the room to book
      * @return The booked room
@@ -39,16 +48,30 @@ public class RoomManagementService {
      * @throws IllegalStateException If room is already booked
      */
     public Room bookRoom(UUID roomId) {
-        Room room = roomRepository.findById(roomId)
-                .orElseThrow(() -> new IllegalArgumentException("Room not found"));
-
-        if (!room.isAvailable()) {
-            throw new IllegalStateException("Room is already booked");
+        for (int attempt = 0; attempt < MAX_BOOKING_ATTEMPTS; attempt++) {
+            Room room = roomRepository.findById(roomId)
+                    .orElseThrow(() -> new IllegalArgumentException("Room not found"));
+            if (roomRepository.book(room, room.getVersion())) {
+                return room;
+            }
+            // Retry if the room changed in the meantime but is available again
+            if (!room.isAvailable()) {
+                throw new IllegalStateException("Room is already booked");
+            }
         }
+        throw new IllegalStateException("Room is changing too often, please try again");
+    }
 
-        room.book();
-        roomRepository.save(room);
-        return room;
+    /**
+     * Books any available room of a type, making it unavailable.
+     *
+     * @param type The type of room to book
+     * @return The booked room
+     * @throws IllegalStateException If no room of the type is available
+     */
+    public Room bookAvailableRoom(RoomType type) {
+        return roomRepository.allocate(type)
+                .orElseThrow(() -> new IllegalStateException("No " + type + " rooms available"));
     }
 
     /**
@@ -62,8 +85,7 @@ public class RoomManagementService {
         Room room = roomRepository.findById(roomId)
                 .orElseThrow(() -> new IllegalArgumentException("Room not found"));
 
-        room.release();
-        roomRepository.save(room);
+        roomRepository.release(room);
         return room;
     }
 
@@ -99,15 +121,31 @@ public class RoomManagementService {
         return roomRepository.findAll();
     }
 
+    /**
+     * Streams all rooms registered in the system without copying them.
+     *
+     * @return Stream of all rooms
+     */
+    public Stream<Room> streamAllRooms() {
+        return roomRepository.streamAll();
+    }
+
+    /**
+     * Retrieves one page of the rooms registered in the system.
+     *
+     * @param page The page to retrieve
+     * @return List of the rooms on the page
+     */
+    public List<Room> getRoomPage(PageRequest page) {
+        return roomRepository.findPage(page);
+    }
+
     /**
      * Retrieves all booked (unavailable) rooms in the system.
      *
      * @return List of all booked rooms
      */
     public List<Room> getAllBookedRooms() {
-        // Filter all rooms to find only those that are not available
-        return roomRepository.findAll().stream()
-                .filter(room -> !room.isAvailable())
-                .collect(java.util.stream.Collectors.toList());
+        return roomRepository.findBooked();
     }
 }
\ No newline at end of file
@@ -0,0 +1,194 @@
+package de.dhbw.valueobjects;
+
+import de.dhbw.aggregates.Interrogation;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Immutable value object describing which interrogations a query should return.
+ * Every filter is optional and all given filters have to match. New criteria are derived
+ * with the {@code with...} methods, e.g.
+ * {@code InterrogationCriteria.any().withOfficer(officerId).scheduledFrom(start)}.
+ */
+public final class InterrogationCriteria {
+    private static final InterrogationCriteria ANY =
+            new InterrogationCriteria(null, null, null, null, null, null, null);
+
+    private final UUID officerId;
+    private final UUID detaineeId;
+    private final UUID roomId;
+    private final RoomType roomType;
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final String crime;
+
+    private InterrogationCriteria(UUID officerId, UUID detaineeId, UUID roomId, RoomType roomType,
+                                  LocalDateTime from, LocalDateTime to, String crime) {
+        this.officerId = officerId;
+        this.detaineeId = detaineeId;
+        this.roomId = roomId;
+        this.roomType = roomType;
+        this.from = from;
+        this.to = to;
+        this.crime = crime;
+    }
+
+    /**
+     * Gets criteria matching every interrogation.
+     *
+     * @return Criteria without filters
+     */
+    public static InterrogationCriteria any() {
+        return ANY;
+    }
+
+    public InterrogationCriteria withOfficer(UUID officerId) {
+        return new InterrogationCriteria(Objects.requireNonNull(officerId, "Officer ID must not be null"),
+                detaineeId, roomId, roomType, from, to, crime);
+    }
+
+    public InterrogationCriteria withDetainee(UUID detaineeId) {
+        return new InterrogationCriteria(officerId, Objects.requireNonNull(detaineeId, "Detainee ID must not be null"),
+                roomId, roomType, from, to, crime);
+    }
+
+    public InterrogationCriteria withRoom(UUID roomId) {
+        return new InterrogationCriteria(officerId, detaineeId, Objects.requireNonNull(roomId, "Room ID must not be null"),
+                roomType, from, to, crime);
+    }
+
+    public InterrogationCriteria withRoomType(RoomType roomType) {
+        return new InterrogationCriteria(officerId, detaineeId, roomId,
+                Objects.requireNonNull(roomType, "Room type must not be null"), from, to, crime);
+    }
+
+    /**
+     * Restricts the criteria to interrogations scheduled at or after a time.
+     *
+     * @param from The inclusive lower bound
+     * @return The derived criteria
+     */
+    public InterrogationCriteria scheduledFrom(LocalDateTime from) {
+        return new InterrogationCriteria(officerId, detaineeId, roomId, roomType,
+                Objects.requireNonNull(from, "Start time must not be null"), to, crime);
+    }
+
+    /**
+     * Restricts the criteria to interrogations scheduled before a time.
+     *
+     * @param to The exclusive upper bound
+     * @return The derived criteria
+     */
+    public InterrogationCriteria scheduledBefore(LocalDateTime to) {
+        return new InterrogationCriteria(officerId, detaineeId, roomId, roomType, from,
+                Objects.requireNonNull(to, "End time must not be null"), crime);
+    }
+
+    /**
+     * Restricts the criteria to interrogations of detainees charged with a crime, ignoring case.
+     *
+     * @param crime The crime
+     * @return The derived criteria
+     */
+    public InterrogationCriteria withCrime(String crime) {
+        return new InterrogationCriteria(officerId, detaineeId, roomId, roomType, from, to,
+                Objects.requireNonNull(crime, "Crime must not be null"));
+    }
+
+    public Optional<UUID> getOfficerId() {
+        return Optional.ofNullable(officerId);
+    }
+
+    public Optional<UUID> getDetaineeId() {
+        return Optional.ofNullable(detaineeId);
+    }
+
+    public Optional<UUID> getRoomId() {
+        return Optional.ofNullable(roomId);
+    }
+
+    public Optional<RoomType> getRoomType() {
+        return Optional.ofNullable(roomType);
+    }
+
+    public Optional<LocalDateTime> getFrom() {
+        return Optional.ofNullable(from);
+    }
+
+    public Optional<LocalDateTime> getTo() {
+        return Optional.ofNullable(to);
+    }
+
+    public Optional<String> getCrime() {
+        return Optional.ofNullable(crime);
+    }
+
+    /**
+     * Checks whether the criteria restrict the scheduled time.
+     *
+     * @return true if a start or end time is given
+     */
+    public boolean hasTimeRange() {
+        return from != null || to != null;
+    }
+
+    /**
+     * Checks whether an interrogation satisfies all filters.
+     *
+     * @param interrogation The interrogation to check
+     * @return true if the interrogation matches
+     */
+    public boolean matches(Interrogation interrogation) {
+        if (officerId != null && !officerId.equals(interrogation.getOfficer().getId())) {
+            return false;
+        }
+        if (detaineeId != null && !detaineeId.equals(interrogation.getDetainee().getId())) {
+            return false;
+        }
+        if (roomId != null && !roomId.equals(interrogation.getRoom().getId())) {
+            return false;
+        }
+        if (roomType != null && roomType != interrogation.getRoom().getType()) {
+            return false;
+        }
+        if (from != null && interrogation.getScheduledAt().isBefore(from)) {
+            return false;
+        }
+        if (to != null && !interrogation.getScheduledAt().isBefore(to)) {
+            return false;
+        }
+        return crime == null || crime.equalsIgnoreCase(interrogation.getDetainee().getCrime());
+    }
+
+    @Override
+    public String toString() {
+        List<String> filters = new ArrayList<>();
+        if (officerId != null) {
+            filters.add("officer = " + officerId);
+        }
+        if (detaineeId != null) {
+            filters.add("detainee = " + detaineeId);
+        }
+        if (roomId != null) {
+            filters.add("room = " + roomId);
+        }
+        if (roomType != null) {
+            filters.add("room type = " + roomType);
+        }
+        if (from != null) {
+            filters.add("scheduled >= " + from);
+        }
+        if (to != null) {
+            filters.add("scheduled < " + to);
+        }
+        if (crime != null) {
+            filters.add("crime = " + crime);
+        }
+        return filters.isEmpty() ? "all interrogations" : String.join(" and ", filters);
+    }
+}
@@ -1,7 +1,9 @@
 package de.dhbw.valueobjects;
 
 import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import java.util.UUID;
@@ -13,11 +15,17 @@ public final class InterrogationRequest {
     private final UUID officerId;
     private final Detainee detainee;
     private final LocalDateTime scheduledTime;
+    private final Duration duration;
 
     public InterrogationRequest(UUID officerId, Detainee detainee, LocalDateTime scheduledTime) {
+        this(officerId, detainee, scheduledTime, Interrogation.DEFAULT_DURATION);
+    }
+
+    public InterrogationRequest(UUID officerId, Detainee detainee, LocalDateTime scheduledTime, Duration duration) {
         this.officerId = Objects.requireNonNull(officerId, "Officer ID must not be null");
         this.detainee = Objects.requireNonNull(detainee, "Detainee must not be null");
         this.scheduledTime = Objects.requireNonNull(scheduledTime, "Scheduled time must not be null");
+        this.duration = Objects.requireNonNull(duration, "Duration must not be null");
     }
 
     public UUID getOfficerId() {
@@ -31,4 +39,17 @@ public final class InterrogationRequest {
     public LocalDateTime getScheduledTime() {
         return scheduledTime;
     }
-}
\ No newline at end of file
+
+    public Duration getDuration() {
+        return duration;
+    }
+
+    /**
+     * Gets the end of the requested interrogation.
+     *
+     * @return The exclusive end time
+     */
+    public LocalDateTime getEndTime() {
+        return scheduledTime.plus(duration);
+    }
+}
@@ -0,0 +1,47 @@
+package de.dhbw.valueobjects;
+
+/**
+ * Immutable value object describing one page of a listing.
+ * Pages are numbered from 1.
+ */
+public final class PageRequest {
+    private final int page;
+    private final int limit;
+
+    public PageRequest(int page, int limit) {
+        if (page < 1) {
+            throw new IllegalArgumentException("Page must be at least 1");
+        }
+        if (limit < 1) {
+            throw new IllegalArgumentException("Limit must be at least 1");
+        }
+        this.page = page;
+        this.limit = limit;
+    }
+
+    public int getPage() {
+        return page;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    /**
+     * Gets the number of entries before this page.
+     *
+     * @return The offset of the first entry on this page
+     */
+    public long getOffset() {
+        return (long) (page - 1) * limit;
+    }
+
+    /**
+     * Gets the page following this one with the same limit.
+     *
+     * @return The next page
+     */
+    public PageRequest next() {
+        return new PageRequest(page + 1, limit);
+    }
+}
@@ -0,0 +1,61 @@
+package de.dhbw.aggregates;
+
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the Interrogation aggregate.
+ * Tests the duration and overlap handling of the Interrogation class.
+ */
+public class InterrogationTest {
+    private static final LocalDateTime START = LocalDateTime.of(2025, 3, 10, 9, 0);
+
+    private Interrogation createInterrogation(Duration duration) {
+        return new Interrogation(
+                new Officer("John Doe", new Rank("Sergeant", 3)),
+                new Detainee("Jane Roe", "Theft"),
+                new Room(RoomType.INTERROGATION),
+                START,
+                duration);
+    }
+
+    @Test
+    public void interrogationWithoutDurationShouldUseDefault() {
+        // Arrange & Act
+        Interrogation interrogation = new Interrogation(
+                new Officer("John Doe", new Rank("Sergeant", 3)),
+                new Detainee("Jane Roe", "Theft"),
+                new Room(RoomType.INTERROGATION),
+                START);
+
+        // Assert
+        assertEquals(Interrogation.DEFAULT_DURATION, interrogation.getDuration(), "Interrogation should have the default duration");
+        assertEquals(START.plus(Interrogation.DEFAULT_DURATION), interrogation.getEndsAt(), "Interrogation should end after its duration");
+    }
+
+    @Test
+    public void interrogationShouldOverlapOnlySpansSharingTime() {
+        // Arrange
+        Interrogation interrogation = createInterrogation(Duration.ofMinutes(90));
+
+        // Act & Assert
+        assertTrue(interrogation.overlaps(START.plusMinutes(60), START.plusMinutes(120)), "A span starting during the session should overlap");
+        assertTrue(interrogation.overlaps(START.minusMinutes(30), START.plusMinutes(1)), "A span ending during the session should overlap");
+        assertTrue(interrogation.overlaps(START.plusMinutes(10), START.plusMinutes(20)), "A span inside the session should overlap");
+        assertFalse(interrogation.overlaps(START.plusMinutes(90), START.plusMinutes(120)), "A span starting at the end should not overlap");
+        assertFalse(interrogation.overlaps(START.minusMinutes(60), START), "A span ending at the start should not overlap");
+    }
+
+    @Test
+    public void interrogationShouldRejectNonPositiveDuration() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> createInterrogation(Duration.ZERO));
+        assertThrows(IllegalArgumentException.class, () -> createInterrogation(Duration.ofMinutes(-15)));
+    }
+}
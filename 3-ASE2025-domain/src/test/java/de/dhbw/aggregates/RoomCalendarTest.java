@@ -0,0 +1,119 @@
+package de.dhbw.aggregates;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RoomCalendar of a room.
+ * Tests reserving, releasing, pruning and searching time slots.
+ */
+public class RoomCalendarTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 10, 0);
+
+    @Test
+    public void reservedSpanShouldBlockOnlyOverlappingSpans() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+
+        // Act
+        boolean reserved = calendar.tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Assert
+        assertTrue(reserved, "A free span should be reserved");
+        assertFalse(calendar.tryReserve(MORNING.plusMinutes(30), MORNING.plusMinutes(90)), "An overlapping span should be rejected");
+        assertTrue(calendar.isFree(MORNING.plusHours(1), MORNING.plusHours(2)), "A span starting at the end should be free");
+        assertTrue(calendar.isFree(MORNING.minusHours(1), MORNING), "A span ending at the start should be free");
+    }
+
+    @Test
+    public void spanShouldReserveEveryTouchedSlot() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+
+        // Act
+        calendar.tryReserve(MORNING.plusMinutes(5), MORNING.plusMinutes(50));
+
+        // Assert
+        assertFalse(calendar.isFree(MORNING, MORNING.plusMinutes(5)), "The slot containing the start should be reserved");
+        assertFalse(calendar.isFree(MORNING.plusMinutes(55), MORNING.plusMinutes(60)), "The slot containing the end should be reserved");
+        assertTrue(calendar.isFree(MORNING.plusHours(1), MORNING.plusMinutes(75)), "The following slot should be free");
+    }
+
+    @Test
+    public void releasedSpanShouldBeFreeAgain() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+        calendar.tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act
+        calendar.release(MORNING, MORNING.plusHours(1));
+
+        // Assert
+        assertTrue(calendar.isFree(MORNING, MORNING.plusHours(1)), "Released slots should be free");
+        assertTrue(calendar.getDays().isEmpty(), "A day without reservations should not be stored");
+    }
+
+    @Test
+    public void spanAcrossMidnightShouldReserveBothDays() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+        LocalDateTime midnight = MORNING.toLocalDate().plusDays(1).atStartOfDay();
+
+        // Act
+        calendar.tryReserve(midnight.minusMinutes(30), midnight.plusMinutes(30));
+
+        // Assert
+        assertFalse(calendar.isFree(midnight.minusMinutes(15), midnight), "The evening slot should be reserved");
+        assertFalse(calendar.isFree(midnight, midnight.plusMinutes(15)), "The night slot should be reserved");
+        assertEquals(2, calendar.getDays().size(), "Both days should hold reservations");
+    }
+
+    @Test
+    public void reserveShouldReportWhetherAnySlotWasFree() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+        calendar.tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act & Assert
+        assertFalse(calendar.reserve(MORNING, MORNING.plusMinutes(30)), "Reserving taken slots should change nothing");
+        assertTrue(calendar.reserve(MORNING.plusMinutes(30), MORNING.plusMinutes(90)), "A partly free span should be reserved");
+        assertFalse(calendar.isFree(MORNING.plusHours(1), MORNING.plusMinutes(90)));
+    }
+
+    @Test
+    public void pruneBeforeShouldDropOnlyEarlierDays() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+        calendar.tryReserve(MORNING.minusDays(1), MORNING.minusDays(1).plusHours(1));
+        calendar.tryReserve(MORNING, MORNING.plusHours(1));
+
+        // Act
+        calendar.pruneBefore(MORNING.toLocalDate());
+
+        // Assert
+        assertEquals(1, calendar.getDays().size());
+        assertTrue(calendar.getDays().containsKey(MORNING.toLocalDate()), "The given day should be kept");
+    }
+
+    @Test
+    public void findFirstFreeShouldSkipReservedSlots() {
+        // Arrange
+        RoomCalendar calendar = new RoomCalendar();
+        calendar.tryReserve(MORNING, MORNING.plusHours(1));
+        calendar.tryReserve(MORNING.plusMinutes(90), MORNING.plusHours(2));
+
+        // Act
+        LocalDateTime shortSession = calendar.findFirstFree(MORNING, Duration.ofMinutes(30), MORNING.plusHours(8));
+        LocalDateTime longSession = calendar.findFirstFree(MORNING, Duration.ofHours(1), MORNING.plusHours(8));
+        LocalDateTime none = calendar.findFirstFree(MORNING, Duration.ofHours(1), MORNING.plusMinutes(30));
+
+        // Assert
+        assertEquals(MORNING.plusHours(1), shortSession, "A short session should fit into the gap");
+        assertEquals(MORNING.plusHours(2), longSession, "A long session should start after the last reservation");
+        assertNull(none, "No start should be found before the limit");
+    }
+}
@@ -3,6 +3,10 @@ package de.dhbw.aggregates;
 import de.dhbw.valueobjects.RoomType;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -59,4 +63,83 @@ public class RoomTest {
         // Assert
         assertTrue(room.isAvailable(), "Room should be available after release");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void restoredRoomShouldKeepIdAndAvailability() {
+        // Arrange
+        UUID id = UUID.randomUUID();
+
+        // Act
+        Room room = Room.restore(id, RoomType.MEETING, false);
+
+        // Assert
+        assertEquals(id, room.getId(), "Restored room should keep its persisted ID");
+        assertEquals(RoomType.MEETING, room.getType(), "Restored room should have the correct type");
+        assertFalse(room.isAvailable(), "Restored room should keep its booking state");
+    }
+
+    @Test
+    public void bookingAndReleasingShouldIncreaseVersion() {
+        // Arrange
+        Room room = new Room(RoomType.INTERROGATION);
+        long initialVersion = room.getVersion();
+
+        // Act
+        room.book();
+        long bookedVersion = room.getVersion();
+        room.release();
+
+        // Assert
+        assertEquals(initialVersion + 1, bookedVersion, "Booking should increase the version");
+        assertEquals(initialVersion + 2, room.getVersion(), "Releasing should increase the version");
+    }
+
+    @Test
+    public void tryBookWithStaleVersionShouldFail() {
+        // Arrange
+        Room room = new Room(RoomType.INTERROGATION);
+        long staleVersion = room.getVersion();
+        room.book();
+        room.release();
+
+        // Act
+        boolean booked = room.tryBook(staleVersion);
+
+        // Assert
+        assertFalse(booked, "Booking with a stale version should fail");
+        assertTrue(room.isAvailable(), "A failed booking should not change the room");
+        assertTrue(room.tryBook(room.getVersion()), "Booking with the current version should succeed");
+    }
+
+    @Test
+    public void concurrentBookingShouldSucceedOnlyOnce() throws InterruptedException {
+        // Arrange
+        Room room = new Room(RoomType.MEETING);
+        int threads = 8;
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+        AtomicInteger successes = new AtomicInteger();
+
+        // Act
+        for (int i = 0; i < threads; i++) {
+            new Thread(() -> {
+                try {
+                    start.await();
+                    if (room.tryBook()) {
+                        successes.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            }).start();
+        }
+        start.countDown();
+        done.await();
+
+        // Assert
+        assertEquals(1, successes.get(), "Exactly one thread should book the room");
+        assertFalse(room.isAvailable(), "The room should be booked");
+    }
+}
@@ -2,6 +2,7 @@ package de.dhbw.services;
 
 import de.dhbw.aggregates.Detainee;
 import de.dhbw.repositories.DetaineeRepository;
+import de.dhbw.valueobjects.PageRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -98,6 +99,49 @@ public class DetaineeServiceTest {
         assertTrue(result.contains(detainee2));
     }
 
+    @Test
+    public void getDetaineePageShouldReturnOnlyRequestedPage() {
+        // Arrange
+        for (int i = 0; i < 5; i++) {
+            Detainee detainee = new Detainee("Detainee " + i, "Theft");
+            detaineeRepository.addDetainee(detainee.getId(), detainee);
+        }
+        List<Detainee> all = detaineeService.getAllDetainees();
+
+        // Act
+        List<Detainee> secondPage = detaineeService.getDetaineePage(new PageRequest(2, 2));
+        List<Detainee> lastPage = detaineeService.getDetaineePage(new PageRequest(3, 2));
+        List<Detainee> beyondLastPage = detaineeService.getDetaineePage(new PageRequest(4, 2));
+
+        // Assert
+        assertEquals(all.subList(2, 4), secondPage);
+        assertEquals(all.subList(4, 5), lastPage);
+        assertTrue(beyondLastPage.isEmpty());
+    }
+
+    @Test
+    public void registerDetaineesShouldSaveAllDetainees() {
+        // Arrange
+        List<Detainee> batch = Arrays.asList(
+                new Detainee("John Doe", "Theft"),
+                new Detainee("Jane Roe", "Fraud"));
+
+        // Act
+        List<Detainee> result = detaineeService.registerDetainees(batch);
+
+        // Assert
+        assertEquals(batch, result);
+        assertEquals(2, detaineeRepository.findAll().size());
+        assertTrue(detaineeRepository.findById(batch.get(1).getId()).isPresent());
+    }
+
+    @Test
+    public void pageRequestShouldRejectNonPositiveValues() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class, () -> new PageRequest(0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new PageRequest(1, 0));
+    }
+
     /**
      * Fake implementation of DetaineeRepository for testing purposes.
      */
@@ -0,0 +1,391 @@
+package de.dhbw.services;
+
+import de.dhbw.aggregates.Detainee;
+import de.dhbw.aggregates.Interrogation;
+import de.dhbw.aggregates.Officer;
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.InterrogationRepository;
+import de.dhbw.repositories.OfficerRepository;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.valueobjects.InterrogationRequest;
+import de.dhbw.valueobjects.Rank;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the InterrogationService.
+ * Tests scheduling, restoring room reservations and slot suggestions with fake repository implementations.
+ */
+public class InterrogationServiceTest {
+    private static final LocalDateTime MORNING = LocalDateTime.of(2025, 3, 10, 8, 0);
+    private static final Duration HOUR = Duration.ofHours(1);
+
+    private FakeRoomRepository roomRepository;
+    private FakeOfficerRepository officerRepository;
+    private FakeInterrogationRepository interrogationRepository;
+    private InterrogationService interrogationService;
+    private Officer officer;
+    private Detainee detainee;
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+        roomRepository = new FakeRoomRepository();
+        officerRepository = new FakeOfficerRepository();
+        interrogationRepository = new FakeInterrogationRepository();
+        interrogationService = new InterrogationService(roomRepository, officerRepository, interrogationRepository);
+
+        officer = new Officer("John Doe", new Rank("Sergeant", 3));
+        officerRepository.save(officer);
+        detainee = new Detainee("Jane Roe", "Theft");
+        room = new Room(RoomType.INTERROGATION);
+        roomRepository.save(room);
+    }
+
+    @Test
+    public void suggestSlotsShouldSkipInterrogationsOfOfficerAndDetainee() {
+        // Arrange
+        Officer otherOfficer = new Officer("Max Mustermann", new Rank("Inspector", 4));
+        officerRepository.save(otherOfficer);
+        Room otherRoom = new Room(RoomType.INTERROGATION);
+        roomRepository.save(otherRoom);
+        interrogationService.scheduleInterrogation(new InterrogationRequest(officer.getId(), new Detainee("A", "Fraud"), MORNING));
+        interrogationService.scheduleInterrogation(new InterrogationRequest(otherOfficer.getId(), detainee, MORNING.plusHours(1)));
+
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(5), HOUR, 3);
+
+        // Assert
+        assertEquals(List.of(MORNING.plusHours(2), MORNING.plusHours(3), MORNING.plusHours(4)), slots,
+                "Slots should start after the officer's and the detainee's interrogations");
+    }
+
+    @Test
+    public void suggestSlotsShouldSkipReservedRoomSlots() {
+        // Arrange
+        room.getCalendar().tryReserve(MORNING, MORNING.plusMinutes(90));
+
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(4), HOUR, 3);
+
+        // Assert
+        assertEquals(List.of(MORNING.plusMinutes(90), MORNING.plusMinutes(150)), slots,
+                "Slots should start once the room is free and fit into the window");
+    }
+
+    @Test
+    public void suggestSlotsShouldUseOtherRoomWhileOneIsReserved() {
+        // Arrange
+        Room otherRoom = new Room(RoomType.INTERROGATION);
+        roomRepository.save(otherRoom);
+        room.getCalendar().tryReserve(MORNING, MORNING.plusHours(3));
+        otherRoom.getCalendar().tryReserve(MORNING.plusHours(1), MORNING.plusHours(2));
+
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(4), HOUR, 3);
+
+        // Assert
+        assertEquals(List.of(MORNING, MORNING.plusHours(2), MORNING.plusHours(3)), slots,
+                "Slots should switch to whichever room is free first");
+    }
+
+    @Test
+    public void suggestSlotsShouldUseWholeWindowAroundTouchingInterrogations() {
+        // Arrange
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room,
+                MORNING.minusHours(1), HOUR));
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room,
+                MORNING.plusHours(2), HOUR));
+
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(2), HOUR, 3);
+
+        // Assert
+        assertEquals(List.of(MORNING, MORNING.plusHours(1)), slots,
+                "Interrogations ending at the start or beginning at the end of the window should not block it");
+    }
+
+    @Test
+    public void suggestSlotsShouldFindNothingWhenNoRoomIsFree() {
+        // Arrange
+        room.getCalendar().tryReserve(MORNING, MORNING.plusHours(8));
+
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(8), HOUR, 3);
+
+        // Assert
+        assertTrue(slots.isEmpty());
+    }
+
+    @Test
+    public void suggestSlotsShouldFindNothingWhenWindowIsShorterThanDuration() {
+        // Act
+        List<LocalDateTime> slots = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusMinutes(45), HOUR, 3);
+
+        // Assert
+        assertTrue(slots.isEmpty());
+    }
+
+    @Test
+    public void suggestedSlotShouldBeSchedulable() {
+        // Arrange
+        interrogationService.scheduleInterrogation(new InterrogationRequest(officer.getId(), detainee, MORNING.plusMinutes(10)));
+        LocalDateTime slot = interrogationService.suggestSlots(
+                officer.getId(), detainee.getId(), MORNING, MORNING.plusHours(8), HOUR, 1).get(0);
+
+        // Act
+        Interrogation interrogation = interrogationService.scheduleInterrogation(
+                new InterrogationRequest(officer.getId(), detainee, slot));
+
+        // Assert
+        assertEquals(MORNING.plusMinutes(75), slot, "The slot should start at the next slot boundary after the interrogation");
+        assertEquals(slot, interrogation.getScheduledAt());
+    }
+
+    @Test
+    public void scheduleInterrogationShouldRejectBusyDetainee() {
+        // Arrange
+        Officer otherOfficer = new Officer("Max Mustermann", new Rank("Inspector", 4));
+        officerRepository.save(otherOfficer);
+        roomRepository.save(new Room(RoomType.INTERROGATION));
+        interrogationService.scheduleInterrogation(new InterrogationRequest(otherOfficer.getId(), detainee, MORNING));
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () ->
+                interrogationService.scheduleInterrogation(
+                        new InterrogationRequest(officer.getId(), detainee, MORNING.plusMinutes(30))));
+        assertEquals("Detainee is already scheduled for another interrogation", exception.getMessage());
+    }
+
+    @Test
+    public void failedSaveShouldReleaseReservedSlots() {
+        // Arrange
+        interrogationRepository.failSaves = true;
+
+        // Act
+        assertThrows(IllegalStateException.class, () ->
+                interrogationService.scheduleInterrogation(new InterrogationRequest(officer.getId(), detainee, MORNING)));
+
+        // Assert
+        assertTrue(room.getCalendar().isFree(MORNING, MORNING.plus(HOUR)), "The slots should be free again");
+    }
+
+    @Test
+    public void restoreRoomReservationsShouldReserveUpcomingInterrogations() {
+        // Arrange
+        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+        LocalDateTime yesterday = LocalDate.now().minusDays(1).atTime(10, 0);
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room, tomorrow, HOUR));
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room, yesterday, HOUR));
+
+        // Act
+        interrogationService.restoreRoomReservations();
+
+        // Assert
+        assertFalse(room.getCalendar().isFree(tomorrow, tomorrow.plus(HOUR)), "Upcoming interrogations should be reserved");
+        assertTrue(room.getCalendar().isFree(yesterday, yesterday.plus(HOUR)), "Past interrogations should not be reserved");
+    }
+
+    @Test
+    public void restoreRoomReservationsShouldReserveRunningInterrogations() {
+        // Arrange
+        LocalDateTime started = LocalDateTime.now().minusMinutes(30);
+        LocalDateTime ends = started.plusHours(2);
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room, started, Duration.ofHours(2)));
+
+        // Act
+        interrogationService.restoreRoomReservations();
+
+        // Assert
+        assertFalse(room.getCalendar().isFree(ends.minusMinutes(30), ends), "The rest of a running interrogation should be reserved");
+    }
+
+    @Test
+    public void restoreRoomReservationsShouldReserveInStoredRoom() {
+        // Arrange
+        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+        Room stale = Room.restore(room.getId(), RoomType.INTERROGATION, true);
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, stale, tomorrow, HOUR));
+
+        // Act
+        interrogationService.restoreRoomReservations();
+
+        // Assert
+        assertFalse(room.getCalendar().isFree(tomorrow, tomorrow.plus(HOUR)), "The stored room should get the reservation");
+        assertSame(room, roomRepository.findById(room.getId()).orElseThrow(), "The stale copy should not replace the stored room");
+    }
+
+    @Test
+    public void restoreRoomReservationsShouldSkipDeletedRooms() {
+        // Arrange
+        LocalDateTime tomorrow = LocalDate.now().plusDays(1).atTime(10, 0);
+        interrogationRepository.save(Interrogation.restore(UUID.randomUUID(), officer, detainee, room, tomorrow, HOUR));
+        roomRepository.deleteById(room.getId());
+
+        // Act
+        interrogationService.restoreRoomReservations();
+
+        // Assert
+        assertFalse(roomRepository.existsById(room.getId()), "A deleted room should not be saved again");
+    }
+
+    // Fake repository implementations for testing
+    private static class FakeRoomRepository implements RoomRepository {
+        private final Map<UUID, Room> rooms = new HashMap<>();
+
+        @Override
+        public void save(Room room) {
+            rooms.put(room.getId(), room);
+        }
+
+        @Override
+        public Optional<Room> findById(UUID id) {
+            return Optional.ofNullable(rooms.get(id));
+        }
+
+        @Override
+        public List<Room> findAll() {
+            return new ArrayList<>(rooms.values());
+        }
+
+        @Override
+        public List<Room> findByType(RoomType type) {
+            return rooms.values().stream()
+                    .filter(room -> room.getType() == type)
+                    .toList();
+        }
+
+        @Override
+        public List<Room> findAvailable() {
+            return rooms.values().stream()
+                    .filter(Room::isAvailable)
+                    .toList();
+        }
+
+        @Override
+        public List<Room> findAvailableByType(RoomType type) {
+            return rooms.values().stream()
+                    .filter(room -> room.getType() == type && room.isAvailable())
+                    .toList();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            rooms.remove(id);
+        }
+    }
+
+    private static class FakeOfficerRepository implements OfficerRepository {
+        private final Map<UUID, Officer> officers = new HashMap<>();
+
+        @Override
+        public void save(Officer officer) {
+            officers.put(officer.getId(), officer);
+        }
+
+        @Override
+        public Optional<Officer> findById(UUID id) {
+            return Optional.ofNullable(officers.get(id));
+        }
+
+        @Override
+        public List<Officer> findAll() {
+            return new ArrayList<>(officers.values());
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            officers.remove(id);
+        }
+    }
+
+    private static class FakeInterrogationRepository implements InterrogationRepository {
+        private final Map<UUID, Interrogation> interrogations = new HashMap<>();
+        private boolean failSaves;
+
+        @Override
+        public void save(Interrogation interrogation) {
+            if (failSaves) {
+                throw new IllegalStateException("Storage unavailable");
+            }
+            interrogations.put(interrogation.getId(), interrogation);
+        }
+
+        @Override
+        public Optional<Interrogation> findById(UUID id) {
+            return Optional.ofNullable(interrogations.get(id));
+        }
+
+        @Override
+        public List<Interrogation> findAll() {
+            return new ArrayList<>(interrogations.values());
+        }
+
+        @Override
+        public List<Interrogation> findByOfficerId(UUID officerId) {
+            return interrogations.values().stream()
+                    .filter(interrogation -> interrogation.getOfficer().getId().equals(officerId))
+                    .toList();
+        }
+
+        @Override
+        public List<Interrogation> findByDetaineeId(UUID detaineeId) {
+            return interrogations.values().stream()
+                    .filter(interrogation -> interrogation.getDetainee().getId().equals(detaineeId))
+                    .toList();
+        }
+
+        @Override
+        public List<Interrogation> findByRoomId(UUID roomId) {
+            return interrogations.values().stream()
+                    .filter(interrogation -> interrogation.getRoom().getId().equals(roomId))
+                    .toList();
+        }
+
+        @Override
+        public List<Interrogation> findByDate(LocalDate date) {
+            return interrogations.values().stream()
+                    .filter(interrogation -> interrogation.getScheduledAt().toLocalDate().equals(date))
+                    .toList();
+        }
+
+        @Override
+        public List<Interrogation> findUpcoming() {
+            return interrogations.values().stream()
+                    .filter(interrogation -> interrogation.getScheduledAt().isAfter(LocalDateTime.now()))
+                    .toList();
+        }
+
+        @Override
+        public List<Interrogation> findByTimeRange(LocalDateTime start, LocalDateTime end) {
+            return interrogations.values().stream()
+                    .filter(interrogation -> !interrogation.getScheduledAt().isBefore(start)
+                            && interrogation.getScheduledAt().isBefore(end))
+                    .toList();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            interrogations.remove(id);
+        }
+    }
+}
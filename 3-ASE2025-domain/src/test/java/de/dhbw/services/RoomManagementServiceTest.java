@@ -0,0 +1,188 @@
+package de.dhbw.services;
+
+import de.dhbw.aggregates.Room;
+import de.dhbw.repositories.RoomRepository;
+import de.dhbw.valueobjects.RoomType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Test class for the RoomManagementService.
+ * Tests booking and releasing rooms with a fake repository implementation, including changes
+ * made by other callers between claiming a room and saving it.
+ */
+public class RoomManagementServiceTest {
+    private FakeRoomRepository roomRepository;
+    private RoomManagementService roomManagementService;
+    private Room room;
+
+    @BeforeEach
+    public void setUp() {
+        roomRepository = new FakeRoomRepository();
+        roomManagementService = new RoomManagementService(roomRepository);
+        room = roomManagementService.createRoom(RoomType.MEETING);
+    }
+
+    @Test
+    public void bookRoomShouldBookAndSaveRoom() {
+        // Act
+        Room booked = roomManagementService.bookRoom(room.getId());
+
+        // Assert
+        assertFalse(booked.isAvailable());
+        assertEquals(1L, roomRepository.savedVersion(room.getId()), "The booking should have been saved");
+    }
+
+    @Test
+    public void bookRoomShouldRejectBookedRoom() {
+        // Arrange
+        roomManagementService.bookRoom(room.getId());
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class, () -> roomManagementService.bookRoom(room.getId()));
+        assertEquals("Room is already booked", exception.getMessage());
+    }
+
+    @Test
+    public void bookingSupersededBeforeSaveShouldBeRetried() {
+        // Arrange
+        // Another caller releases the room after this booking claimed it, but before it is saved
+        roomRepository.beforeSave = stored -> {
+            roomRepository.beforeSave = null;
+            stored.release();
+            roomRepository.save(stored);
+        };
+
+        // Act
+        Room booked = roomManagementService.bookRoom(room.getId());
+
+        // Assert
+        assertFalse(booked.isAvailable(), "The retried booking should hold");
+        assertEquals(3L, roomRepository.savedVersion(room.getId()), "The retried booking should have been saved");
+    }
+
+    @Test
+    public void bookingSupersededByOtherBookingShouldBeRejected() {
+        // Arrange
+        // Another caller releases and books the room again before this booking is saved
+        roomRepository.beforeSave = stored -> {
+            roomRepository.beforeSave = null;
+            stored.release();
+            stored.tryBook();
+            roomRepository.save(stored);
+        };
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class, () -> roomManagementService.bookRoom(room.getId()));
+        assertEquals(3L, roomRepository.savedVersion(room.getId()), "Only the other booking should have been saved");
+    }
+
+    @Test
+    public void bookAvailableRoomShouldBookAndSaveRoomOfType() {
+        // Arrange
+        roomManagementService.createRoom(RoomType.INTERROGATION);
+
+        // Act
+        Room booked = roomManagementService.bookAvailableRoom(RoomType.MEETING);
+
+        // Assert
+        assertEquals(room.getId(), booked.getId());
+        assertFalse(booked.isAvailable());
+        assertEquals(1L, roomRepository.savedVersion(room.getId()), "The booking should have been saved");
+    }
+
+    @Test
+    public void bookAvailableRoomShouldFailWhenAllRoomsOfTypeAreBooked() {
+        // Arrange
+        roomManagementService.bookRoom(room.getId());
+
+        // Act & Assert
+        Exception exception = assertThrows(IllegalStateException.class,
+                () -> roomManagementService.bookAvailableRoom(RoomType.MEETING));
+        assertEquals("No MEETING rooms available", exception.getMessage());
+    }
+
+    @Test
+    public void releaseRoomShouldReleaseAndSaveRoom() {
+        // Arrange
+        roomManagementService.bookRoom(room.getId());
+
+        // Act
+        Room released = roomManagementService.releaseRoom(room.getId());
+
+        // Assert
+        assertTrue(released.isAvailable());
+        assertEquals(2L, roomRepository.savedVersion(room.getId()), "The release should have been saved");
+    }
+
+    // Fake repository implementation for testing
+    private static class FakeRoomRepository implements RoomRepository {
+        private final Map<UUID, Room> rooms = new HashMap<>();
+        private final Map<UUID, Long> savedVersions = new HashMap<>();
+        private Consumer<Room> beforeSave;
+
+        @Override
+        public void save(Room room) {
+            rooms.put(room.getId(), room);
+            savedVersions.put(room.getId(), room.getVersion());
+        }
+
+        @Override
+        public boolean saveIfUnchanged(Room room, long version) {
+            if (beforeSave != null) {
+                beforeSave.accept(room);
+            }
+            return RoomRepository.super.saveIfUnchanged(room, version);
+        }
+
+        private long savedVersion(UUID id) {
+            return savedVersions.get(id);
+        }
+
+        @Override
+        public Optional<Room> findById(UUID id) {
+            return Optional.ofNullable(rooms.get(id));
+        }
+
+        @Override
+        public List<Room> findAll() {
+            return new ArrayList<>(rooms.values());
+        }
+
+        @Override
+        public List<Room> findByType(RoomType type) {
+            return rooms.values().stream()
+                    .filter(room -> room.getType() == type)
+                    .toList();
+        }
+
+        @Override
+        public List<Room> findAvailable() {
+            return rooms.values().stream()
+                    .filter(Room::isAvailable)
+                    .toList();
+        }
+
+        @Override
+        public List<Room> findAvailableByType(RoomType type) {
+            return rooms.values().stream()
+                    .filter(room -> room.getType() == type && room.isAvailable())
+                    .toList();
+        }
+
+        @Override
+        public void deleteById(UUID id) {
+            rooms.remove(id);
+        }
+    }
+}